@@ -2,6 +2,7 @@ package com.myproject.config;
 
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.net.URI;
 import java.util.Properties;
 
 public class ConfigReader {
@@ -15,15 +16,45 @@ public class ConfigReader {
         }
     }
 
+    /**
+     * Value for key; a JVM system property of the same name (-Dkey=value) wins over config.properties.
+     */
     public static String get(String key) {
-        return prop.getProperty(key);
+        String override = System.getProperty(key);
+        return override != null ? override : prop.getProperty(key);
     }
 
     public static int getInt(String key, int defaultVal) {
         try {
-            return Integer.parseInt(prop.getProperty(key));
+            return Integer.parseInt(get(key).trim());
         } catch (Exception e) {
             return defaultVal;
         }
     }
+
+    /**
+     * Absolute URL of a site path ("/view_cart") under base.url, so page objects follow whatever site the run
+     * targets (the live site, or the local stand-in that overrides base.url at suite start).
+     */
+    public static String url(String path) {
+        String base = get("base.url");
+        base = base == null ? "" : base.trim();
+        while (base.endsWith("/")) base = base.substring(0, base.length() - 1);
+        if (path == null || path.isEmpty()) return base;
+        return base + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    /**
+     * host[:port] of base.url without a leading "www.", for "did we land on the site" URL checks.
+     */
+    public static String siteHost() {
+        try {
+            URI uri = URI.create(url("/"));
+            String host = uri.getHost().toLowerCase();
+            if (host.startsWith("www.")) host = host.substring(4);
+            return uri.getPort() > 0 ? host + ":" + uri.getPort() : host;
+        } catch (Exception e) {
+            return "";
+        }
+    }
 }
@@ -0,0 +1,307 @@
+package com.myproject.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Waits that resolve inside the browser (executeAsyncScript) on the event that ends them - scrollend,
+ * transitionend/animationend, DOM mutations, animation frames - instead of sleeping a fixed time and hoping the UI
+ * has settled. Each wait is one round trip and returns as soon as the condition holds, or false after its timeout.
+ *
+ * Timeouts are capped below the session's script timeout (30s by default) so the browser always answers first.
+ */
+public final class AsyncWaits {
+
+    private static final long MAX_TIMEOUT_MS = 25_000;
+    private static final int NAVIGATION_RETRIES = 3;
+
+    // shared by every wait: arguments[0] is the timeout, the callback is last; body defines check() and may call
+    // finish(...) itself. check() runs on the wait's events and on every animation frame until it returns true.
+    private static final String PRELUDE =
+            "var timeoutMs = arguments[0], args = arguments, done = arguments[arguments.length - 1];\n" +
+            "var start = performance.now(), over = false, cleanups = [];\n" +
+            "function finish(ok, reason) {\n" +
+            "  if (over) return; over = true;\n" +
+            "  cleanups.forEach(function (c) { try { c(); } catch (e) {} });\n" +
+            "  done({ok: ok, ms: Math.round(performance.now() - start), reason: reason || ''});\n" +
+            "}\n" +
+            "function on(target, type) {\n" +
+            "  var h = function () { if (check()) finish(true, type); };\n" +
+            "  target.addEventListener(type, h, true);\n" +
+            "  cleanups.push(function () { target.removeEventListener(type, h, true); });\n" +
+            "}\n" +
+            "function observe(root) {\n" +
+            "  var mo = new MutationObserver(function () { if (check()) finish(true, 'mutation'); });\n" +
+            "  mo.observe(root, {attributes: true, childList: true, subtree: true, characterData: true});\n" +
+            "  cleanups.push(function () { mo.disconnect(); });\n" +
+            "}\n" +
+            "function frames() { if (over) return; if (check()) finish(true, 'frame'); else requestAnimationFrame(frames); }\n" +
+            "function find(t) {\n" +
+            "  if (t && t.nodeType) return [t];\n" +
+            "  if (t.css) return Array.from(document.querySelectorAll(t.css));\n" +
+            "  var r = document.evaluate(t.xpath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), a = [];\n" +
+            "  for (var i = 0; i < r.snapshotLength; i++) a.push(r.snapshotItem(i));\n" +
+            "  return a;\n" +
+            "}\n" +
+            "function shown(el) {\n" +
+            "  if (!el.isConnected || el.getClientRects().length === 0) return false;\n" +
+            "  var s = getComputedStyle(el);\n" +
+            "  return s.display !== 'none' && s.visibility !== 'hidden' && parseFloat(s.opacity) > 0;\n" +
+            "}\n" +
+            // looping animations (spinners, carousels) never finish; only finite ones are waited for
+            "function finite(el) {\n" +
+            "  return !el.getAnimations ? [] : el.getAnimations({subtree: true}).filter(function (a) {\n" +
+            "    return !a.effect || a.effect.getComputedTiming().endTime !== Infinity; });\n" +
+            "}\n" +
+            "function settled(el) {\n" +
+            "  return finite(el).every(function (a) { return a.playState !== 'running'; });\n" +
+            "}\n" +
+            "var check = function () { return false; };\n" +
+            "cleanups.push((function (t) { return function () { clearTimeout(t); }; })(setTimeout(function () { finish(false, 'timeout'); }, timeoutMs)));\n";
+
+    // arguments[1]: target; visible and no running transition/animation
+    private static final String VISIBLE =
+            "check = function () { return find(args[1]).some(function (el) { return shown(el) && settled(el); }); };\n" +
+            "if (check()) { finish(true, 'immediate'); } else {\n" +
+            "  observe(document.documentElement); on(document, 'transitionend'); on(document, 'animationend');\n" +
+            "  requestAnimationFrame(frames);\n" +
+            "}";
+
+    private static final String HIDDEN =
+            "check = function () { return !find(args[1]).some(shown); };\n" +
+            "if (check()) { finish(true, 'immediate'); } else {\n" +
+            "  observe(document.documentElement); on(document, 'transitionend'); on(document, 'animationend');\n" +
+            "  requestAnimationFrame(frames);\n" +
+            "}";
+
+    // arguments[1]: element; resolves once it has left the document
+    private static final String DETACHED =
+            "var el = args[1];\n" +
+            "check = function () { return !el.isConnected; };\n" +
+            "if (check()) { finish(true, 'immediate'); } else { observe(document.documentElement); }";
+
+    // arguments[1]: y (-1 = bottom); resolves on scrollend, or once the position has not moved for 3 frames
+    // (scrollend does not fire when there was nothing to scroll)
+    private static final String SCROLL_TO =
+            "var lastY = -1, still = 0;\n" +
+            "check = function () {\n" +
+            "  if (window.scrollY === lastY) still++; else { still = 0; lastY = window.scrollY; }\n" +
+            "  return still >= 3;\n" +
+            "};\n" +
+            "var se = function () { finish(true, 'scrollend'); };\n" +
+            "window.addEventListener('scrollend', se);\n" +
+            "cleanups.push(function () { window.removeEventListener('scrollend', se); });\n" +
+            "window.scrollTo(0, args[1] < 0 ? document.documentElement.scrollHeight : args[1]);\n" +
+            "requestAnimationFrame(frames);";
+
+    // arguments[1]: tolerance in px; arguments[2]: element to click first (or null)
+    private static final String SCROLL_TOP =
+            "check = function () { return window.scrollY <= args[1]; };\n" +
+            "on(window, 'scroll'); on(window, 'scrollend');\n" +
+            "if (args[2]) args[2].click();\n" +
+            "requestAnimationFrame(frames);";
+
+    // arguments[1]: element; two frames for style changes (e.g. :hover) to start transitions, then all of them done
+    private static final String TRANSITIONS =
+            "var el = args[1];\n" +
+            "requestAnimationFrame(function () { requestAnimationFrame(function () {\n" +
+            "  var anims = finite(el);\n" +
+            "  Promise.all(anims.map(function (a) { return a.finished.catch(function () {}); }))\n" +
+            "    .then(function () { finish(true, anims.length ? 'transitionend' : 'no-transition'); });\n" +
+            "}); });";
+
+    // arguments[1]: lowercase texts; arguments[2]: targets; arguments[3]: lowercase URL parts.
+    // Resolves with "text:<t>", "selector:<index>" or "url:<part>" for the first one present. Texts are looked for
+    // in the whole document once, then only in the subtrees the MutationObserver reports as changed.
+    private static final String APPEAR =
+            "var texts = args[1], targets = args[2], urls = args[3];\n" +
+            "function textIn(node) {\n" +
+            "  if (!node) return null;\n" +
+            "  var t = (node.textContent || '').toLowerCase();\n" +
+            "  for (var i = 0; i < texts.length; i++) if (t.indexOf(texts[i]) >= 0) return 'text:' + texts[i];\n" +
+            "  return null;\n" +
+            "}\n" +
+            "function cheap() {\n" +
+            "  var u = location.href.toLowerCase();\n" +
+            "  for (var i = 0; i < urls.length; i++) if (u.indexOf(urls[i]) >= 0) return 'url:' + urls[i];\n" +
+            "  for (var j = 0; j < targets.length; j++) if (find(targets[j]).some(shown)) return 'selector:' + j;\n" +
+            "  return null;\n" +
+            "}\n" +
+            "function react(nodes) {\n" +
+            "  if (over) return;\n" +
+            "  var hit = cheap();\n" +
+            "  for (var i = 0; !hit && i < nodes.length; i++) hit = textIn(nodes[i]);\n" +
+            "  if (hit) finish(true, hit);\n" +
+            "}\n" +
+            "var first = cheap() || textIn(document.body);\n" +
+            "if (first) { finish(true, first); } else {\n" +
+            "  var mo = new MutationObserver(function (ms) {\n" +
+            // attribute changes only affect visibility; their text was already there
+            "    react(ms.map(function (m) { return m.type === 'characterData' ? m.target.parentNode : (m.type === 'childList' ? m.target : null); }));\n" +
+            "  });\n" +
+            "  mo.observe(document.documentElement, {attributes: true, childList: true, subtree: true, characterData: true});\n" +
+            "  cleanups.push(function () { mo.disconnect(); });\n" +
+            // fade-ins end without a DOM change
+            "  var te = function () { react([]); };\n" +
+            "  document.addEventListener('transitionend', te, true);\n" +
+            "  cleanups.push(function () { document.removeEventListener('transitionend', te, true); });\n" +
+            "}";
+
+    private static final LongAdder waits = new LongAdder();
+    private static final LongAdder timeouts = new LongAdder();
+    private static final LongAdder waitedMs = new LongAdder();
+
+    private AsyncWaits() { /* utility */ }
+
+    /**
+     * Until an element matching {@code locator} (CSS or XPath) is visible and done animating, e.g. a modal that
+     * fades in.
+     */
+    public static boolean visible(WebDriver driver, By locator, Duration timeout) {
+        return run(driver, VISIBLE, timeout, target(locator));
+    }
+
+    /**
+     * Until no element matching {@code locator} is visible, e.g. a modal that was closed.
+     */
+    public static boolean hidden(WebDriver driver, By locator, Duration timeout) {
+        return run(driver, HIDDEN, timeout, target(locator));
+    }
+
+    /**
+     * Until {@code element} has been removed from the document (e.g. a deleted cart row).
+     */
+    public static boolean detached(WebDriver driver, WebElement element, Duration timeout) {
+        return run(driver, DETACHED, timeout, element);
+    }
+
+    /**
+     * Scroll to the bottom of the page and wait for the scroll to end.
+     */
+    public static boolean scrollToBottom(WebDriver driver, Duration timeout) {
+        return run(driver, SCROLL_TO, timeout, -1);
+    }
+
+    /**
+     * Click {@code button} (in the page, so no scroll event is missed) and wait until the page is within
+     * {@code tolerancePx} of the top. With a null button it only waits.
+     */
+    public static boolean clickAndAwaitTop(WebDriver driver, WebElement button, int tolerancePx, Duration timeout) {
+        return run(driver, SCROLL_TOP, timeout, tolerancePx, button);
+    }
+
+    /**
+     * Until the CSS transitions/animations running in {@code element}'s subtree have finished, e.g. after a hover.
+     */
+    public static boolean transitionsDone(WebDriver driver, WebElement element, Duration timeout) {
+        return run(driver, TRANSITIONS, timeout, element);
+    }
+
+    /**
+     * Until any of {@code texts} (case-insensitive) is in the page or any of {@code locators} (CSS/XPath) is visible,
+     * in one async round trip: a MutationObserver in the page reacts to each change instead of re-reading the page.
+     * Returns what appeared ("text: ...", the locator, or "url: ..."), or null on timeout.
+     */
+    public static String firstToAppear(WebDriver driver, Duration timeout, List<String> texts, List<By> locators) {
+        return firstToAppear(driver, timeout, texts, locators, List.of());
+    }
+
+    /**
+     * As above, also resolving when the URL contains any of {@code urlParts}. A wait cut short by a navigation
+     * (e.g. a form submit) continues on the new page.
+     */
+    public static String firstToAppear(WebDriver driver, Duration timeout, List<String> texts, List<By> locators,
+                                       List<String> urlParts) {
+        List<Object> targets = new ArrayList<>();
+        for (By by : locators) targets.add(target(by));
+        String hit = call(driver, APPEAR, timeout, true, lower(texts), targets, lower(urlParts));
+        if (hit == null) return null;
+        if (hit.startsWith("selector:")) return locators.get(Integer.parseInt(hit.substring("selector:".length()))).toString();
+        return hit.replaceFirst(":", ": ");
+    }
+
+    private static List<String> lower(List<String> values) {
+        List<String> out = new ArrayList<>();
+        for (String v : values) out.add(v.toLowerCase(Locale.ROOT));
+        return out;
+    }
+
+    private static Object target(By locator) {
+        String text = locator.toString();
+        if (text.startsWith("By.cssSelector: ")) return Map.of("css", text.substring("By.cssSelector: ".length()));
+        if (text.startsWith("By.xpath: ")) return Map.of("xpath", text.substring("By.xpath: ".length()));
+        throw new IllegalArgumentException("AsyncWaits supports CSS and XPath locators, got " + locator);
+    }
+
+    private static boolean run(WebDriver driver, String body, Duration timeout, Object... args) {
+        return call(driver, body, timeout, false, args) != null;
+    }
+
+    /**
+     * The reason the wait resolved with, or null on timeout. With {@code acrossNavigation} a wait interrupted by
+     * the page unloading is started again on the next document (args must not hold elements then).
+     */
+    private static String call(WebDriver driver, String body, Duration timeout, boolean acrossNavigation, Object... args) {
+        long start = System.currentTimeMillis();
+        long deadline = start + Math.min(timeout.toMillis(), MAX_TIMEOUT_MS);
+        waits.increment();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                Object[] all = new Object[args.length + 1];
+                all[0] = Math.max(0, deadline - System.currentTimeMillis());
+                System.arraycopy(args, 0, all, 1, args.length);
+                try {
+                    Object raw = ((JavascriptExecutor) driver).executeAsyncScript(PRELUDE + body, all);
+                    if (raw instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) raw).get("ok"))) {
+                        return String.valueOf(((Map<?, ?>) raw).get("reason"));
+                    }
+                    timeouts.increment();
+                    return null;
+                } catch (ScriptTimeoutException e) {
+                    timeouts.increment();
+                    return null;
+                } catch (WebDriverException e) {
+                    // a bad locator or script is a bug in the test, not "never appeared"
+                    if (!isNavigation(e)) throw e;
+                    if (!acrossNavigation || attempt >= NAVIGATION_RETRIES || System.currentTimeMillis() >= deadline) {
+                        timeouts.increment();
+                        return null;
+                    }
+                }
+            }
+        } finally {
+            waitedMs.add(System.currentTimeMillis() - start);
+        }
+    }
+
+    // the document the script ran in went away: navigation, unload, closed window, or elements of the old page
+    private static boolean isNavigation(WebDriverException e) {
+        if (e instanceof StaleElementReferenceException || e instanceof NoSuchWindowException) return true;
+        String message = String.valueOf(e.getMessage()).toLowerCase(Locale.ROOT);
+        return message.contains("unload") || message.contains("navigat") || message.contains("detached")
+                || message.contains("context was destroyed") || message.contains("target closed");
+    }
+
+    /**
+     * Wait count and time, for RunSummary.
+     */
+    public static String stats() {
+        long n = waits.sum();
+        if (n == 0) return "";
+        return "waits=" + n + ", timeouts=" + timeouts.sum() + ", total=" + waitedMs.sum() + "ms, avg="
+                + (waitedMs.sum() / n) + "ms";
+    }
+}
@@ -0,0 +1,154 @@
+package com.myproject.base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base for page objects that (re)open their page before each check.
+ *
+ * open(url) navigates only when the browser is not already showing an untouched copy of that URL. After every
+ * navigation a generation marker is stored in the page's window together with a MutationObserver that flags the
+ * page as modified on DOM changes, form input or scrolling. A later open(url) costs one script call when the
+ * marker is still there, unmodified and the URL matches; otherwise (another page, a reload, a changed page, an
+ * open alert) it navigates. open(url, true) always navigates.
+ *
+ * Navigations done and skipped are counted per page class and reported in the run summary.
+ */
+public abstract class BasePage {
+
+    private static final String MARK_SCRIPT =
+            "window.__pageGen = arguments[0]; window.__pageDirty = false;\n" +
+            "var dirty = function () { window.__pageDirty = true; };\n" +
+            // ad slots and scripts rewrite themselves constantly; they do not change what the checks look at
+            "var ignored = function (n) { var e = n.nodeType === 1 ? n : n.parentElement;\n" +
+            "  return !!(e && e.closest && e.closest('ins, iframe, script, [id^=google_ads], [id^=aswift]')); };\n" +
+            "new MutationObserver(function (ms) { for (var i = 0; i < ms.length; i++) if (!ignored(ms[i].target)) { dirty(); return; } })\n" +
+            "  .observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});\n" +
+            "['input', 'change', 'scroll', 'submit'].forEach(function (t) { window.addEventListener(t, dirty, true); });";
+    private static final String STATE_SCRIPT =
+            "return [location.href, window.__pageGen || null, window.__pageDirty !== false];";
+
+    // generation last marked in each browser; a marker from anywhere else is not trusted
+    private static final Map<WebDriver, String> generations = new WeakHashMap<>();
+    private static final Map<String, AtomicLong[]> counts = new ConcurrentHashMap<>();
+
+    protected final WebDriver driver;
+    protected final WebDriverWait wait;
+
+    protected BasePage(WebDriver driver) {
+        this.driver = driver;
+        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+    }
+
+    /**
+     * Show {@code url}, reusing the current page when it is an unmodified copy. Returns true if it navigated.
+     */
+    protected boolean open(String url) {
+        return open(url, false);
+    }
+
+    protected boolean open(String url, boolean forceReload) {
+        AtomicLong[] c = counts.computeIfAbsent(getClass().getSimpleName(),
+                k -> new AtomicLong[]{new AtomicLong(), new AtomicLong()});
+        if (!forceReload && isCurrent(url)) {
+            c[1].incrementAndGet();
+            return false;
+        }
+        driver.get(url);
+        waitForReady();
+        mark();
+        c[0].incrementAndGet();
+        return true;
+    }
+
+    /**
+     * What "ready" means for this page; pages add their own selector or phases.
+     */
+    protected PageReadiness.Spec readiness() {
+        return PageReadiness.Spec.defaults();
+    }
+
+    /**
+     * Wait for the page per readiness(); failures are not thrown (the following checks will report them).
+     */
+    protected PageReadiness.Result waitForReady() {
+        return waitForReady(readiness());
+    }
+
+    /**
+     * Wait per {@code spec}, e.g. after navigating or clicking away to a page other than this one.
+     */
+    protected PageReadiness.Result waitForReady(PageReadiness.Spec spec) {
+        return PageReadiness.await(driver, spec, getClass().getSimpleName());
+    }
+
+    private boolean isCurrent(String url) {
+        String expected;
+        synchronized (generations) {
+            expected = generations.get(driver);
+        }
+        if (expected == null) return false;
+        try {
+            Object raw = ((JavascriptExecutor) driver).executeScript(STATE_SCRIPT);
+            if (!(raw instanceof List) || ((List<?>) raw).size() != 3) return false;
+            List<?> state = (List<?>) raw;
+            return sameUrl(String.valueOf(state.get(0)), url)
+                    && expected.equals(state.get(1))
+                    && Boolean.FALSE.equals(state.get(2));
+        } catch (Exception e) {
+            // e.g. an alert is open: navigate and let the page deal with it
+            return false;
+        }
+    }
+
+    private void mark() {
+        String gen = UUID.randomUUID().toString();
+        try {
+            ((JavascriptExecutor) driver).executeScript(MARK_SCRIPT, gen);
+            synchronized (generations) {
+                generations.put(driver, gen);
+            }
+        } catch (Exception e) {
+            synchronized (generations) {
+                generations.remove(driver);
+            }
+        }
+    }
+
+    private static boolean sameUrl(String current, String target) {
+        return strip(current).equalsIgnoreCase(strip(target));
+    }
+
+    private static String strip(String url) {
+        int hash = url.indexOf('#');
+        String u = hash >= 0 ? url.substring(0, hash) : url;
+        return u.endsWith("/") ? u.substring(0, u.length() - 1) : u;
+    }
+
+    /**
+     * Navigations done vs skipped, per page class, for RunSummary.
+     */
+    public static String navigationStats() {
+        long done = 0, skipped = 0;
+        StringBuilder per = new StringBuilder();
+        for (Map.Entry<String, AtomicLong[]> e : new TreeMap<>(counts).entrySet()) {
+            long d = e.getValue()[0].get(), s = e.getValue()[1].get();
+            done += d;
+            skipped += s;
+            per.append(per.length() == 0 ? "; " : ", ").append(e.getKey()).append('=').append(d).append('/').append(s);
+        }
+        if (done + skipped == 0) return "";
+        return "navigated=" + done + ", skipped=" + skipped + " (" + Math.round(100.0 * skipped / (done + skipped))
+                + "% reused)" + per + " (navigated/skipped)";
+    }
+}
@@ -0,0 +1,48 @@
+package com.myproject.base;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+
+/**
+ * Base for test classes that work against a single page object.
+ *
+ * The driver comes from BaseTest (one pooled session per test method and thread) and the page object is
+ * created for each method on top of it, so classes are safe under parallel="classes" and parallel="methods".
+ * Subclasses build the page in createPage() and optionally navigate to it in openPage().
+ */
+public abstract class BasePageTest<P> extends BaseTest {
+
+    // instance-level: with parallel="methods" one test instance is shared by several threads
+    private final ThreadLocal<P> tlPage = new ThreadLocal<>();
+
+    /**
+     * Build the page object for the given driver.
+     */
+    protected abstract P createPage(WebDriver driver);
+
+    /**
+     * Navigate to the page before each test. Default: stay on the page BaseTest opened.
+     */
+    protected void openPage(P page) { }
+
+    // runs after BaseTest.setUp (superclass configuration methods run first)
+    @BeforeMethod(alwaysRun = true)
+    public void initPage() {
+        P p = createPage(getDriver());
+        tlPage.set(p);
+        openPage(p);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void clearPage() {
+        tlPage.remove();
+    }
+
+    /**
+     * Page object for the current thread's test method.
+     */
+    protected P page() {
+        return tlPage.get();
+    }
+}
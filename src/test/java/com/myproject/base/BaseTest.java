@@ -1,21 +1,78 @@
 package com.myproject.base;
 
 import com.myproject.config.ConfigReader;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.myproject.listeners.RunSummary;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
 import org.testng.annotations.*;
+import org.testng.xml.XmlSuite;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class BaseTest {
     // ThreadLocal WebDriver for thread-safe parallel execution
     private static final ThreadLocal<WebDriver> tlDriver = new ThreadLocal<>();
+    // pooled session backing tlDriver; returned to DriverPool in tearDown
+    private static final ThreadLocal<DriverPool.PooledSession> tlSession = new ThreadLocal<>();
+    private static final AtomicBoolean prewarmed = new AtomicBoolean();
+    // setUp wall time per test (driver ready + base URL loaded), reported per execution profile
+    private static final Queue<Long> setupMillis = new ConcurrentLinkedQueue<>();
+
+    /**
+     * site.mode=local: serve the embedded stand-in site and point base.url at it before any test navigates.
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void startLocalSite() {
+        if (LocalSite.startIfConfigured() != null) {
+            RunSummary.register("Local site", LocalSite::stats);
+        }
+    }
+
+    /**
+     * Start launching browsers in the background as soon as the suite starts, so setUp only has to take a
+     * ready session. The count follows the suite's parallelism (1 when not parallel), capped by the pool size;
+     * driver.pool.prewarm overrides it (0 disables).
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void prewarmDriverPool(ITestContext context) {
+        // inherited by every test class; only the first call per run does anything
+        if (!prewarmed.compareAndSet(false, true)) return;
+
+        String profile = ExecutionProfile.current().label();
+        RunSummary.register("Execution profile", () -> profile);
+        RunSummary.register("Driver pool", () -> DriverPool.get().stats());
+        RunSummary.register("Driver ready latency (" + profile + ")", () -> DriverPool.get().latencyStats());
+        RunSummary.register("Setup latency (" + profile + ")", BaseTest::setupLatencyStats);
+        RunSummary.register("Blocked third-party requests", RequestBlocker::summary);
+        RunSummary.register("Element lookups", ElementFinder::stats);
+        RunSummary.register("Fallback locator cache", SelectorCache::summary);
+        RunSummary.register("WebDriver commands per test", CommandCounter::summary);
+        RunSummary.register("Page navigations", BasePage::navigationStats);
+        RunSummary.register("Static DOM checks", StaticDom::stats);
+        RunSummary.register("Async UI waits", AsyncWaits::stats);
+        RunSummary.register("Page readiness", PageReadiness::summary);
+        RunSummary.register("HTTP link checks", HttpLinkChecker::stats);
+        RunSummary.register("HTTP cache (" + HttpReplayCache.mode() + ")", HttpReplayCache::summary);
+
+        String browser = context.getCurrentXmlTest().getParameter("browser");
+        if (browser == null || browser.trim().isEmpty()) browser = ConfigReader.get("browser");
+        if (browser == null || browser.trim().isEmpty()) browser = "chrome";
+
+        XmlSuite suite = context.getSuite().getXmlSuite();
+        int parallelism = suite.getParallel() != null && suite.getParallel().isParallel()
+                ? Math.max(1, suite.getThreadCount()) : 1;
+        int count = ConfigReader.getInt("driver.pool.prewarm", parallelism);
+        DriverPool.get().prewarm(browser.trim(), count);
+    }
 
     /**
      * Setup executed before each test method.
@@ -31,39 +88,16 @@ public class BaseTest {
         String configuredBrowser = ConfigReader.get("browser");
         String useBrowser = (browser == null || browser.trim().isEmpty()) ? configuredBrowser : browser;
 
-        WebDriver driver = null;
+        long started = System.currentTimeMillis();
+        DriverPool.PooledSession session = null;
         try {
-            if ("firefox".equalsIgnoreCase(useBrowser)) {
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver();
-            } else {
-                // default to chrome
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions options = new ChromeOptions();
-
-                // Hardening flags to reduce renderer/timeouts in CI or constrained environment
-                options.addArguments("--remote-allow-origins=*");
-                options.addArguments("--no-sandbox");
-                options.addArguments("--disable-dev-shm-usage");
-                options.addArguments("--disable-extensions");
-                options.addArguments("--disable-gpu");
-                // Use a safe page load strategy - KEEP AS NORMAL if you prefer full page load behavior,
-                // but NONE gives control to explicit waits (useful for flaky pages)
-                options.setPageLoadStrategy(PageLoadStrategy.NORMAL);
-
-                driver = new ChromeDriver(options);
-            }
+            session = DriverPool.get().acquire(useBrowser);
+            tlSession.set(session);
 
             // set driver early so TestListener can access it on config failure
-            tlDriver.set(driver);
+            tlDriver.set(session.getDriver());
 
-            // timeouts from config
             int implicit = ConfigReader.getInt("implicit.wait", 10);
-            int pageLoad = ConfigReader.getInt("page.load.timeout", 60); // increase default to 60s
-
-            getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(implicit));
-            getDriver().manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoad));
-            getDriver().manage().window().maximize();
 
             // open base URL with retry + explicit wait for a stable element (logo)
             String baseUrl = ConfigReader.get("base.url");
@@ -73,21 +107,30 @@ public class BaseTest {
                 WebDriverWait initialWait = new WebDriverWait(getDriver(), Duration.ofSeconds(Math.max(implicit, 15)));
                 initialWait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(".logo, .site-logo, .navbar-brand img")));
             }
+            setupMillis.add(System.currentTimeMillis() - started);
+            CommandCounter.start();
         } catch (Exception e) {
             // print useful debug and rethrow so TestNG marks config as failed (not swallowed)
             System.err.println("=== BaseTest.setUp FAILED: " + e.getMessage());
             e.printStackTrace();
-            // ensure driver is quit on failure if it was created
-            try {
-                if (driver != null) {
-                    driver.quit();
-                }
-            } catch (Exception ignored) { }
+            // a session that could not even load the home page is not worth keeping
+            DriverPool.get().invalidate(session);
+            tlSession.remove();
             tlDriver.remove();
             throw new RuntimeException("Failed to set up WebDriver", e);
         }
     }
 
+    private static String setupLatencyStats() {
+        List<Long> times = new ArrayList<>(setupMillis);
+        if (times.isEmpty()) return "";
+        Collections.sort(times);
+        long sum = 0;
+        for (long t : times) sum += t;
+        return "n=" + times.size() + ", avg=" + (sum / times.size()) + "ms, p50=" + times.get((times.size() - 1) / 2)
+                + "ms, p95=" + times.get((int) Math.ceil(times.size() * 0.95) - 1) + "ms";
+    }
+
     /**
      * Safe navigation with a single retry for TimeoutException to reduce flakiness.
      */
@@ -119,16 +162,30 @@ public class BaseTest {
     }
 
     /**
-     * Quit and cleanup the driver after each test method.
+     * Hand the driver back to the pool after each test method (it is reset, not quit).
      */
     @AfterMethod(alwaysRun = true)
-    public void tearDown() {
-        WebDriver driver = getDriver();
-        if (driver != null) {
-            try {
-                driver.quit();
-            } catch (Exception ignored) {}
-            tlDriver.remove();
+    public void tearDown(ITestResult result) {
+        if (tlDriver.get() != null && CommandCounter.enabled()) {
+            long commands = CommandCounter.record(result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName());
+            System.out.println("[BaseTest] WebDriver commands in " + result.getMethod().getMethodName() + ": " + commands);
+        }
+        DriverPool.PooledSession session = tlSession.get();
+        if (session != null) {
+            DriverPool.get().release(session);
+            tlSession.remove();
         }
+        tlDriver.remove();
+    }
+
+    /**
+     * Quit all pooled browsers once the suite is done.
+     */
+    @AfterSuite(alwaysRun = true)
+    public void shutdownDriverPool() {
+        DriverPool.get().shutdown();
+        HttpReplayCache.close();
+        SelectorCache.save();
+        LocalSite.stop();
     }
 }
@@ -0,0 +1,180 @@
+package com.myproject.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Checks a set of locators in one executeScript round trip. For each locator the browser reports whether it matches,
+ * whether the first visible match is displayed and enabled, and its bounding box.
+ *
+ * A "present and clickable" check via WebDriverWait + findElements + isDisplayed/isEnabled costs four to six
+ * commands per locator; a batch of any size costs one command per poll.
+ *
+ * Supported locators: cssSelector, xpath, id, name, className, tagName, linkText, partialLinkText. Link text is
+ * matched against the element's rendered text (innerText), which is what WebDriver compares as well.
+ */
+public final class BatchProbe {
+
+    private static final long POLL_MS = 100;
+
+    private static final String SCRIPT =
+            "var specs = arguments[0], out = {};\n" +
+            "function all(s) {\n" +
+            "  switch (s.using) {\n" +
+            "    case 'css': return Array.from(document.querySelectorAll(s.value));\n" +
+            "    case 'id': return Array.from(document.querySelectorAll('#' + CSS.escape(s.value)));\n" +
+            "    case 'name': return Array.from(document.querySelectorAll('[name=\"' + CSS.escape(s.value) + '\"]'));\n" +
+            "    case 'class': return Array.from(document.getElementsByClassName(s.value));\n" +
+            "    case 'tag': return Array.from(document.getElementsByTagName(s.value));\n" +
+            "    case 'link': return Array.from(document.querySelectorAll('a')).filter(function (a) { return a.innerText.trim() === s.value; });\n" +
+            "    case 'partial': return Array.from(document.querySelectorAll('a')).filter(function (a) { return a.innerText.indexOf(s.value) >= 0; });\n" +
+            "    case 'xpath':\n" +
+            "      var r = document.evaluate(s.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), a = [];\n" +
+            "      for (var i = 0; i < r.snapshotLength; i++) if (r.snapshotItem(i).nodeType === 1) a.push(r.snapshotItem(i));\n" +
+            "      return a;\n" +
+            "  }\n" +
+            "  return [];\n" +
+            "}\n" +
+            "function shown(el) {\n" +
+            "  if (el.getClientRects().length === 0) return false;\n" +
+            "  if (el.checkVisibility) return el.checkVisibility({opacityProperty: true, visibilityProperty: true});\n" +
+            "  var st = getComputedStyle(el);\n" +
+            "  return st.display !== 'none' && st.visibility !== 'hidden' && st.opacity !== '0';\n" +
+            "}\n" +
+            "for (var i = 0; i < specs.length; i++) {\n" +
+            "  var s = specs[i];\n" +
+            "  try {\n" +
+            "    var els = all(s), el = els.find(shown) || els[0];\n" +
+            "    if (!el) { out[s.key] = {count: 0}; continue; }\n" +
+            "    var b = el.getBoundingClientRect();\n" +
+            "    out[s.key] = {count: els.length, displayed: shown(el),\n" +
+            "      enabled: !el.disabled && !el.closest('fieldset[disabled]'),\n" +
+            "      x: Math.round(b.left + window.scrollX), y: Math.round(b.top + window.scrollY),\n" +
+            "      width: Math.round(b.width), height: Math.round(b.height)};\n" +
+            "  } catch (e) { out[s.key] = {count: 0, error: String(e)}; }\n" +
+            "}\n" +
+            "return out;";
+
+    private BatchProbe() { /* utility */ }
+
+    /**
+     * Current state of every locator, keyed like {@code locators}, in one round trip.
+     */
+    public static Map<String, ElementState> probe(WebDriver driver, Map<String, By> locators) {
+        List<Map<String, String>> specs = new ArrayList<>();
+        for (Map.Entry<String, By> e : locators.entrySet()) {
+            Map<String, String> spec = new LinkedHashMap<>();
+            spec.put("key", e.getKey());
+            spec.putAll(spec(e.getValue()));
+            specs.add(spec);
+        }
+        Object raw = ((JavascriptExecutor) driver).executeScript(SCRIPT, specs);
+        Map<?, ?> result = raw instanceof Map ? (Map<?, ?>) raw : Map.of();
+
+        Map<String, ElementState> out = new LinkedHashMap<>();
+        for (String key : locators.keySet()) {
+            Object s = result.get(key);
+            out.put(key, new ElementState(s instanceof Map ? (Map<?, ?>) s : Map.of()));
+        }
+        return out;
+    }
+
+    /**
+     * Polls the batch until every locator satisfies {@code condition} or {@code timeout} passes; returns the last
+     * states either way, so callers can report which locators fell short.
+     */
+    public static Map<String, ElementState> awaitAll(WebDriver driver, Map<String, By> locators,
+                                                     Predicate<ElementState> condition, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Map<String, ElementState> states = probe(driver, locators);
+            if (states.values().stream().allMatch(condition) || System.nanoTime() >= deadline) return states;
+            try {
+                Thread.sleep(POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return states;
+            }
+        }
+    }
+
+    /**
+     * Single-locator form of awaitAll, for the page objects' isVisible/isClickable helpers.
+     */
+    public static ElementState await(WebDriver driver, By locator, Predicate<ElementState> condition, Duration timeout) {
+        return awaitAll(driver, Map.of("el", locator), condition, timeout).get("el");
+    }
+
+    private static Map<String, String> spec(By by) {
+        String text = by.toString();
+        int colon = text.indexOf(": ");
+        if (colon < 0) throw new IllegalArgumentException("Unsupported locator for batch probing: " + by);
+        String value = text.substring(colon + 2);
+        String using;
+        switch (text.substring(0, colon)) {
+            case "By.cssSelector": using = "css"; break;
+            case "By.xpath": using = "xpath"; break;
+            case "By.id": using = "id"; break;
+            case "By.name": using = "name"; break;
+            case "By.className": using = "class"; break;
+            case "By.tagName": using = "tag"; break;
+            case "By.linkText": using = "link"; break;
+            case "By.partialLinkText": using = "partial"; break;
+            default: throw new IllegalArgumentException("Unsupported locator for batch probing: " + by);
+        }
+        return Map.of("using", using, "value", value);
+    }
+
+    /**
+     * What the browser reported for one locator.
+     */
+    public static final class ElementState {
+        private final int count;
+        private final boolean displayed;
+        private final boolean enabled;
+        private final int x, y, width, height;
+        private final String error;
+
+        ElementState(Map<?, ?> raw) {
+            this.count = intValue(raw.get("count"));
+            this.displayed = Boolean.TRUE.equals(raw.get("displayed"));
+            this.enabled = Boolean.TRUE.equals(raw.get("enabled"));
+            this.x = intValue(raw.get("x"));
+            this.y = intValue(raw.get("y"));
+            this.width = intValue(raw.get("width"));
+            this.height = intValue(raw.get("height"));
+            this.error = raw.get("error") == null ? null : String.valueOf(raw.get("error"));
+        }
+
+        public boolean isPresent() { return count > 0; }
+        public boolean isDisplayed() { return displayed; }
+        public boolean isEnabled() { return enabled; }
+        /** Displayed, enabled and with a non-empty box - what elementToBeClickable checks. */
+        public boolean isClickable() { return displayed && enabled && width > 0 && height > 0; }
+        public int getCount() { return count; }
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public String getError() { return error; }
+
+        @Override
+        public String toString() {
+            if (count == 0) return error == null ? "absent" : "error(" + error + ")";
+            return "count=" + count + ", displayed=" + displayed + ", enabled=" + enabled
+                    + ", box=" + x + "," + y + " " + width + "x" + height;
+        }
+
+        private static int intValue(Object o) {
+            return o instanceof Number ? ((Number) o).intValue() : 0;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the WebDriver calls each test makes (driver, element, navigation and options calls - roughly one wire command
+ * each). DriverFactory decorates every session with it unless driver.command.count=false; BaseTest starts the count
+ * after setUp and records it per test in tearDown.
+ */
+public final class CommandCounter implements WebDriverListener {
+
+    private static final CommandCounter INSTANCE = new CommandCounter();
+    // calls made on this thread since the last start()
+    private static final ThreadLocal<long[]> current = ThreadLocal.withInitial(() -> new long[1]);
+    private static final Map<String, Long> perTest = new ConcurrentHashMap<>();
+
+    private CommandCounter() { }
+
+    public static boolean enabled() {
+        return !"false".equalsIgnoreCase(ConfigReader.get("driver.command.count"));
+    }
+
+    /**
+     * The driver with every call counted, or the driver itself when counting is off.
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        if (!enabled()) return driver;
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    /**
+     * The undecorated driver, for code that needs the concrete class (e.g. RemoteWebDriver.getSessionId()).
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        WebDriver d = driver;
+        while (d instanceof WrapsDriver) d = ((WrapsDriver) d).getWrappedDriver();
+        return d;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        // local bookkeeping, no round trip
+        if ("toString".equals(method.getName()) || "hashCode".equals(method.getName())
+                || "equals".equals(method.getName()) || "getWrappedDriver".equals(method.getName())
+                || "getWrappedElement".equals(method.getName())) return;
+        current.get()[0]++;
+    }
+
+    public static void start() {
+        current.get()[0] = 0;
+    }
+
+    /**
+     * Calls made on this thread since start(), stored under {@code testName}.
+     */
+    public static long record(String testName) {
+        long n = current.get()[0];
+        perTest.merge(testName, n, Long::sum);
+        return n;
+    }
+
+    /**
+     * Average and busiest tests, for RunSummary.
+     */
+    public static String summary() {
+        List<Map.Entry<String, Long>> tests = new ArrayList<>(perTest.entrySet());
+        if (tests.isEmpty()) return "";
+        long total = 0;
+        for (Map.Entry<String, Long> e : tests) total += e.getValue();
+        tests.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        StringBuilder sb = new StringBuilder();
+        sb.append("tests=").append(tests.size()).append(", total=").append(total)
+                .append(", avg=").append(total / tests.size()).append("/test");
+        for (int i = 0; i < Math.min(5, tests.size()); i++) {
+            sb.append(i == 0 ? "; most: " : ", ").append(tests.get(i).getKey()).append('=').append(tests.get(i).getValue());
+        }
+        return sb.toString();
+    }
+}
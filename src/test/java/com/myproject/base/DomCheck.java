@@ -0,0 +1,51 @@
+package com.myproject.base;
+
+import org.openqa.selenium.By;
+
+/**
+ * A named UI check declared by a page object: "{@code locator} is present on {@code url}".
+ *
+ * onServedHtml(...) checks only need the HTML the server sends and can be answered by StaticDom without a browser.
+ * needsBrowser(...) checks depend on scripts, layout, visibility or interaction and only run in a live session;
+ * they are declared anyway so the full check list of a page is in one place.
+ */
+public final class DomCheck {
+
+    private final String name;
+    private final String url;
+    private final By locator;
+    private final boolean needsBrowser;
+
+    private DomCheck(String name, String url, By locator, boolean needsBrowser) {
+        this.name = name;
+        this.url = url;
+        this.locator = locator;
+        this.needsBrowser = needsBrowser;
+    }
+
+    public static DomCheck onServedHtml(String name, String url, By locator) {
+        return new DomCheck(name, url, locator, false);
+    }
+
+    public static DomCheck needsBrowser(String name, String url, By locator) {
+        return new DomCheck(name, url, locator, true);
+    }
+
+    public String getName() { return name; }
+    public String getUrl() { return url; }
+    public By getLocator() { return locator; }
+    public boolean needsBrowser() { return needsBrowser; }
+
+    /**
+     * Answer the check from the page snapshot. Only for checks that do not need a browser.
+     */
+    public boolean evaluate() {
+        if (needsBrowser) throw new IllegalStateException(name + " needs a live browser");
+        return StaticDom.exists(url, locator);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + url + ")";
+    }
+}
@@ -0,0 +1,91 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates configured WebDriver instances. Used by DriverPool; tests should go through BaseTest.getDriver().
+ */
+public final class DriverFactory {
+
+    // WebDriverManager resolution hits the network/cache; once per browser per JVM is enough
+    private static final Set<String> resolved = ConcurrentHashMap.newKeySet();
+
+    private DriverFactory() { /* utility */ }
+
+    /**
+     * Launch a new browser session with the suite's standard options, the current ExecutionProfile and timeouts applied.
+     */
+    public static WebDriver create(String browser) {
+        ExecutionProfile profile = ExecutionProfile.current();
+        WebDriver driver;
+        if ("firefox".equalsIgnoreCase(browser)) {
+            resolveOnce("firefox");
+            FirefoxOptions options = new FirefoxOptions();
+            profile.applyTo(options);
+            driver = new FirefoxDriver(options);
+        } else {
+            // default to chrome
+            resolveOnce("chrome");
+            ChromeOptions options = new ChromeOptions();
+
+            // Hardening flags to reduce renderer/timeouts in CI or constrained environment
+            options.addArguments("--remote-allow-origins=*");
+            options.addArguments("--no-sandbox");
+            options.addArguments("--disable-dev-shm-usage");
+            options.addArguments("--disable-extensions");
+            options.addArguments("--disable-gpu");
+            // headless / page load strategy / window size / trimmed features depend on execution.profile
+            profile.applyTo(options);
+
+            driver = new ChromeDriver(options);
+            // request interception is set up once per browser and stays for every test the session serves;
+            // blocking goes first so blocked requests are neither recorded nor replayed
+            List<FetchInterceptor.Handler> handlers = new ArrayList<>();
+            if (RequestBlocker.enabled()) handlers.add(new RequestBlocker());
+            if (HttpReplayCache.enabled()) handlers.add(new HttpReplayCache());
+            // request tracking for PageReadiness' networkidle phase
+            if (PageReadiness.Spec.networkIdleConfigured()) handlers.add(new NetworkActivity());
+            FetchInterceptor.attach(driver, handlers);
+        }
+
+        try {
+            // timeouts from config; element waits are explicit (ElementFinder.await), so no implicit wait by default
+            int implicit = ConfigReader.getInt("driver.implicit.wait", 0);
+            int pageLoad = ConfigReader.getInt("page.load.timeout", 60); // increase default to 60s
+
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicit));
+            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoad));
+            profile.sizeWindow(driver);
+        } catch (RuntimeException e) {
+            try { driver.quit(); } catch (Exception ignored) {}
+            throw e;
+        }
+        // decorated last: DevTools and interception above are set up on the real driver
+        return CommandCounter.decorate(driver);
+    }
+
+    private static void resolveOnce(String browser) {
+        if (resolved.contains(browser)) return;
+        synchronized (DriverFactory.class) {
+            if (resolved.contains(browser)) return;
+            if ("firefox".equals(browser)) {
+                WebDriverManager.firefoxdriver().setup();
+            } else {
+                WebDriverManager.chromedriver().setup();
+            }
+            resolved.add(browser);
+        }
+    }
+}
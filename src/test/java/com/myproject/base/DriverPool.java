@@ -0,0 +1,393 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe pool of browser sessions.
+ *
+ * A session is checked out for the duration of one test method and handed back afterwards.
+ * On release the browser is reset (alerts, extra windows, cookies, local/session storage) rather
+ * than quit; sessions that fail the reset or the health check, or that hit driver.pool.max.reuse,
+ * are quit and replaced by a fresh one on the next acquire.
+ *
+ * prewarm() launches browsers on background threads as soon as the suite starts, so the first
+ * acquire on each worker thread normally takes a ready session instead of paying the launch cost.
+ */
+public final class DriverPool {
+
+    private static final DriverPool INSTANCE = new DriverPool(
+            ConfigReader.getInt("driver.pool.max.size", 4),
+            ConfigReader.getInt("driver.pool.max.reuse", 25));
+
+    private volatile int maxSize;
+    private final int maxReuse;
+    // one permit per live browser, idle or checked out
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PooledSession> idle = new ConcurrentLinkedDeque<>();
+    private final Set<PooledSession> live = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger reused = new AtomicInteger();
+    private final AtomicInteger recycled = new AtomicInteger();
+
+    // background launches that have not landed in the idle deque yet, per browser
+    private final ConcurrentHashMap<String, AtomicInteger> warming = new ConcurrentHashMap<>();
+    private final Object landed = new Object();
+    private volatile ExecutorService provisioner;
+
+    // "test requested" -> "driver ready" latency, split by whether a ready session was waiting
+    private final LongAdder warmAcquires = new LongAdder();
+    private final LongAdder warmAcquireMs = new LongAdder();
+    private final LongAdder coldAcquires = new LongAdder();
+    private final LongAdder coldAcquireMs = new LongAdder();
+    private final LongAdder launches = new LongAdder();
+    private final LongAdder launchMs = new LongAdder();
+
+    DriverPool(int maxSize, int maxReuse) {
+        this.maxSize = Math.max(1, maxSize);
+        this.maxReuse = Math.max(1, maxReuse);
+        this.permits = new Semaphore(this.maxSize, true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    public static DriverPool get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Check out a healthy session for the given browser, creating one if the pool has room.
+     * Blocks while all driver.pool.max.size sessions are in use.
+     */
+    public PooledSession acquire(String browser) {
+        long requested = System.nanoTime();
+        long timeoutMs = TimeUnit.SECONDS.toMillis(ConfigReader.getInt("driver.pool.acquire.timeout", 300));
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (true) {
+            PooledSession session = pollIdle(browser);
+            if (session != null) {
+                if (isHealthy(session)) {
+                    if (session.uses > 0) reused.incrementAndGet();
+                    session.uses++;
+                    record(warmAcquires, warmAcquireMs, requested);
+                    return session;
+                }
+                System.out.println("[DriverPool] Session " + session.id + " failed health check, recycling");
+                destroy(session);
+                continue;
+            }
+
+            // a background launch for this browser is already under way: waiting for it beats starting another
+            if (warmingCount(browser) > 0) {
+                awaitLanding(deadline, timeoutMs);
+                continue;
+            }
+
+            if (permits.tryAcquire()) {
+                PooledSession created = launch(browser);
+                created.uses = 1;
+                record(coldAcquires, coldAcquireMs, requested);
+                return created;
+            }
+
+            // pool is full: if idle sessions belong to another browser, make room by quitting one
+            PooledSession other = idle.pollLast();
+            if (other != null) {
+                destroy(other);
+                continue;
+            }
+
+            if (System.currentTimeMillis() > deadline) {
+                throw new RuntimeException("Timed out after " + timeoutMs + "ms waiting for a free browser session (pool size " + maxSize + ")");
+            }
+            try {
+                if (permits.tryAcquire(200, TimeUnit.MILLISECONDS)) {
+                    PooledSession created = launch(browser);
+                    created.uses = 1;
+                    record(coldAcquires, coldAcquireMs, requested);
+                    return created;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a browser session", e);
+            }
+        }
+    }
+
+    /**
+     * Grow the pool to at least {@code size} sessions (e.g. one per suite thread). Never shrinks it.
+     */
+    public synchronized void ensureCapacity(int size) {
+        if (size <= maxSize) return;
+        System.out.println("[DriverPool] Raising pool size from " + maxSize + " to " + size);
+        permits.release(size - maxSize);
+        maxSize = size;
+    }
+
+    /**
+     * Start launching up to {@code count} sessions in the background. Returns immediately; the sessions
+     * are parked in the idle deque as they come up. Launches beyond the pool size are ignored.
+     */
+    public void prewarm(String browser, int count) {
+        int started = 0;
+        for (int i = 0; i < count && permits.tryAcquire(); i++) {
+            warmingCounter(browser).incrementAndGet();
+            provisioner().submit(() -> {
+                try {
+                    idle.offerLast(launch(browser));
+                } catch (Exception e) {
+                    System.err.println("[DriverPool] Background launch of " + browser + " failed: " + e.getMessage());
+                } finally {
+                    warmingCounter(browser).decrementAndGet();
+                    synchronized (landed) {
+                        landed.notifyAll();
+                    }
+                }
+            });
+            started++;
+        }
+        if (started > 0) {
+            System.out.println("[DriverPool] Pre-warming " + started + " " + browser + " session(s) in the background");
+        }
+    }
+
+    /**
+     * Return a session after a test. The browser is reset and kept for reuse unless it is worn out or broken.
+     */
+    public void release(PooledSession session) {
+        if (session == null) return;
+        if (session.uses >= maxReuse) {
+            System.out.println("[DriverPool] Session " + session.id + " reached max reuse (" + maxReuse + "), recycling");
+            destroy(session);
+            return;
+        }
+        if (!reset(session)) {
+            destroy(session);
+            return;
+        }
+        // LIFO: the most recently used browser has the warmest caches
+        idle.offerFirst(session);
+        synchronized (landed) {
+            landed.notifyAll();
+        }
+    }
+
+    /**
+     * Quit a session that must not be handed out again (e.g. setUp failed half-way).
+     */
+    public void invalidate(PooledSession session) {
+        if (session != null) destroy(session);
+    }
+
+    /**
+     * Quit every session the pool knows about. Safe to call more than once.
+     */
+    public void shutdown() {
+        ExecutorService p = provisioner;
+        if (p != null) {
+            p.shutdownNow();
+        }
+        PooledSession s;
+        while ((s = idle.pollFirst()) != null) {
+            destroy(s);
+        }
+        for (PooledSession remaining : live) {
+            destroy(remaining);
+        }
+    }
+
+    public String stats() {
+        return "created=" + created.get() + ", reused=" + reused.get() + ", recycled=" + recycled.get()
+                + ", live=" + live.size() + ", idle=" + idle.size() + ", maxSize=" + maxSize + ", maxReuse=" + maxReuse;
+    }
+
+    /**
+     * Time from "test requested a driver" to "driver ready", for ready (warm) vs. launched-inline (cold)
+     * sessions, and the launch time that warm sessions kept off the test threads.
+     */
+    public String latencyStats() {
+        long warmN = warmAcquires.sum();
+        long coldN = coldAcquires.sum();
+        long avgLaunch = avg(launchMs.sum(), launches.sum());
+        long saved = Math.max(0, warmN * avgLaunch - warmAcquireMs.sum());
+        return "warm n=" + warmN + " avg=" + avg(warmAcquireMs.sum(), warmN) + "ms"
+                + ", cold n=" + coldN + " avg=" + avg(coldAcquireMs.sum(), coldN) + "ms"
+                + ", avg launch=" + avgLaunch + "ms, est. saved=" + saved + "ms";
+    }
+
+    private PooledSession pollIdle(String browser) {
+        Iterator<PooledSession> it = idle.iterator();
+        while (it.hasNext()) {
+            PooledSession s = it.next();
+            if (s.browser.equalsIgnoreCase(browser) && idle.removeFirstOccurrence(s)) {
+                return s;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Launch a browser. The caller must already hold a permit; it is given back if the launch fails.
+     */
+    private PooledSession launch(String browser) {
+        long start = System.nanoTime();
+        try {
+            WebDriver driver = DriverFactory.create(browser);
+            PooledSession session = new PooledSession(created.incrementAndGet(), browser, driver);
+            live.add(session);
+            record(launches, launchMs, start);
+            System.out.println("[DriverPool] Created session " + session.id + " (" + browser + ") in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+            return session;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void awaitLanding(long deadline, long timeoutMs) {
+        if (System.currentTimeMillis() > deadline) {
+            throw new RuntimeException("Timed out after " + timeoutMs + "ms waiting for a pre-warmed browser session");
+        }
+        synchronized (landed) {
+            try {
+                landed.wait(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a browser session", e);
+            }
+        }
+    }
+
+    private AtomicInteger warmingCounter(String browser) {
+        return warming.computeIfAbsent(browser.toLowerCase(), k -> new AtomicInteger());
+    }
+
+    private int warmingCount(String browser) {
+        AtomicInteger n = warming.get(browser.toLowerCase());
+        return n == null ? 0 : n.get();
+    }
+
+    private ExecutorService provisioner() {
+        ExecutorService p = provisioner;
+        if (p == null) {
+            synchronized (this) {
+                if (provisioner == null) {
+                    AtomicInteger n = new AtomicInteger();
+                    provisioner = Executors.newFixedThreadPool(maxSize, r -> {
+                        Thread t = new Thread(r, "driver-provisioner-" + n.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    });
+                }
+                p = provisioner;
+            }
+        }
+        return p;
+    }
+
+    private static void record(LongAdder count, LongAdder totalMs, long startNanos) {
+        count.increment();
+        totalMs.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private static long avg(long total, long n) {
+        return n == 0 ? 0 : total / n;
+    }
+
+    private void destroy(PooledSession session) {
+        if (!live.remove(session)) return;
+        idle.removeFirstOccurrence(session);
+        recycled.incrementAndGet();
+        try {
+            session.driver.quit();
+        } catch (Exception ignored) {
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Cheap liveness probe: a dead or hung browser fails on the first round-trip.
+     */
+    private boolean isHealthy(PooledSession session) {
+        try {
+            WebDriver d = CommandCounter.unwrap(session.driver);
+            if (d instanceof RemoteWebDriver && ((RemoteWebDriver) d).getSessionId() == null) {
+                return false;
+            }
+            return !d.getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Bring the browser back to a clean state: no alert, one window, no cookies or web storage, blank page.
+     */
+    private boolean reset(PooledSession session) {
+        WebDriver d = session.driver;
+        try {
+            try {
+                d.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException ignored) {}
+
+            Set<String> handles = d.getWindowHandles();
+            if (handles.isEmpty()) return false;
+            String keep = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(keep)) {
+                    d.switchTo().window(handle);
+                    d.close();
+                }
+            }
+            d.switchTo().window(keep);
+
+            d.manage().deleteAllCookies();
+            ((JavascriptExecutor) d).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            d.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.out.println("[DriverPool] Reset of session " + session.id + " failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * A browser owned by the pool together with its bookkeeping.
+     */
+    public static final class PooledSession {
+        private final int id;
+        private final String browser;
+        private final WebDriver driver;
+        private volatile int uses;
+
+        PooledSession(int id, String browser, WebDriver driver) {
+            this.id = id;
+            this.browser = browser;
+            this.driver = driver;
+        }
+
+        public int getId() { return id; }
+
+        public String getBrowser() { return browser; }
+
+        public WebDriver getDriver() { return driver; }
+
+        public int getUses() { return uses; }
+    }
+}
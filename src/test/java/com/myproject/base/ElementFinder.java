@@ -0,0 +1,144 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.AjaxElementLocatorFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Element lookups for page objects, with the waiting made explicit.
+ *
+ * - probe(...)  : instant - returns what is in the DOM right now (empty list when absent). Use for
+ *                 "is it there?" checks and for collecting elements of a page that is already loaded.
+ * - await(...)  : bounded - polls until the element shows up, then throws NoSuchElementException like
+ *                 findElement did under an implicit wait. Default bound is implicit.wait seconds.
+ *
+ * DriverFactory gives sessions an implicit wait of driver.implicit.wait (default 0), so a probe for a missing
+ * element costs one round trip instead of the whole implicit wait. Set driver.implicit.wait=10 to measure the
+ * old behaviour: stats() reports the time actually spent on misses next to what the misses would have cost
+ * with the implicit wait.
+ *
+ * Fallback locators (CSS/XPath unions) go through SelectorCache in probe/await, which tries the branch that matched
+ * last time first and may therefore return only that branch's elements; probeAll(...) always uses the full union.
+ */
+public final class ElementFinder {
+
+    private static final long POLL_MS = 100;
+
+    private static final LongAdder probes = new LongAdder();
+    private static final LongAdder probeMisses = new LongAdder();
+    private static final LongAdder probeMissNanos = new LongAdder();
+    private static final LongAdder awaits = new LongAdder();
+    private static final LongAdder awaitTimeouts = new LongAdder();
+    private static final LongAdder awaitTimeoutNanos = new LongAdder();
+
+    private ElementFinder() { /* utility */ }
+
+    /**
+     * Elements matching {@code by} right now, without waiting.
+     */
+    public static List<WebElement> probe(SearchContext context, By by) {
+        long start = System.nanoTime();
+        List<WebElement> found = SelectorCache.findElements(context, by);
+        probes.increment();
+        if (found.isEmpty()) {
+            probeMisses.increment();
+            probeMissNanos.add(System.nanoTime() - start);
+        }
+        return found;
+    }
+
+    /**
+     * Every element matching {@code by} right now. Unlike probe(...), a fallback locator is always evaluated in
+     * full, so use this when the result is counted or iterated rather than used for its first match.
+     */
+    public static List<WebElement> probeAll(SearchContext context, By by) {
+        long start = System.nanoTime();
+        List<WebElement> found = context.findElements(by);
+        probes.increment();
+        if (found.isEmpty()) {
+            probeMisses.increment();
+            probeMissNanos.add(System.nanoTime() - start);
+        }
+        return found;
+    }
+
+    public static boolean isPresent(SearchContext context, By by) {
+        return !probe(context, by).isEmpty();
+    }
+
+    /**
+     * First element matching {@code by}, waiting up to implicit.wait seconds for it.
+     */
+    public static WebElement await(SearchContext context, By by) {
+        return await(context, by, defaultTimeout());
+    }
+
+    public static WebElement await(SearchContext context, By by, Duration timeout) {
+        List<WebElement> found = awaitAll(context, by, timeout);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate " + by + " within " + timeout.toMillis() + "ms");
+        }
+        return found.get(0);
+    }
+
+    /**
+     * Elements matching {@code by}, waiting up to {@code timeout} for at least one; empty list on timeout.
+     */
+    public static List<WebElement> awaitAll(SearchContext context, By by, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        awaits.increment();
+        while (true) {
+            List<WebElement> found = SelectorCache.findElements(context, by);
+            if (!found.isEmpty()) return found;
+            if (System.nanoTime() >= deadline) {
+                awaitTimeouts.increment();
+                awaitTimeoutNanos.add(System.nanoTime() - start);
+                return found;
+            }
+            try {
+                Thread.sleep(POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return found;
+            }
+        }
+    }
+
+    /**
+     * PageFactory for @FindBy fields, with each lookup bounded like await(...) instead of relying on an
+     * implicit wait.
+     */
+    public static void initElements(WebDriver driver, Object page) {
+        PageFactory.initElements(new AjaxElementLocatorFactory(driver, (int) defaultTimeout().getSeconds()), page);
+    }
+
+    public static Duration defaultTimeout() {
+        return Duration.ofSeconds(ConfigReader.getInt("implicit.wait", 10));
+    }
+
+    /**
+     * Probe/await counts and the time spent on misses, for RunSummary.
+     */
+    public static String stats() {
+        long n = probes.sum() + awaits.sum();
+        if (n == 0) return "";
+        long misses = probeMisses.sum();
+        long implicitMs = TimeUnit.SECONDS.toMillis(ConfigReader.getInt("driver.implicit.wait", 0));
+        long wouldHaveCost = misses * TimeUnit.SECONDS.toMillis(ConfigReader.getInt("implicit.wait", 10));
+        return "probes=" + probes.sum() + " (misses=" + misses + ", miss time="
+                + TimeUnit.NANOSECONDS.toMillis(probeMissNanos.sum()) + "ms with implicit wait " + implicitMs
+                + "ms; " + wouldHaveCost + "ms with the implicit.wait default), awaits=" + awaits.sum()
+                + " (timeouts=" + awaitTimeouts.sum() + ", " + TimeUnit.NANOSECONDS.toMillis(awaitTimeoutNanos.sum()) + "ms)";
+    }
+}
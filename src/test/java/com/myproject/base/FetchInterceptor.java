@@ -0,0 +1,176 @@
+package com.myproject.base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * One DevTools (CDP) session per Chrome driver with the Fetch domain enabled, shared by the request handlers
+ * that need to see requests before the browser sends them (RequestBlocker, ...).
+ *
+ * Raw CDP method names are used instead of the versioned selenium-devtools-vNNN classes, so the interception
+ * keeps working when the installed Chrome is newer than the devtools versions bundled with Selenium.
+ * Only URLs matching a handler's patterns are paused; everything else never leaves the browser.
+ */
+public final class FetchInterceptor {
+
+    /**
+     * Reacts to paused requests. Handlers are asked in registration order; the first one that answers the
+     * request (continue / fail / fulfill) returns true, unanswered requests are continued unchanged.
+     */
+    public interface Handler {
+        /** Fetch.enable RequestPattern objects (urlPattern, resourceType, requestStage) this handler wants paused. */
+        List<Map<String, Object>> patterns();
+
+        /** Called once after Fetch is enabled, e.g. to subscribe to other CDP events. */
+        default void attached(FetchInterceptor fetch) { }
+
+        boolean handle(PausedRequest request, FetchInterceptor fetch);
+    }
+
+    private static final Map<WebDriver, FetchInterceptor> byDriver = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final DevTools devTools;
+    private final List<Handler> handlers;
+
+    private FetchInterceptor(DevTools devTools, List<Handler> handlers) {
+        this.devTools = devTools;
+        this.handlers = handlers;
+    }
+
+    /**
+     * Enable interception on the driver for the given handlers. Returns null (and leaves the driver untouched)
+     * when there is nothing to intercept, the driver has no DevTools support or the session cannot be opened.
+     */
+    public static FetchInterceptor attach(WebDriver driver, List<Handler> handlers) {
+        if (handlers == null || handlers.isEmpty()) return null;
+        if (!(driver instanceof HasDevTools)) {
+            System.out.println("[FetchInterceptor] " + driver.getClass().getSimpleName() + " has no DevTools support, interception skipped");
+            return null;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            FetchInterceptor fetch = new FetchInterceptor(devTools, new ArrayList<>(handlers));
+
+            List<Map<String, Object>> patterns = new ArrayList<>();
+            for (Handler h : handlers) patterns.addAll(h.patterns());
+            devTools.addListener(new Event<Map<String, Object>>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE)),
+                    params -> fetch.dispatch(new PausedRequest(params)));
+            // handlers that only listen (NetworkActivity) need no Fetch domain; with no patterns it would pause everything
+            if (!patterns.isEmpty()) fetch.send("Fetch.enable", Map.of("patterns", patterns));
+            for (Handler h : handlers) h.attached(fetch);
+
+            byDriver.put(driver, fetch);
+            return fetch;
+        } catch (Exception e) {
+            System.err.println("[FetchInterceptor] Could not enable request interception: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The interceptor attached to this driver, or null.
+     */
+    public static FetchInterceptor of(WebDriver driver) {
+        return driver == null ? null : byDriver.get(driver);
+    }
+
+    public DevTools devTools() {
+        return devTools;
+    }
+
+    /**
+     * Send a raw CDP command without a result.
+     */
+    public void send(String method, Map<String, Object> params) {
+        devTools.send(new Command<Void>(method, params));
+    }
+
+    /**
+     * Send a raw CDP command and return its result object.
+     */
+    public Map<String, Object> call(String method, Map<String, Object> params) {
+        return devTools.send(new Command<Map<String, Object>>(method, params, input -> input.read(Json.MAP_TYPE)));
+    }
+
+    /**
+     * Subscribe to a raw CDP event; the listener gets the event's params.
+     */
+    public void on(String event, Consumer<Map<String, Object>> listener) {
+        devTools.addListener(new Event<Map<String, Object>>(event, input -> input.read(Json.MAP_TYPE)), listener);
+    }
+
+    public void continueRequest(PausedRequest request) {
+        send("Fetch.continueRequest", Map.of("requestId", request.getRequestId()));
+    }
+
+    /**
+     * Fail the request without sending it; errorReason is a Network.ErrorReason such as "BlockedByClient".
+     */
+    public void failRequest(PausedRequest request, String errorReason) {
+        send("Fetch.failRequest", Map.of("requestId", request.getRequestId(), "errorReason", errorReason));
+    }
+
+    private void dispatch(PausedRequest request) {
+        try {
+            for (Handler h : handlers) {
+                if (h.handle(request, this)) return;
+            }
+            continueRequest(request);
+        } catch (Exception e) {
+            // never leave a request paused: the page would hang until the page load timeout
+            System.err.println("[FetchInterceptor] Handler failed for " + request.getUrl() + ": " + e.getMessage());
+            try { continueRequest(request); } catch (Exception ignored) {}
+        }
+    }
+
+    /**
+     * Params of a Fetch.requestPaused event.
+     */
+    public static final class PausedRequest {
+        private final Map<String, Object> params;
+        private final Map<String, Object> request;
+
+        @SuppressWarnings("unchecked")
+        PausedRequest(Map<String, Object> params) {
+            this.params = params;
+            Object r = params.get("request");
+            this.request = r instanceof Map ? (Map<String, Object>) r : new HashMap<>();
+        }
+
+        public String getRequestId() { return String.valueOf(params.get("requestId")); }
+
+        public String getUrl() { return String.valueOf(request.get("url")); }
+
+        public String getMethod() { return String.valueOf(request.get("method")); }
+
+        /** Network.ResourceType: Document, Script, Image, XHR, ... */
+        public String getResourceType() { return String.valueOf(params.get("resourceType")); }
+
+        public String getFrameId() { return String.valueOf(params.get("frameId")); }
+
+        /** True when paused at the response stage (status code / headers are available). */
+        public boolean isResponse() {
+            return params.containsKey("responseStatusCode") || params.containsKey("responseErrorReason");
+        }
+
+        public int getResponseStatusCode() {
+            Object code = params.get("responseStatusCode");
+            return code instanceof Number ? ((Number) code).intValue() : -1;
+        }
+
+        public Map<String, Object> raw() { return params; }
+    }
+}
@@ -0,0 +1,193 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fetches link targets over plain HTTP instead of navigating the browser to each one.
+ *
+ * All URLs of a batch are fetched at once, one virtual thread per URL, through one shared HttpClient (keep-alive
+ * connections are reused across the batch and across tests). A per-host semaphore caps concurrent requests to the
+ * same server so a page with fifty links does not open fifty connections to it.
+ *
+ * link.check.per.host  - concurrent requests per host (default 4)
+ * link.check.timeout.ms - per request, connect + response (default 15000)
+ *
+ * Callers decide which links can be checked this way (needsBrowser): anything that only works with JavaScript
+ * (javascript: links, empty hrefs, pages that render their content in scripts) still goes to the browser.
+ */
+public final class HttpLinkChecker {
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofMillis(ConfigReader.getInt("link.check.timeout.ms", 15_000)))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private static final Map<String, Semaphore> perHost = new ConcurrentHashMap<>();
+    private static final AtomicInteger fetched = new AtomicInteger();
+    private static final AtomicInteger failed = new AtomicInteger();
+    private static final AtomicLong fetchMillis = new AtomicLong();
+    private static final AtomicLong batchMillis = new AtomicLong();
+
+    private HttpLinkChecker() { /* utility */ }
+
+    /**
+     * Outcome of one fetch; status is -1 when no response came back (see getError()).
+     */
+    public static final class Response {
+        private final String url;
+        private final int status;
+        private final String contentType;
+        private final String body;
+        private final long millis;
+        private final String error;
+
+        Response(String url, int status, String contentType, String body, long millis, String error) {
+            this.url = url;
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+            this.millis = millis;
+            this.error = error;
+        }
+
+        public String getUrl() { return url; }
+        public int getStatus() { return status; }
+        public String getContentType() { return contentType; }
+        public String getBody() { return body; }
+        public long getMillis() { return millis; }
+        public String getError() { return error; }
+
+        public boolean isOk() { return status >= 200 && status < 400; }
+
+        public boolean isHtml() { return contentType.toLowerCase(Locale.ROOT).contains("html"); }
+
+        @Override
+        public String toString() {
+            return url + " -> " + (status < 0 ? error : status + " (" + body.length() / 1024 + " KB)") + " in " + millis + "ms";
+        }
+    }
+
+    /**
+     * True when {@code href} cannot be checked over HTTP: no URL, a javascript: link or another scheme.
+     */
+    public static boolean needsBrowser(String href) {
+        if (href == null || href.isBlank()) return true;
+        String h = href.trim().toLowerCase(Locale.ROOT);
+        return !(h.startsWith("http://") || h.startsWith("https://"));
+    }
+
+    /**
+     * True when a fetched page has scripts but (almost) no text of its own, i.e. it is built in the browser.
+     */
+    public static boolean needsBrowser(Response response) {
+        if (!response.isOk() || !response.isHtml()) return false;
+        String body = response.getBody();
+        if (!body.contains("<script")) return false;
+        String text = body.replaceAll("(?is)<(script|style)[^>]*>.*?</\\1>", " ").replaceAll("(?s)<[^>]*>", " ").trim();
+        return text.length() < 200;
+    }
+
+    /**
+     * Fetch every distinct URL concurrently; results keyed by the URL as given (fragments are not sent, so
+     * "page#a" and "page#b" share one request).
+     */
+    public static Map<String, Response> fetchAll(Collection<String> urls) {
+        long start = System.currentTimeMillis();
+        Map<String, Future<Response>> byTarget = new LinkedHashMap<>();
+        Map<String, Response> out = new LinkedHashMap<>();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String url : new LinkedHashSet<>(urls)) {
+                String target = withoutFragment(url);
+                byTarget.computeIfAbsent(target, t -> threads.submit(() -> fetch(t)));
+            }
+            for (String url : new LinkedHashSet<>(urls)) {
+                out.put(url, result(byTarget.get(withoutFragment(url)), url));
+            }
+        }
+        long ms = System.currentTimeMillis() - start;
+        batchMillis.addAndGet(ms);
+        System.out.println("[HttpLinkChecker] " + byTarget.size() + " URL(s) for " + out.size() + " link(s) in " + ms + "ms");
+        return out;
+    }
+
+    private static Response result(Future<Response> future, String url) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(url, -1, "", "", 0, "interrupted");
+        } catch (ExecutionException e) {
+            return new Response(url, -1, "", "", 0, String.valueOf(e.getCause()));
+        }
+    }
+
+    /**
+     * Fetch one URL, waiting for a free slot of its host first.
+     */
+    public static Response fetch(String url) {
+        long start = System.currentTimeMillis();
+        Semaphore slots;
+        try {
+            URI uri = URI.create(url);
+            slots = perHost.computeIfAbsent(String.valueOf(uri.getHost()),
+                    h -> new Semaphore(Math.max(1, ConfigReader.getInt("link.check.per.host", 4))));
+            slots.acquire();
+            try {
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                        .timeout(Duration.ofMillis(ConfigReader.getInt("link.check.timeout.ms", 15_000)))
+                        .header("User-Agent", StaticDom.USER_AGENT)
+                        .GET().build();
+                HttpResponse<String> response = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+                long ms = System.currentTimeMillis() - start;
+                fetched.incrementAndGet();
+                fetchMillis.addAndGet(ms);
+                return new Response(url, response.statusCode(),
+                        response.headers().firstValue("Content-Type").orElse(""), response.body(), ms, null);
+            } finally {
+                slots.release();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            failed.incrementAndGet();
+            return new Response(url, -1, "", "", System.currentTimeMillis() - start, e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(url, -1, "", "", System.currentTimeMillis() - start, "interrupted");
+        }
+    }
+
+    private static String withoutFragment(String url) {
+        int hash = url.indexOf('#');
+        return hash >= 0 ? url.substring(0, hash) : url;
+    }
+
+    /**
+     * Requests made and time spent (sum of requests vs wall time of the batches), for RunSummary.
+     */
+    public static String stats() {
+        int n = fetched.get() + failed.get();
+        if (n == 0) return "";
+        return "requests=" + n + " (failed=" + failed.get() + "), request time=" + fetchMillis.get()
+                + "ms, wall time=" + batchMillis.get() + "ms";
+    }
+}
@@ -0,0 +1,296 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Record-and-replay HTTP cache for the site under test, working inside Chrome through CDP Fetch.
+ *
+ * http.cache.mode=record - responses of in-scope GET requests are saved while the run goes to the live site.
+ * http.cache.mode=replay - in-scope requests are answered from the store (Fetch.fulfillRequest) without touching
+ *                          the network; misses go to the network, or fail with http.cache.replay.miss=fail.
+ * http.cache.mode=off    - default.
+ *
+ * Store layout under http.cache.dir: objects/ab/abcdef... holds response bodies by SHA-256 (identical bodies are
+ * stored once), index.jsonl maps "METHOD url" to status, headers and body hash. http.cache.patterns (URL globs)
+ * selects the requests that are recorded/replayed.
+ */
+public class HttpReplayCache implements FetchInterceptor.Handler {
+
+    // the body is handed over decoded, so the transfer headers of the original response no longer apply
+    private static final Set<String> DROPPED_HEADERS = Set.of("content-encoding", "content-length", "transfer-encoding");
+
+    private static final Json JSON = new Json();
+    private static final Map<String, Map<String, Object>> index = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> missedUrls = new ConcurrentHashMap<>();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong recorded = new AtomicLong();
+    private static final AtomicLong recordedBytes = new AtomicLong();
+    private static BufferedWriter indexWriter;
+    private static boolean loaded;
+
+    private final String mode;
+    private final List<String> scopeGlobs;
+    private final List<Pattern> scope = new ArrayList<>();
+    private final boolean failOnMiss;
+
+    public HttpReplayCache() {
+        this.mode = mode();
+        this.scopeGlobs = new ArrayList<>();
+        String csv = ConfigReader.get("http.cache.patterns");
+        if (csv != null) {
+            for (String s : csv.split(",")) {
+                if (s.trim().isEmpty()) continue;
+                scopeGlobs.add(s.trim());
+                scope.add(RequestBlocker.globToRegex(s.trim()));
+            }
+        }
+        this.failOnMiss = "fail".equalsIgnoreCase(ConfigReader.get("http.cache.replay.miss"));
+        if ("replay".equals(mode)) load();
+    }
+
+    public static String mode() {
+        String m = ConfigReader.get("http.cache.mode");
+        return m == null ? "off" : m.trim().toLowerCase();
+    }
+
+    public static boolean enabled() {
+        String m = mode();
+        return "record".equals(m) || "replay".equals(m);
+    }
+
+    public static Path cacheDir() {
+        String dir = ConfigReader.get("http.cache.dir");
+        return Paths.get(dir == null || dir.trim().isEmpty() ? "http-cache" : dir.trim());
+    }
+
+    @Override
+    public List<Map<String, Object>> patterns() {
+        String stage = "record".equals(mode) ? "Response" : "Request";
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (String glob : scopeGlobs) out.add(Map.of("urlPattern", glob, "requestStage", stage));
+        return out;
+    }
+
+    @Override
+    public boolean handle(FetchInterceptor.PausedRequest request, FetchInterceptor fetch) {
+        if (!"GET".equalsIgnoreCase(request.getMethod()) || !inScope(request.getUrl())) return false;
+        if ("record".equals(mode)) {
+            if (request.isResponse()) record(request, fetch);
+            return false; // let the response through unchanged
+        }
+        if (request.isResponse()) return false;
+        return replay(request, fetch);
+    }
+
+    private boolean inScope(String url) {
+        for (Pattern p : scope) {
+            if (p.matcher(url).matches()) return true;
+        }
+        return false;
+    }
+
+    /* -------------------------
+       Record
+       ------------------------- */
+
+    private void record(FetchInterceptor.PausedRequest request, FetchInterceptor fetch) {
+        int status = request.getResponseStatusCode();
+        if (status < 200 || status >= 300) return; // redirects and errors are not worth replaying
+        try {
+            Map<String, Object> result = fetch.call("Fetch.getResponseBody", Map.of("requestId", request.getRequestId()));
+            String body = String.valueOf(result.get("body"));
+            byte[] bytes = Boolean.TRUE.equals(result.get("base64Encoded"))
+                    ? Base64.getDecoder().decode(body) : body.getBytes(StandardCharsets.UTF_8);
+            String sha = storeBody(bytes);
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("key", key(request.getMethod(), request.getUrl()));
+            entry.put("status", status);
+            entry.put("headers", keptHeaders(request.raw().get("responseHeaders")));
+            entry.put("body", sha);
+            entry.put("size", bytes.length);
+            appendIndex(entry);
+            recorded.incrementAndGet();
+            recordedBytes.addAndGet(bytes.length);
+        } catch (Exception e) {
+            System.err.println("[HttpReplayCache] Could not record " + request.getUrl() + ": " + e.getMessage());
+        }
+    }
+
+    private static String storeBody(byte[] bytes) throws IOException {
+        String sha = sha256(bytes);
+        Path file = objectPath(sha);
+        if (!Files.exists(file)) {
+            Files.createDirectories(file.getParent());
+            // write to a temp name first so a concurrent reader never sees a partial object
+            Path tmp = Files.createTempFile(file.getParent(), sha, ".tmp");
+            Files.write(tmp, bytes);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return sha;
+    }
+
+    private static synchronized void appendIndex(Map<String, Object> entry) throws IOException {
+        if (indexWriter == null) {
+            Path dir = cacheDir();
+            Files.createDirectories(dir);
+            // a record run replaces the previous recording; bodies are content-addressed and simply reused
+            indexWriter = Files.newBufferedWriter(dir.resolve("index.jsonl"), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            System.out.println("[HttpReplayCache] Recording into " + dir.toAbsolutePath());
+        }
+        index.put(String.valueOf(entry.get("key")), entry);
+        indexWriter.write(JSON.toJson(entry).replace("\n", ""));
+        indexWriter.newLine();
+        indexWriter.flush();
+    }
+
+    /**
+     * Close the index of a record run. Safe to call in any mode.
+     */
+    public static synchronized void close() {
+        if (indexWriter == null) return;
+        try {
+            indexWriter.close();
+        } catch (IOException e) {
+            System.err.println("[HttpReplayCache] Could not close index: " + e.getMessage());
+        } finally {
+            indexWriter = null;
+        }
+    }
+
+    /* -------------------------
+       Replay
+       ------------------------- */
+
+    private boolean replay(FetchInterceptor.PausedRequest request, FetchInterceptor fetch) {
+        Map<String, Object> entry = index.get(key(request.getMethod(), request.getUrl()));
+        byte[] body = entry == null ? null : readBody(String.valueOf(entry.get("body")));
+        if (body == null) {
+            misses.incrementAndGet();
+            missedUrls.computeIfAbsent(RequestBlocker.pageKey(request.getUrl()), k -> new AtomicLong()).incrementAndGet();
+            if (!failOnMiss) return false;
+            fetch.failRequest(request, "InternetDisconnected");
+            return true;
+        }
+        Map<String, Object> params = new HashMap<>();
+        params.put("requestId", request.getRequestId());
+        params.put("responseCode", ((Number) entry.get("status")).intValue());
+        params.put("responseHeaders", entry.get("headers"));
+        params.put("body", Base64.getEncoder().encodeToString(body));
+        fetch.send("Fetch.fulfillRequest", params);
+        hits.incrementAndGet();
+        return true;
+    }
+
+    private static synchronized void load() {
+        if (loaded) return;
+        loaded = true;
+        Path file = cacheDir().resolve("index.jsonl");
+        if (!Files.isRegularFile(file)) {
+            System.err.println("[HttpReplayCache] No recording at " + file.toAbsolutePath() + ", every request will miss");
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.trim().isEmpty()) continue;
+                Map<String, Object> entry = JSON.toType(line, Json.MAP_TYPE);
+                index.put(String.valueOf(entry.get("key")), entry);
+            }
+            System.out.println("[HttpReplayCache] Replaying " + index.size() + " recorded response(s) from " + file.toAbsolutePath());
+        } catch (Exception e) {
+            System.err.println("[HttpReplayCache] Could not read " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static byte[] readBody(String sha) {
+        try {
+            return Files.readAllBytes(objectPath(sha));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /* -------------------------
+       Helpers
+       ------------------------- */
+
+    /**
+     * Replay hit rate and the most missed URLs (a stale recording shows up here), or what was recorded.
+     */
+    public static String summary() {
+        if ("record".equals(mode())) {
+            if (recorded.get() == 0) return "";
+            return "recorded " + recorded.get() + " response(s), " + (recordedBytes.get() / 1024) + " KB into " + cacheDir();
+        }
+        long h = hits.get(), m = misses.get();
+        if (h + m == 0) return "";
+        StringBuilder sb = new StringBuilder();
+        sb.append("hits=").append(h).append(", misses=").append(m)
+                .append(", hit rate=").append(Math.round(100.0 * h / (h + m))).append('%');
+        List<Map.Entry<String, AtomicLong>> missed = new ArrayList<>(missedUrls.entrySet());
+        missed.sort((a, b) -> Long.compare(b.getValue().get(), a.getValue().get()));
+        for (int i = 0; i < Math.min(5, missed.size()); i++) {
+            sb.append(i == 0 ? "; most missed: " : ", ").append(missed.get(i).getKey())
+                    .append('=').append(missed.get(i).getValue().get());
+        }
+        return sb.toString();
+    }
+
+    private static List<Map<String, Object>> keptHeaders(Object raw) {
+        List<Map<String, Object>> out = new ArrayList<>();
+        if (!(raw instanceof List)) return out;
+        for (Object o : (List<?>) raw) {
+            if (!(o instanceof Map)) continue;
+            Map<?, ?> h = (Map<?, ?>) o;
+            String name = String.valueOf(h.get("name"));
+            if (DROPPED_HEADERS.contains(name.toLowerCase())) continue;
+            out.add(Map.of("name", name, "value", String.valueOf(h.get("value"))));
+        }
+        return out;
+    }
+
+    private static String key(String method, String url) {
+        // fragments never reach the server
+        int hash = url.indexOf('#');
+        return method.toUpperCase() + " " + (hash >= 0 ? url.substring(0, hash) : url);
+    }
+
+    private static Path objectPath(String sha) {
+        return cacheDir().resolve("objects").resolve(sha.substring(0, 2)).resolve(sha);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded stand-in for automationexercise.com, so the suite can run against localhost without network.
+ *
+ * site.mode=local starts it at suite start and points base.url at it (page objects build their URLs from
+ * base.url through ConfigReader.url). Fixture pages live under site.dir (default src/test/resources/site) and
+ * keep the live site's DOM structure; {{header}} / {{footer}} pull in the shared fragments. Login, signup,
+ * account creation and the contact form are handled in memory; cart, subscription and search run in the
+ * fixture's site.js as on the live site.
+ */
+public final class LocalSite {
+
+    private static final Map<String, String> PAGES = Map.of(
+            "/", "index.html",
+            "/products", "products.html",
+            "/view_cart", "view_cart.html",
+            "/login", "login.html",
+            "/signup", "login.html",
+            "/contact_us", "contact_us.html",
+            "/api_list", "api_list.html",
+            "/test_cases", "test_cases.html",
+            "/video_tutorials", "video_tutorials.html",
+            "/account_created", "account_created.html");
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+    private static String baseUrl;
+
+    // fixture files are read once; the server answers from memory
+    private static final Map<String, byte[]> files = new ConcurrentHashMap<>();
+    // email -> {password, name}
+    private static final Map<String, String[]> accounts = new ConcurrentHashMap<>();
+    private static final LongAdder requests = new LongAdder();
+    private static final LongAdder serveNanos = new LongAdder();
+
+    private LocalSite() { /* utility */ }
+
+    public static boolean isConfigured() {
+        return "local".equalsIgnoreCase(String.valueOf(ConfigReader.get("site.mode")).trim());
+    }
+
+    /**
+     * Start the site when site.mode=local and point base.url at it. Returns the base URL, or null when the run
+     * targets the live site. Calling it again returns the running instance.
+     */
+    public static synchronized String startIfConfigured() {
+        if (!isConfigured()) return null;
+        if (server != null) return baseUrl;
+        try {
+            loadAccounts();
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", ConfigReader.getInt("site.port", 0)), 0);
+            AtomicInteger n = new AtomicInteger();
+            executor = Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "local-site-" + n.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+            server.setExecutor(executor);
+            server.createContext("/", LocalSite::handle);
+            server.start();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not start the local site", e);
+        }
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        // ConfigReader gives system properties precedence, so every later base.url lookup sees the local site
+        System.setProperty("base.url", baseUrl);
+        System.out.println("[LocalSite] Serving " + siteDir().toAbsolutePath() + " at " + baseUrl);
+        return baseUrl;
+    }
+
+    public static synchronized void stop() {
+        if (server == null) return;
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        System.out.println("[LocalSite] Stopped");
+    }
+
+    public static String stats() {
+        long n = requests.sum();
+        if (n == 0) return "";
+        return "requests=" + n + ", avg=" + (TimeUnit.NANOSECONDS.toMicros(serveNanos.sum()) / n) + "us";
+    }
+
+    private static Path siteDir() {
+        String dir = ConfigReader.get("site.dir");
+        return Paths.get(dir == null || dir.trim().isEmpty() ? "src/test/resources/site" : dir.trim());
+    }
+
+    /* -------------------------
+       Request handling
+       ------------------------- */
+
+    private static void handle(HttpExchange ex) throws IOException {
+        long start = System.nanoTime();
+        try {
+            String path = ex.getRequestURI().getPath();
+            String method = ex.getRequestMethod().toUpperCase();
+            if (path.length() > 1 && path.endsWith("/")) path = path.substring(0, path.length() - 1);
+
+            if (path.startsWith("/static/")) {
+                serveStatic(ex, path.substring(1));
+            } else if ("POST".equals(method) && "/login".equals(path)) {
+                login(ex);
+            } else if ("POST".equals(method) && "/signup".equals(path)) {
+                signup(ex);
+            } else if ("POST".equals(method) && "/create_account".equals(path)) {
+                createAccount(ex);
+            } else if ("POST".equals(method) && "/contact_us".equals(path)) {
+                drain(ex);
+                page(ex, 200, "contact_us.html", Map.of("contact_status",
+                        "<div class=\"status alert alert-success\">Success! Your details have been submitted successfully.</div>"));
+            } else if ("/logout".equals(path)) {
+                redirect(ex, "/login", "session=; Path=/; Max-Age=0");
+            } else if ("/delete_account".equals(path)) {
+                String user = currentUser(ex);
+                if (user != null) accounts.remove(user);
+                ex.getResponseHeaders().add("Set-Cookie", "session=; Path=/; Max-Age=0");
+                page(ex, 200, "account_deleted.html", Map.of());
+            } else if (path.startsWith("/product_details/")) {
+                page(ex, 200, "product_details.html", Map.of());
+            } else if (path.startsWith("/brand_products/") || path.startsWith("/category_products/")) {
+                page(ex, 200, "products.html", Map.of());
+            } else if (PAGES.containsKey(path)) {
+                page(ex, 200, PAGES.get(path), Map.of());
+            } else {
+                page(ex, 404, "404.html", Map.of());
+            }
+        } catch (Exception e) {
+            System.err.println("[LocalSite] " + ex.getRequestURI() + " failed: " + e.getMessage());
+            try {
+                send(ex, 500, "text/plain", ("error: " + e.getMessage()).getBytes(StandardCharsets.UTF_8));
+            } catch (IOException ignored) { /* response already started */ }
+        } finally {
+            ex.close();
+            requests.increment();
+            serveNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static void login(HttpExchange ex) throws IOException {
+        Map<String, String> form = readForm(ex);
+        String email = form.getOrDefault("email", "").trim().toLowerCase();
+        String[] account = accounts.get(email);
+        if (account != null && account[0].equals(form.get("password"))) {
+            redirect(ex, "/", "session=" + encode(email) + "; Path=/");
+            return;
+        }
+        page(ex, 200, "login.html", Map.of("login_error", "<p style=\"color: red;\">Your email or password is incorrect!</p>"));
+    }
+
+    private static void signup(HttpExchange ex) throws IOException {
+        Map<String, String> form = readForm(ex);
+        String email = form.getOrDefault("email", "").trim();
+        if (accounts.containsKey(email.toLowerCase())) {
+            page(ex, 200, "login.html", Map.of("signup_error", "<p style=\"color: red;\">Email Address already exist!</p>"));
+            return;
+        }
+        page(ex, 200, "signup.html", Map.of("name", escape(form.getOrDefault("name", "")), "email", escape(email)));
+    }
+
+    private static void createAccount(HttpExchange ex) throws IOException {
+        Map<String, String> form = readForm(ex);
+        String email = form.getOrDefault("email", "").trim().toLowerCase();
+        accounts.put(email, new String[]{form.getOrDefault("password", ""), form.getOrDefault("name", "")});
+        // the live site logs the new user in straight away
+        redirect(ex, "/account_created", "session=" + encode(email) + "; Path=/");
+    }
+
+    /**
+     * Render a fixture page: shared header/footer, the login state in the nav bar and page-specific slots.
+     */
+    private static void page(HttpExchange ex, int status, String file, Map<String, String> slots) throws IOException {
+        String html = text(file)
+                .replace("{{header}}", text("_header.html"))
+                .replace("{{footer}}", text("_footer.html"))
+                .replace("{{user_nav}}", userNav(currentUser(ex)));
+        for (Map.Entry<String, String> s : slots.entrySet()) {
+            html = html.replace("{{" + s.getKey() + "}}", s.getValue());
+        }
+        // unused slots render empty
+        html = html.replaceAll("\\{\\{[a-z_]+}}", "");
+        send(ex, status, "text/html; charset=utf-8", html.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String userNav(String user) {
+        String indent = "                                ";
+        if (user == null) {
+            return indent + "<li><a href=\"/login\"><i class=\"fa fa-lock\"></i> Signup / Login</a></li>";
+        }
+        String[] account = accounts.get(user);
+        String name = account == null ? user : account[1];
+        return indent + "<li><a href=\"/logout\"><i class=\"fa fa-lock\"></i> Logout</a></li>\n"
+                + indent + "<li><a href=\"/delete_account\"><i class=\"fa fa-trash-o\"></i> Delete Account</a></li>\n"
+                + indent + "<li><a><i class=\"fa fa-user\"></i> Logged in as <b>" + escape(name) + "</b></a></li>";
+    }
+
+    private static String currentUser(HttpExchange ex) {
+        List<String> cookies = ex.getRequestHeaders().get("Cookie");
+        if (cookies == null) return null;
+        for (String header : cookies) {
+            for (String c : header.split(";")) {
+                String[] kv = c.trim().split("=", 2);
+                if (kv.length == 2 && "session".equals(kv[0]) && !kv[1].isEmpty()) {
+                    String email = URLDecoder.decode(kv[1], StandardCharsets.UTF_8);
+                    return accounts.containsKey(email) ? email : null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void serveStatic(HttpExchange ex, String relative) throws IOException {
+        byte[] body = read(relative);
+        if (body == null) {
+            send(ex, 404, "text/plain", "not found".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        ex.getResponseHeaders().add("Cache-Control", "max-age=3600");
+        send(ex, 200, contentType(relative), body);
+    }
+
+    private static void redirect(HttpExchange ex, String location, String cookie) throws IOException {
+        if (cookie != null) ex.getResponseHeaders().add("Set-Cookie", cookie);
+        ex.getResponseHeaders().add("Location", location);
+        ex.sendResponseHeaders(302, -1);
+    }
+
+    private static void send(HttpExchange ex, int status, String contentType, byte[] body) throws IOException {
+        ex.getResponseHeaders().set("Content-Type", contentType);
+        ex.sendResponseHeaders(status, body.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    /* -------------------------
+       Helpers
+       ------------------------- */
+
+    private static String text(String file) {
+        byte[] b = read(file);
+        if (b == null) throw new IllegalStateException("Missing fixture " + siteDir().resolve(file));
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] read(String relative) {
+        if (relative.contains("..")) return null;
+        return files.computeIfAbsent(relative, f -> {
+            try {
+                Path p = siteDir().resolve(f);
+                return Files.isRegularFile(p) ? Files.readAllBytes(p) : null;
+            } catch (IOException e) {
+                return null;
+            }
+        });
+    }
+
+    private static Map<String, String> readForm(HttpExchange ex) throws IOException {
+        Map<String, String> form = new HashMap<>();
+        String body;
+        try (InputStream in = ex.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        for (String pair : body.split("&")) {
+            if (pair.isEmpty()) continue;
+            String[] kv = pair.split("=", 2);
+            form.put(URLDecoder.decode(kv[0], StandardCharsets.UTF_8),
+                    kv.length > 1 ? URLDecoder.decode(kv[1], StandardCharsets.UTF_8) : "");
+        }
+        return form;
+    }
+
+    private static void drain(HttpExchange ex) throws IOException {
+        try (InputStream in = ex.getRequestBody()) {
+            in.readAllBytes();
+        }
+    }
+
+    private static void loadAccounts() {
+        Path file = siteDir().resolve("accounts.tsv");
+        if (!Files.isRegularFile(file)) return;
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] f = line.split("\t");
+                if (f.length >= 3) accounts.put(f[0].trim().toLowerCase(), new String[]{f[1], f[2]});
+            }
+        } catch (IOException e) {
+            System.err.println("[LocalSite] Could not read " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static String contentType(String file) {
+        if (file.endsWith(".css")) return "text/css; charset=utf-8";
+        if (file.endsWith(".js")) return "application/javascript; charset=utf-8";
+        if (file.endsWith(".svg")) return "image/svg+xml";
+        if (file.endsWith(".png")) return "image/png";
+        if (file.endsWith(".jpg")) return "image/jpeg";
+        return "application/octet-stream";
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+
+    private static String escape(String s) {
+        return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
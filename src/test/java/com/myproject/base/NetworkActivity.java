@@ -0,0 +1,70 @@
+package com.myproject.base;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the browser's in-flight requests over CDP (Network.requestWillBeSent / loadingFinished / loadingFailed) so
+ * PageReadiness can wait for "N ms of network quiet" without asking the page. Registered with FetchInterceptor
+ * like the other CDP handlers; it pauses nothing.
+ */
+public class NetworkActivity implements FetchInterceptor.Handler {
+
+    private static final Map<FetchInterceptor, NetworkActivity> byInterceptor =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile long lastActivity = System.currentTimeMillis();
+
+    @Override
+    public List<Map<String, Object>> patterns() {
+        return List.of();
+    }
+
+    @Override
+    public void attached(FetchInterceptor fetch) {
+        fetch.send("Network.enable", Map.of());
+        fetch.on("Network.requestWillBeSent", params -> {
+            inFlight.add(String.valueOf(params.get("requestId")));
+            lastActivity = System.currentTimeMillis();
+        });
+        fetch.on("Network.loadingFinished", this::settled);
+        fetch.on("Network.loadingFailed", this::settled);
+        byInterceptor.put(fetch, this);
+    }
+
+    private void settled(Map<String, Object> params) {
+        inFlight.remove(String.valueOf(params.get("requestId")));
+        lastActivity = System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean handle(FetchInterceptor.PausedRequest request, FetchInterceptor fetch) {
+        return false;
+    }
+
+    /**
+     * The tracker of this browser, or null when it has no CDP session (e.g. Firefox).
+     */
+    public static NetworkActivity of(WebDriver driver) {
+        FetchInterceptor fetch = FetchInterceptor.of(CommandCounter.unwrap(driver));
+        return fetch == null ? null : byInterceptor.get(fetch);
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Milliseconds since a request last started or ended.
+     */
+    public long quietFor() {
+        return System.currentTimeMillis() - lastActivity;
+    }
+}
@@ -0,0 +1,318 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared "page is ready" wait used by every page object after a navigation or a click that loads a page.
+ *
+ * A Spec lists the phases to wait for, in order: DOM_CONTENT_LOADED, LOAD, NETWORK_IDLE (no request started or
+ * finished for a quiet period) and SELECTOR (a page-specific element is displayed). The DOM phases resolve in the
+ * browser on the DOMContentLoaded/load events (one async script, no polling). Network quiet comes from the CDP
+ * request tracker (NetworkActivity) in Chrome, and from Resource Timing entries in the page otherwise.
+ *
+ * page.ready.until              - default phases, comma separated: domcontentloaded, load, networkidle (default load;
+ *                                 domcontentloaded under the FAST profile, whose EAGER get() already returns there)
+ * page.ready.network.quiet.ms   - quiet period for networkidle (default 500)
+ * page.ready.network.max.inflight - requests allowed to stay open during the quiet period (default 0)
+ * page.ready.timeout.ms         - bound for all phases together (default 10000)
+ * page.ready.slow.ms            - waits longer than this are printed with their phase timings (default 5000)
+ *
+ * Failures never throw: the Result says which phase did not finish and the page's own checks report the rest.
+ */
+public final class PageReadiness {
+
+    public enum Phase { DOM_CONTENT_LOADED, LOAD, NETWORK_IDLE, SELECTOR }
+
+    // arguments[0]: 'domcontentloaded' | 'load'; arguments[1]: timeout ms.
+    // Returns the navigation timing of both DOM events (ms since navigation start) once the wanted one is done.
+    private static final String DOM_SCRIPT =
+            "var want = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1], over = false;\n" +
+            "function nav() { return performance.getEntriesByType('navigation')[0]; }\n" +
+            "function reached() {\n" +
+            "  if (want === 'domcontentloaded') return document.readyState !== 'loading';\n" +
+            "  if (document.readyState !== 'complete') return false;\n" +
+            "  var n = nav(); return !n || n.loadEventEnd > 0;\n" +
+            "}\n" +
+            "function finish(ok) {\n" +
+            "  if (over) return; over = true; var n = nav() || {};\n" +
+            "  done({ok: ok, dcl: Math.round(n.domContentLoadedEventEnd || 0), load: Math.round(n.loadEventEnd || 0)});\n" +
+            "}\n" +
+            "if (reached()) { finish(true); } else {\n" +
+            "  setTimeout(function () { finish(false); }, timeoutMs);\n" +
+            // loadEventEnd is only set after the load handlers return
+            "  var check = function () { setTimeout(function () { if (reached()) finish(true); }, 0); };\n" +
+            "  document.addEventListener('DOMContentLoaded', check);\n" +
+            "  window.addEventListener('load', check);\n" +
+            "}";
+
+    // arguments[0]: quiet ms; arguments[1]: timeout ms. Resolves once no resource finished loading for the quiet
+    // period. Only sees completed requests, so it is the fallback when there is no CDP tracker.
+    private static final String QUIET_SCRIPT =
+            "var quiet = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];\n" +
+            "var start = performance.now(), last = 0, timer = null, over = false, po = null;\n" +
+            "performance.getEntriesByType('resource').forEach(function (e) { last = Math.max(last, e.responseEnd); });\n" +
+            "var n = performance.getEntriesByType('navigation')[0]; if (n) last = Math.max(last, n.loadEventEnd);\n" +
+            "function finish(ok) { if (over) return; over = true; clearTimeout(timer); if (po) po.disconnect(); done({ok: ok}); }\n" +
+            "function arm() {\n" +
+            "  clearTimeout(timer);\n" +
+            "  var now = performance.now();\n" +
+            "  if (now - last >= quiet) return finish(true);\n" +
+            "  if (now - start >= timeoutMs) return finish(false);\n" +
+            "  timer = setTimeout(arm, Math.min(quiet - (now - last), timeoutMs - (now - start)));\n" +
+            "}\n" +
+            "try {\n" +
+            "  po = new PerformanceObserver(function (list) {\n" +
+            "    list.getEntries().forEach(function (e) { last = Math.max(last, e.responseEnd); }); arm();\n" +
+            "  });\n" +
+            "  po.observe({type: 'resource'});\n" +
+            "} catch (e) {}\n" +
+            "arm();";
+
+    private static final long CDP_POLL_MS = 50;
+
+    // page -> per phase {count, total ms}, plus waits and timeouts
+    private static final Map<String, Map<String, long[]>> perPage = new ConcurrentHashMap<>();
+
+    private PageReadiness() { /* utility */ }
+
+    /**
+     * What "ready" means for a page. Start from defaults() (config) or of(...) and add a page-specific selector.
+     */
+    public static final class Spec {
+        private final List<Phase> phases = new ArrayList<>();
+        private Duration quiet = Duration.ofMillis(ConfigReader.getInt("page.ready.network.quiet.ms", 500));
+        private int maxInFlight = ConfigReader.getInt("page.ready.network.max.inflight", 0);
+        private Duration timeout = Duration.ofMillis(ConfigReader.getInt("page.ready.timeout.ms", 10_000));
+        private By selector;
+
+        private Spec() { }
+
+        /**
+         * The phases configured in page.ready.until. Unset: load, or domcontentloaded under ExecutionProfile.FAST,
+         * where waiting for load would undo the EAGER page load; pages add a selector for the content they need.
+         */
+        public static Spec defaults() {
+            Spec spec = new Spec();
+            String until = ConfigReader.get("page.ready.until");
+            if (until == null || until.isBlank()) {
+                until = ExecutionProfile.current() == ExecutionProfile.FAST ? "domcontentloaded" : "load";
+            }
+            for (String p : until.split(",")) {
+                switch (p.trim().toLowerCase(Locale.ROOT)) {
+                    case "domcontentloaded": spec.phases.add(Phase.DOM_CONTENT_LOADED); break;
+                    case "load": spec.phases.add(Phase.LOAD); break;
+                    case "networkidle": spec.phases.add(Phase.NETWORK_IDLE); break;
+                    case "": break;
+                    default: throw new IllegalArgumentException("Unknown page.ready.until phase: " + p);
+                }
+            }
+            return spec;
+        }
+
+        public static Spec of(Phase... phases) {
+            Spec spec = new Spec();
+            spec.phases.addAll(List.of(phases));
+            return spec;
+        }
+
+        /** Also wait until {@code locator} is displayed. */
+        public Spec selector(By locator) {
+            this.selector = locator;
+            if (!phases.contains(Phase.SELECTOR)) phases.add(Phase.SELECTOR);
+            return this;
+        }
+
+        public Spec networkQuiet(Duration quiet, int maxInFlight) {
+            this.quiet = quiet;
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public Spec timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /** True when NETWORK_IDLE is one of the default phases, so drivers get a CDP request tracker. */
+        static boolean networkIdleConfigured() {
+            return defaults().phases.contains(Phase.NETWORK_IDLE);
+        }
+    }
+
+    /**
+     * Outcome of one wait: how long each phase took and which one (if any) did not finish in time.
+     */
+    public static final class Result {
+        private final Map<String, Long> phases = new LinkedHashMap<>();
+        private String failedPhase;
+        private long totalMs;
+
+        public boolean isReady() { return failedPhase == null; }
+        public String getFailedPhase() { return failedPhase; }
+        public long getTotalMs() { return totalMs; }
+        /** Phase -> ms; dcl/load are browser navigation timings, the others time waited after the previous phase. */
+        public Map<String, Long> getPhases() { return phases; }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(isReady() ? "ready" : "not ready (" + failedPhase + ")");
+            sb.append(" in ").append(totalMs).append("ms");
+            for (Map.Entry<String, Long> e : phases.entrySet()) {
+                sb.append(", ").append(e.getKey()).append('=').append(e.getValue()).append("ms");
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Wait with the configured default phases.
+     */
+    public static Result await(WebDriver driver, String page) {
+        return await(driver, Spec.defaults(), page);
+    }
+
+    public static Result await(WebDriver driver, Spec spec, String page) {
+        Result result = new Result();
+        long start = System.currentTimeMillis();
+        long deadline = start + spec.timeout.toMillis();
+        for (Phase phase : spec.phases) {
+            long phaseStart = System.currentTimeMillis();
+            long remaining = Math.max(0, deadline - phaseStart);
+            boolean ok;
+            try {
+                switch (phase) {
+                    case DOM_CONTENT_LOADED: ok = domPhase(driver, "domcontentloaded", remaining, result); break;
+                    case LOAD: ok = domPhase(driver, "load", remaining, result); break;
+                    case NETWORK_IDLE: ok = networkIdle(driver, spec, remaining, result); break;
+                    default: ok = selector(driver, spec.selector, remaining, result); break;
+                }
+            } catch (Exception e) {
+                ok = false;
+            }
+            if (!ok) {
+                result.failedPhase = phase.name().toLowerCase(Locale.ROOT);
+                break;
+            }
+        }
+        result.totalMs = System.currentTimeMillis() - start;
+        record(page, result);
+        if (result.totalMs > ConfigReader.getInt("page.ready.slow.ms", 5000) || !result.isReady()) {
+            System.out.println("[PageReadiness] " + page + " " + result);
+        }
+        return result;
+    }
+
+    private static boolean domPhase(WebDriver driver, String want, long timeoutMs, Result result) {
+        Object raw = ((JavascriptExecutor) driver).executeAsyncScript(DOM_SCRIPT, want, timeoutMs);
+        if (!(raw instanceof Map)) return false;
+        Map<?, ?> m = (Map<?, ?>) raw;
+        long dcl = number(m.get("dcl")), load = number(m.get("load"));
+        if (dcl > 0) result.phases.put("dcl", dcl);
+        if (load > 0) result.phases.put("load", load);
+        return Boolean.TRUE.equals(m.get("ok"));
+    }
+
+    private static boolean networkIdle(WebDriver driver, Spec spec, long timeoutMs, Result result) {
+        long start = System.currentTimeMillis();
+        boolean ok;
+        NetworkActivity network = NetworkActivity.of(driver);
+        if (network != null) {
+            // events arrive on the DevTools thread, so this loop costs no WebDriver calls
+            long deadline = start + timeoutMs;
+            while (true) {
+                if (network.inFlight() <= spec.maxInFlight && network.quietFor() >= spec.quiet.toMillis()) {
+                    ok = true;
+                    break;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    ok = false;
+                    break;
+                }
+                try {
+                    Thread.sleep(CDP_POLL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    ok = false;
+                    break;
+                }
+            }
+        } else {
+            Object raw = ((JavascriptExecutor) driver).executeAsyncScript(QUIET_SCRIPT, spec.quiet.toMillis(), timeoutMs);
+            ok = raw instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) raw).get("ok"));
+        }
+        result.phases.put("networkIdle", System.currentTimeMillis() - start);
+        return ok;
+    }
+
+    private static boolean selector(WebDriver driver, By locator, long timeoutMs, Result result) {
+        long start = System.currentTimeMillis();
+        boolean ok = BatchProbe.await(driver, locator, BatchProbe.ElementState::isDisplayed,
+                Duration.ofMillis(timeoutMs)).isDisplayed();
+        result.phases.put("selector", System.currentTimeMillis() - start);
+        return ok;
+    }
+
+    private static long number(Object o) {
+        return o instanceof Number ? ((Number) o).longValue() : 0;
+    }
+
+    private static void record(String page, Result result) {
+        Map<String, long[]> phases = perPage.computeIfAbsent(page, k -> new ConcurrentHashMap<>());
+        Map<String, Long> values = new LinkedHashMap<>(result.phases);
+        values.put("total", result.totalMs);
+        for (Map.Entry<String, Long> e : values.entrySet()) {
+            long[] c = phases.computeIfAbsent(e.getKey(), k -> new long[3]);
+            synchronized (c) {
+                c[0]++;
+                c[1] += e.getValue();
+                c[2] = Math.max(c[2], e.getValue());
+            }
+        }
+        if (!result.isReady()) {
+            long[] c = phases.computeIfAbsent("notReady", k -> new long[3]);
+            synchronized (c) {
+                c[0]++;
+            }
+        }
+    }
+
+    /**
+     * Average phase timings per page, slowest average total first, for RunSummary.
+     */
+    public static String summary() {
+        if (perPage.isEmpty()) return "";
+        List<Map.Entry<String, Map<String, long[]>>> pages = new ArrayList<>(perPage.entrySet());
+        pages.sort((a, b) -> Long.compare(avg(b.getValue().get("total")), avg(a.getValue().get("total"))));
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Map<String, long[]>> page : pages) {
+            Map<String, long[]> p = page.getValue();
+            long[] total = p.get("total");
+            sb.append(sb.length() == 0 ? "" : "; ").append(page.getKey())
+                    .append(": waits=").append(total == null ? 0 : total[0])
+                    .append(", avg=").append(avg(total)).append("ms, max=").append(total == null ? 0 : total[2]).append("ms");
+            for (String phase : List.of("dcl", "load", "networkIdle", "selector")) {
+                if (p.containsKey(phase)) sb.append(", ").append(phase).append('=').append(avg(p.get(phase))).append("ms");
+            }
+            if (p.containsKey("notReady")) sb.append(", notReady=").append(p.get("notReady")[0]);
+        }
+        return sb.toString();
+    }
+
+    private static long avg(long[] c) {
+        if (c == null) return 0;
+        synchronized (c) {
+            return c[0] == 0 ? 0 : c[1] / c[0];
+        }
+    }
+}
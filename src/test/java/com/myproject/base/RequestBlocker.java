@@ -0,0 +1,159 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Blocks third-party ad/analytics requests in Chrome before they are sent (CDP Fetch.failRequest), so
+ * navigations stop waiting on traffic the tests never look at.
+ *
+ * network.block.enabled  - on/off (default on)
+ * network.block.patterns - comma separated URL globs (* and ?) to block
+ * network.allow.patterns - URL globs that are never blocked, even when a block pattern matches
+ *
+ * Blocked requests are counted per page (the top-level document they were made from) with an estimate of the
+ * bytes saved, based on typical transfer sizes per resource type (a blocked response is never downloaded, so
+ * its real size is unknown).
+ */
+public class RequestBlocker implements FetchInterceptor.Handler {
+
+    // rough transfer sizes of third-party responses by Network.ResourceType
+    private static final Map<String, Long> ESTIMATED_BYTES = Map.of(
+            "Script", 60_000L,
+            "Document", 120_000L,   // ad iframes
+            "Image", 15_000L,
+            "Stylesheet", 20_000L,
+            "Font", 30_000L,
+            "Media", 200_000L,
+            "XHR", 3_000L,
+            "Fetch", 3_000L);
+    private static final long ESTIMATED_OTHER = 5_000L;
+
+    // page -> {blocked requests, estimated bytes}
+    private static final Map<String, long[]> perPage = new ConcurrentHashMap<>();
+    private static final AtomicLong totalBlocked = new AtomicLong();
+    private static final AtomicLong totalBytes = new AtomicLong();
+
+    private final List<String> blockGlobs;
+    private final List<Pattern> allow;
+    // top-level document of this browser, updated on every main-frame navigation
+    private volatile String currentPage = "(unknown)";
+
+    public RequestBlocker() {
+        this.blockGlobs = list(ConfigReader.get("network.block.patterns"));
+        this.allow = new ArrayList<>();
+        for (String glob : list(ConfigReader.get("network.allow.patterns"))) allow.add(globToRegex(glob));
+    }
+
+    public static boolean enabled() {
+        return !"false".equalsIgnoreCase(ConfigReader.get("network.block.enabled"))
+                && !list(ConfigReader.get("network.block.patterns")).isEmpty();
+    }
+
+    @Override
+    public List<Map<String, Object>> patterns() {
+        // Chrome matches these itself, so only blocklisted URLs are ever paused
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (String glob : blockGlobs) out.add(Map.of("urlPattern", glob, "requestStage", "Request"));
+        return out;
+    }
+
+    @Override
+    public void attached(FetchInterceptor fetch) {
+        fetch.send("Page.enable", Map.of());
+        fetch.on("Page.frameNavigated", params -> {
+            Object frame = params.get("frame");
+            if (frame instanceof Map && ((Map<?, ?>) frame).get("parentId") == null) {
+                currentPage = pageKey(String.valueOf(((Map<?, ?>) frame).get("url")));
+            }
+        });
+    }
+
+    @Override
+    public boolean handle(FetchInterceptor.PausedRequest request, FetchInterceptor fetch) {
+        if (request.isResponse() || isAllowed(request.getUrl())) return false;
+        fetch.failRequest(request, "BlockedByClient");
+
+        long bytes = ESTIMATED_BYTES.getOrDefault(request.getResourceType(), ESTIMATED_OTHER);
+        long[] counts = perPage.computeIfAbsent(currentPage, k -> new long[2]);
+        synchronized (counts) {
+            counts[0]++;
+            counts[1] += bytes;
+        }
+        totalBlocked.incrementAndGet();
+        totalBytes.addAndGet(bytes);
+        return true;
+    }
+
+    private boolean isAllowed(String url) {
+        // ad URLs often carry the page URL in their query string; match the allowlist without it
+        String target = pageKey(url);
+        for (Pattern p : allow) {
+            if (p.matcher(target).matches()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Blocked requests and estimated bytes saved for one page (scheme/host/path, no query); {0, 0} if none.
+     */
+    public static long[] blockedOn(String url) {
+        long[] counts = perPage.get(pageKey(url));
+        if (counts == null) return new long[2];
+        synchronized (counts) {
+            return counts.clone();
+        }
+    }
+
+    /**
+     * Totals plus the pages with the most blocked requests, for RunSummary.
+     */
+    public static String summary() {
+        if (totalBlocked.get() == 0) return "";
+        List<Map.Entry<String, long[]>> pages = new ArrayList<>(perPage.entrySet());
+        pages.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        StringBuilder sb = new StringBuilder();
+        sb.append(totalBlocked.get()).append(" request(s), ~").append(totalBytes.get() / 1024).append(" KB saved");
+        for (int i = 0; i < Math.min(5, pages.size()); i++) {
+            long[] c = pages.get(i).getValue();
+            sb.append(i == 0 ? "; top pages: " : ", ").append(pages.get(i).getKey())
+                    .append('=').append(c[0]).append(" (~").append(c[1] / 1024).append(" KB)");
+        }
+        return sb.toString();
+    }
+
+    static String pageKey(String url) {
+        if (url == null) return "(unknown)";
+        int cut = url.length();
+        int q = url.indexOf('?');
+        int h = url.indexOf('#');
+        if (q >= 0) cut = q;
+        if (h >= 0 && h < cut) cut = h;
+        return url.substring(0, cut);
+    }
+
+    static Pattern globToRegex(String glob) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            if (c == '*') sb.append(".*");
+            else if (c == '?') sb.append('.');
+            else sb.append(Pattern.quote(String.valueOf(c)));
+        }
+        return Pattern.compile(sb.toString(), Pattern.CASE_INSENSITIVE);
+    }
+
+    private static List<String> list(String csv) {
+        List<String> out = new ArrayList<>();
+        if (csv == null) return out;
+        for (String s : csv.split(",")) {
+            if (!s.trim().isEmpty()) out.add(s.trim());
+        }
+        return out;
+    }
+}
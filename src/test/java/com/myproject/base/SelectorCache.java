@@ -0,0 +1,284 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers which branch of a fallback locator ("a, b, c" CSS unions, "x | y" XPath unions) matched on each page
+ * object, and looks that branch up first next time. The browser then evaluates one selector instead of every
+ * branch; when the remembered branch finds nothing the full union is used and the winner is learned again. The
+ * winner is the branch holding the union's first element, so both lookups start with the same element.
+ *
+ * Winners are kept per page object class + locator, and persisted to locator.cache.file between runs.
+ * summary() reports the hit rate and an estimate of the time saved (full-union lookup time minus winner lookup
+ * time, per hit).
+ */
+public final class SelectorCache {
+
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    // "page class|locator" -> winning branch
+    private static final Map<String, String> winners = new ConcurrentHashMap<>();
+
+    // arguments: element, search context element (null: document), branches; returns the first branch holding it
+    private static final String CSS_BRANCH =
+            "var el = arguments[0], bs = arguments[2];\n" +
+            "for (var i = 0; i < bs.length; i++) { try { if (el.matches(bs[i])) return i; } catch (e) {} }\n" +
+            "return -1;";
+    private static final String XPATH_BRANCH =
+            "var el = arguments[0], ctx = arguments[1] || document, bs = arguments[2];\n" +
+            "for (var i = 0; i < bs.length; i++) {\n" +
+            "  try {\n" +
+            "    var r = document.evaluate(bs[i], ctx, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n" +
+            "    for (var j = 0; j < r.snapshotLength; j++) if (r.snapshotItem(j) === el) return i;\n" +
+            "  } catch (e) {}\n" +
+            "}\n" +
+            "return -1;";
+    private static final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private static volatile boolean loaded;
+
+    private SelectorCache() { /* utility */ }
+
+    public static boolean enabled() {
+        return !"false".equalsIgnoreCase(ConfigReader.get("locator.cache.enabled"));
+    }
+
+    /**
+     * findElements through the cache. Locators without alternatives go straight to the context.
+     */
+    public static List<WebElement> findElements(SearchContext context, By by) {
+        List<String> branches = enabled() ? branches(by) : List.of();
+        if (branches.size() < 2) return context.findElements(by);
+        load();
+
+        String key = caller() + "|" + by;
+        Stats s = stats.computeIfAbsent(key, k -> new Stats());
+        String winner = winners.get(key);
+        if (winner != null && branches.contains(winner)) {
+            long start = System.nanoTime();
+            List<WebElement> found = context.findElements(rebuild(by, winner));
+            s.winnerNanos.add(System.nanoTime() - start);
+            s.winnerLookups.increment();
+            if (!found.isEmpty()) {
+                s.hits.increment();
+                return found;
+            }
+        }
+
+        long start = System.nanoTime();
+        List<WebElement> found = context.findElements(by);
+        s.fullNanos.add(System.nanoTime() - start);
+        s.fullLookups.increment();
+        if (!found.isEmpty()) learn(context, by, key, branches, found.get(0));
+        return found;
+    }
+
+    /**
+     * The branch that matched the union's first element, so a cached lookup returns the same first element the
+     * union did; only runs after a full-union lookup found something.
+     */
+    private static void learn(SearchContext context, By by, String key, List<String> branches, WebElement first) {
+        int index = branchOf(context, by, branches, first);
+        if (index < 0) return;
+        String b = branches.get(index);
+        if (!b.equals(winners.put(key, b))) stats.get(key).learned.increment();
+    }
+
+    // one script call when the element can reach its driver, otherwise one lookup per branch
+    private static int branchOf(SearchContext context, By by, List<String> branches, WebElement first) {
+        WebDriver driver = first instanceof WrapsDriver ? ((WrapsDriver) first).getWrappedDriver() : null;
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                Object index = ((JavascriptExecutor) driver).executeScript(by instanceof By.ByXPath ? XPATH_BRANCH : CSS_BRANCH,
+                        first, context instanceof WebElement ? context : null, branches);
+                if (index instanceof Number && ((Number) index).intValue() >= 0) return ((Number) index).intValue();
+            } catch (WebDriverException ignored) {
+                // e.g. a selector the browser's matches() does not accept; the lookups below still work
+            }
+        }
+        for (int i = 0; i < branches.size(); i++) {
+            if (context.findElements(rebuild(by, branches.get(i))).contains(first)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Top-level alternatives of a CSS or XPath locator (commas / pipes inside brackets, parentheses and
+     * quotes do not split). Empty for other locator types.
+     */
+    static List<String> branches(By by) {
+        String text = by.toString();
+        int colon = text.indexOf(": ");
+        if (colon < 0) return List.of();
+        String selector = text.substring(colon + 2);
+        if (by instanceof By.ByCssSelector) return split(selector, ',');
+        if (by instanceof By.ByXPath) return split(selector, '|');
+        return List.of();
+    }
+
+    static List<String> split(String selector, char separator) {
+        List<String> out = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int from = 0;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (quote != 0) {
+                if (c == quote) quote = 0;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(' || c == '[') {
+                depth++;
+            } else if (c == ')' || c == ']') {
+                depth--;
+            } else if (c == separator && depth == 0) {
+                out.add(selector.substring(from, i).trim());
+                from = i + 1;
+            }
+        }
+        out.add(selector.substring(from).trim());
+        out.removeIf(String::isEmpty);
+        return out;
+    }
+
+    private static By rebuild(By original, String branch) {
+        return original instanceof By.ByXPath ? By.xpath(branch) : By.cssSelector(branch);
+    }
+
+    /**
+     * Page object (or test) class that asked for the lookup.
+     */
+    private static String caller() {
+        Optional<String> name = WALKER.walk(frames -> frames
+                .map(f -> f.getDeclaringClass())
+                .filter(c -> c != SelectorCache.class && c != ElementFinder.class)
+                .map(Class::getName)
+                .filter(n -> n.startsWith("com.myproject."))
+                .findFirst());
+        return name.orElse("?");
+    }
+
+    /* -------------------------
+       Persistence
+       ------------------------- */
+
+    private static Path file() {
+        String f = ConfigReader.get("locator.cache.file");
+        return Paths.get(f == null || f.trim().isEmpty() ? "reports/locator-cache.tsv" : f.trim());
+    }
+
+    private static synchronized void load() {
+        if (loaded) return;
+        loaded = true;
+        Path file = file();
+        if (!Files.isRegularFile(file)) return;
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] kv = line.split("\t", 2);
+                if (kv.length == 2) winners.putIfAbsent(kv[0], kv[1]);
+            }
+            System.out.println("[SelectorCache] Loaded " + winners.size() + " learned locator branch(es) from " + file);
+        } catch (IOException e) {
+            System.err.println("[SelectorCache] Could not read " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the learned winners for the next run.
+     */
+    public static synchronized void save() {
+        if (winners.isEmpty()) return;
+        Path file = file();
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, String> e : new java.util.TreeMap<>(winners).entrySet()) {
+                    w.write(e.getKey() + '\t' + e.getValue());
+                    w.newLine();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[SelectorCache] Could not write " + file + ": " + e.getMessage());
+        }
+    }
+
+    /* -------------------------
+       Reporting
+       ------------------------- */
+
+    /**
+     * Overall hit rate, estimated time saved and the most used locators, for RunSummary.
+     */
+    public static String summary() {
+        long lookups = 0, hits = 0, savedNanos = 0;
+        List<Map.Entry<String, Stats>> entries = new ArrayList<>(stats.entrySet());
+        for (Map.Entry<String, Stats> e : entries) {
+            Stats s = e.getValue();
+            lookups += s.lookups();
+            hits += s.hits.sum();
+            savedNanos += s.savedNanos();
+        }
+        if (lookups == 0) return "";
+        entries.sort((a, b) -> Long.compare(b.getValue().lookups(), a.getValue().lookups()));
+        StringBuilder sb = new StringBuilder();
+        sb.append("lookups=").append(lookups).append(", winner hits=").append(hits)
+                .append(" (").append(Math.round(100.0 * hits / lookups)).append("%)")
+                .append(", est. saved=").append(TimeUnit.NANOSECONDS.toMillis(savedNanos)).append("ms");
+        for (int i = 0; i < Math.min(5, entries.size()); i++) {
+            Stats s = entries.get(i).getValue();
+            sb.append(i == 0 ? "; top: " : ", ").append(shortKey(entries.get(i).getKey()))
+                    .append(' ').append(s.hits.sum()).append('/').append(s.lookups())
+                    .append(" saved ").append(TimeUnit.NANOSECONDS.toMillis(s.savedNanos())).append("ms");
+        }
+        return sb.toString();
+    }
+
+    private static String shortKey(String key) {
+        int bar = key.indexOf('|');
+        String cls = key.substring(0, bar);
+        String locator = key.substring(bar + 1);
+        if (locator.length() > 40) locator = locator.substring(0, 40) + "...";
+        return cls.substring(cls.lastIndexOf('.') + 1) + " [" + locator + "]";
+    }
+
+    private static final class Stats {
+        final LongAdder hits = new LongAdder();
+        final LongAdder learned = new LongAdder();
+        final LongAdder winnerLookups = new LongAdder();
+        final LongAdder winnerNanos = new LongAdder();
+        final LongAdder fullLookups = new LongAdder();
+        final LongAdder fullNanos = new LongAdder();
+
+        long lookups() {
+            // a winner miss falls through to a full lookup: count the call once
+            return hits.sum() + fullLookups.sum();
+        }
+
+        long savedNanos() {
+            long full = fullLookups.sum(), win = winnerLookups.sum();
+            if (full == 0 || win == 0) return 0;
+            long perLookup = fullNanos.sum() / full - winnerNanos.sum() / win;
+            return Math.max(0, perLookup) * hits.sum();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.myproject.base;
+
+import com.myproject.config.ConfigReader;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Browser-free evaluation tier for read-only checks ("is this element in the page?").
+ *
+ * Each page URL is fetched once per run and parsed into an in-memory DOM (jsoup). DomCheck.onServedHtml(...)
+ * checks are then answered from that snapshot: CSS and XPath locators are evaluated by jsoup, link
+ * text against the anchors' text. This is the HTML the server sends, so anything added by scripts after load, and
+ * anything about layout, visibility or clicks, needs a live browser instead.
+ *
+ * ui.static.mode=true - page objects answer their presence checks from snapshots instead of the browser.
+ * StaticDomCheckTest runs the declared checks against the snapshots on parallel data-provider threads either way.
+ */
+public final class StaticDom {
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(15))
+            .build();
+    // some sites serve a reduced page (or nothing) to unknown clients
+    static final String USER_AGENT =
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/115.0 Safari/537.36";
+
+    // url -> snapshot; a future so concurrent first requests share one fetch
+    private static final Map<String, CompletableFuture<Document>> snapshots = new ConcurrentHashMap<>();
+    private static final AtomicLong captureMillis = new AtomicLong();
+    private static final AtomicLong capturedBytes = new AtomicLong();
+    private static final AtomicLong evaluated = new AtomicLong();
+
+    private StaticDom() { /* utility */ }
+
+    public static boolean enabled() {
+        return "true".equalsIgnoreCase(ConfigReader.get("ui.static.mode"));
+    }
+
+    /**
+     * Parsed HTML of {@code url}, fetched on first use and kept for the rest of the run.
+     */
+    public static Document snapshot(String url) {
+        CompletableFuture<Document> mine = new CompletableFuture<>();
+        CompletableFuture<Document> f = snapshots.putIfAbsent(url, mine);
+        if (f == null) {
+            f = mine;
+            try {
+                mine.complete(capture(url));
+            } catch (RuntimeException e) {
+                // do not keep a failed capture; the next check tries again
+                snapshots.remove(url, mine);
+                mine.completeExceptionally(e);
+            }
+        }
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private static Document capture(String url) {
+        long start = System.currentTimeMillis();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("User-Agent", USER_AGENT)
+                    .header("Accept", "text/html")
+                    .GET().build();
+            HttpResponse<String> response = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new RuntimeException("HTTP " + response.statusCode() + " for " + url);
+            }
+            Document doc = Jsoup.parse(response.body(), response.uri().toString());
+            long ms = System.currentTimeMillis() - start;
+            captureMillis.addAndGet(ms);
+            capturedBytes.addAndGet(response.body().length());
+            System.out.println("[StaticDom] Captured " + url + " (" + response.body().length() / 1024 + " KB, " + ms + "ms)");
+            return doc;
+        } catch (IOException e) {
+            throw new RuntimeException("Could not capture " + url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while capturing " + url, e);
+        }
+    }
+
+    /**
+     * Elements of the snapshot of {@code url} matching {@code by}.
+     */
+    public static Elements select(String url, By by) {
+        evaluated.incrementAndGet();
+        Document doc = snapshot(url);
+        String text = by.toString();
+        int colon = text.indexOf(": ");
+        if (colon < 0) throw new IllegalArgumentException("Unsupported locator for static evaluation: " + by);
+        String value = text.substring(colon + 2);
+        switch (text.substring(0, colon)) {
+            case "By.cssSelector": return doc.select(value);
+            case "By.xpath": return doc.selectXpath(value);
+            case "By.id": {
+                Element e = doc.getElementById(value);
+                return e == null ? new Elements() : new Elements(e);
+            }
+            case "By.name": return doc.getElementsByAttributeValue("name", value);
+            case "By.className": return doc.getElementsByClass(value);
+            case "By.tagName": return doc.getElementsByTag(value);
+            case "By.linkText": return filterAnchors(doc, value, true);
+            case "By.partialLinkText": return filterAnchors(doc, value, false);
+            default: throw new IllegalArgumentException("Unsupported locator for static evaluation: " + by);
+        }
+    }
+
+    public static boolean exists(String url, By by) {
+        return !select(url, by).isEmpty();
+    }
+
+    private static Elements filterAnchors(Document doc, String text, boolean exact) {
+        Elements out = new Elements();
+        for (Element a : doc.getElementsByTag("a")) {
+            String t = a.text().trim();
+            if (exact ? t.equals(text) : t.contains(text)) out.add(a);
+        }
+        return out;
+    }
+
+    /**
+     * Snapshot count, capture cost and checks answered, for RunSummary.
+     */
+    public static String stats() {
+        long n = snapshots.size();
+        if (n == 0) return "";
+        return "snapshots=" + n + " (" + capturedBytes.get() / 1024 + " KB, " + captureMillis.get() + "ms to capture), "
+                + "checks answered offline=" + evaluated.get();
+    }
+}
@@ -0,0 +1,154 @@
+package com.myproject.listeners;
+
+import com.myproject.config.ConfigReader;
+import com.myproject.utils.TestHistoryStore;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlSuite;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Orders test methods longest-first from the recorded history (TestHistoryStore), so the slow tests start
+ * early and the run does not end with one thread grinding through a long data-driven method alone.
+ *
+ * - priority is kept: methods are ordered by priority first, longest-first only within a priority.
+ * - under parallel="classes"/"instances" whole classes are ordered by their total time, methods inside a
+ *   class keep their priority order.
+ * - dependsOnMethods: a method is never placed before a method it depends on.
+ *
+ * TestNG turns the returned order into its scheduling order, and its worker pool hands the next method in
+ * that order to whichever thread becomes free. Set lpt.ordering=false to keep TestNG's default order.
+ */
+public class LongestFirstInterceptor implements IMethodInterceptor {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if ("false".equalsIgnoreCase(ConfigReader.get("lpt.ordering"))) return methods;
+
+        TestHistoryStore.History history = TestHistoryStore.load(ConfigReader.getInt("history.runs", 10));
+        long defaultMs = ConfigReader.getInt("shard.default.ms", 30000);
+        Map<IMethodInstance, Long> est = new LinkedHashMap<>();
+        for (IMethodInstance mi : methods) {
+            est.put(mi, estimate(history, mi.getMethod(), defaultMs));
+        }
+
+        XmlSuite.ParallelMode mode = context.getSuite().getXmlSuite().getParallel();
+        boolean byClass = mode == XmlSuite.ParallelMode.CLASSES || mode == XmlSuite.ParallelMode.INSTANCES;
+
+        List<IMethodInstance> ordered;
+        if (byClass) {
+            Map<Class<?>, List<IMethodInstance>> groups = new LinkedHashMap<>();
+            Map<Class<?>, Long> groupMs = new LinkedHashMap<>();
+            for (IMethodInstance mi : methods) {
+                Class<?> c = mi.getMethod().getRealClass();
+                groups.computeIfAbsent(c, k -> new ArrayList<>()).add(mi);
+                groupMs.merge(c, est.get(mi), Long::sum);
+            }
+            List<Class<?>> classes = new ArrayList<>(groups.keySet());
+            classes.sort(Comparator.comparingLong((Class<?> c) -> groupMs.get(c)).reversed());
+            ordered = new ArrayList<>();
+            for (Class<?> c : classes) {
+                List<IMethodInstance> g = groups.get(c);
+                g.sort(Comparator.comparingInt(mi -> mi.getMethod().getPriority()));
+                ordered.addAll(g);
+            }
+        } else {
+            ordered = new ArrayList<>(methods);
+            ordered.sort(Comparator.comparingInt((IMethodInstance mi) -> mi.getMethod().getPriority())
+                    .thenComparing(Comparator.comparingLong((IMethodInstance mi) -> est.get(mi)).reversed()));
+        }
+        ordered = respectDependencies(ordered);
+
+        int threads = mode != null && mode.isParallel() ? Math.max(1, context.getSuite().getXmlSuite().getThreadCount()) : 1;
+        long before = simulate(methods, est, threads, byClass);
+        long after = simulate(ordered, est, threads, byClass);
+        RunSummary.register("Scheduling (" + context.getName() + ")", () ->
+                "longest-first on " + threads + " thread(s): estimated makespan " + before + "ms in default order -> "
+                        + after + "ms" + (history.isEmpty() ? " (no history yet, defaults used)" : ""));
+        return ordered;
+    }
+
+    private static long estimate(TestHistoryStore.History history, ITestNGMethod m, long defaultMs) {
+        String key = m.getRealClass().getName() + "#" + m.getMethodName();
+        long p50 = history.p50(key);
+        if (p50 < 0) return defaultMs;
+        return m.isDataDriven() ? history.expectedTotal(key) : p50;
+    }
+
+    /**
+     * Stable fix-up: a method whose same-class dependsOnMethods targets are not placed yet is held back
+     * until they are.
+     */
+    private static List<IMethodInstance> respectDependencies(List<IMethodInstance> ordered) {
+        Set<String> present = new HashSet<>();
+        for (IMethodInstance mi : ordered) present.add(qualified(mi.getMethod()));
+
+        List<IMethodInstance> out = new ArrayList<>(ordered.size());
+        Set<String> placed = new HashSet<>();
+        List<IMethodInstance> waiting = new ArrayList<>(ordered);
+        while (!waiting.isEmpty()) {
+            boolean progress = false;
+            for (int i = 0; i < waiting.size(); i++) {
+                IMethodInstance mi = waiting.get(i);
+                if (dependenciesPlaced(mi.getMethod(), placed, present)) {
+                    out.add(mi);
+                    placed.add(qualified(mi.getMethod()));
+                    waiting.remove(i);
+                    progress = true;
+                    break;
+                }
+            }
+            if (!progress) {
+                // cycle or unresolved name: leave the rest to TestNG as is
+                out.addAll(waiting);
+                break;
+            }
+        }
+        return out;
+    }
+
+    private static boolean dependenciesPlaced(ITestNGMethod m, Set<String> placed, Set<String> present) {
+        for (String dep : m.getMethodsDependedUpon()) {
+            // TestNG stores these fully qualified (com.x.FooTest.method)
+            if (present.contains(dep) && !placed.contains(dep)) return false;
+        }
+        return true;
+    }
+
+    private static String qualified(ITestNGMethod m) {
+        return m.getRealClass().getName() + "." + m.getMethodName();
+    }
+
+    /**
+     * List-scheduling estimate of the run length: each unit goes to the thread that frees up first.
+     */
+    private static long simulate(List<IMethodInstance> order, Map<IMethodInstance, Long> est, int threads, boolean byClass) {
+        List<Long> units = new ArrayList<>();
+        if (byClass) {
+            Map<Class<?>, Long> perClass = new LinkedHashMap<>();
+            for (IMethodInstance mi : order) perClass.merge(mi.getMethod().getRealClass(), est.get(mi), Long::sum);
+            units.addAll(perClass.values());
+        } else {
+            for (IMethodInstance mi : order) units.add(est.get(mi));
+        }
+        PriorityQueue<Long> free = new PriorityQueue<>();
+        for (int i = 0; i < threads; i++) free.add(0L);
+        long makespan = 0;
+        for (long u : units) {
+            long end = free.poll() + u;
+            makespan = Math.max(makespan, end);
+            free.add(end);
+        }
+        return makespan;
+    }
+}
@@ -0,0 +1,43 @@
+package com.myproject.listeners;
+
+import com.myproject.base.DriverPool;
+import com.myproject.config.ConfigReader;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies parallel.mode / thread.count (config.properties or -D) to every suite before it runs,
+ * so parallelism can be changed without editing testing.xml, e.g. -Dparallel.mode=methods -Dthread.count=6.
+ * Must be registered in the suite's &lt;listeners&gt; (or on the command line) to take effect.
+ */
+public class ParallelSuiteConfigurer implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String mode = ConfigReader.get("parallel.mode");
+        int threads = ConfigReader.getInt("thread.count", -1);
+
+        for (XmlSuite suite : suites) {
+            if (mode != null && !mode.trim().isEmpty()) {
+                XmlSuite.ParallelMode parallel = XmlSuite.ParallelMode.getValidParallel(mode.trim());
+                if (parallel != null) {
+                    suite.setParallel(parallel);
+                } else {
+                    System.err.println("[ParallelSuiteConfigurer] Ignoring unknown parallel.mode: " + mode);
+                }
+            }
+            if (threads > 0) {
+                suite.setThreadCount(threads);
+            }
+            System.out.println("[ParallelSuiteConfigurer] Suite '" + suite.getName() + "': parallel="
+                    + suite.getParallel() + ", thread-count=" + suite.getThreadCount());
+
+            if (suite.getParallel() != null && suite.getParallel().isParallel()) {
+                // every worker thread holds one browser for the duration of a test; a smaller pool would just make threads wait
+                DriverPool.get().ensureCapacity(suite.getThreadCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.myproject.listeners;
+
+import com.aventstack.extentreports.ExtentReports;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * End-of-run metrics collected from infrastructure classes (driver pool, caches, ...).
+ * Sections register a supplier once; TestListener prints them and adds them to the Extent
+ * report's system info when the suite finishes.
+ */
+public final class RunSummary {
+
+    private static final Map<String, Supplier<String>> sections = new ConcurrentSkipListMap<>();
+
+    private RunSummary() { /* utility */ }
+
+    /**
+     * Register (or replace) a named section. The supplier is evaluated at suite end.
+     */
+    public static void register(String name, Supplier<String> supplier) {
+        sections.put(name, supplier);
+    }
+
+    /**
+     * Print every section to the console and copy it into the report.
+     */
+    public static void publish(ExtentReports extent) {
+        for (Map.Entry<String, Supplier<String>> e : sections.entrySet()) {
+            String value;
+            try {
+                value = e.getValue().get();
+            } catch (Exception ex) {
+                value = "unavailable (" + ex.getMessage() + ")";
+            }
+            if (value == null || value.isEmpty()) continue;
+            System.out.println("[RunSummary] " + e.getKey() + ": " + value);
+            if (extent != null) {
+                extent.setSystemInfo(e.getKey(), value);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.myproject.listeners;
+
+import com.myproject.config.ConfigReader;
+import com.myproject.utils.ShardPlanner;
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs only this JVM's share of the suite when -Dshard.total=N -Dshard.index=i are set (no-op otherwise).
+ *
+ * Plain test classes are kept or dropped as a whole; data-driven methods stay in every shard and their
+ * data-provider rows are filtered instead, so a class like SignupRegistrationTest is spread over all shards.
+ * Shards are balanced by historical duration, see ShardPlanner.
+ */
+public class ShardInterceptor implements IMethodInterceptor, IDataProviderInterceptor {
+
+    private static final String PLAN_ATTR = "shard.plan";
+
+    // method key -> original data-provider row index of each row handed to TestNG, in delivery order
+    private static final Map<String, List<Integer>> deliveredRows = new ConcurrentHashMap<>();
+
+    /**
+     * Original data-provider row index of the n-th row delivered to TestNG for a data-driven method in this JVM
+     * (n: the invocation's parameter index). Without sharding every row is delivered, so n is the row index.
+     */
+    public static int originalRow(String methodKey, int ordinal) {
+        List<Integer> rows = deliveredRows.get(methodKey);
+        if (rows == null) return ordinal;
+        synchronized (rows) {
+            return ordinal < rows.size() ? rows.get(ordinal) : ordinal;
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int total = ShardPlanner.configuredTotal();
+        if (total <= 1) return methods;
+        int index = ShardPlanner.configuredIndex();
+
+        Map<String, List<String>> classMethods = new LinkedHashMap<>();
+        List<String> dataDriven = new ArrayList<>();
+        for (IMethodInstance mi : methods) {
+            ITestNGMethod m = mi.getMethod();
+            if (m.isDataDriven()) {
+                String key = key(m);
+                if (!dataDriven.contains(key)) dataDriven.add(key);
+            } else {
+                classMethods.computeIfAbsent(m.getRealClass().getName(), k -> new ArrayList<>()).add(m.getMethodName());
+            }
+        }
+
+        ShardPlanner plan = new ShardPlanner(ShardPlanner.loadHistory(), total, defaultMs())
+                .plan(classMethods, dataDriven);
+        context.setAttribute(PLAN_ATTR, plan);
+
+        List<IMethodInstance> mine = new ArrayList<>();
+        for (IMethodInstance mi : methods) {
+            ITestNGMethod m = mi.getMethod();
+            if (m.isDataDriven() || plan.shardOfClass(m.getRealClass().getName()) == index) {
+                mine.add(mi);
+            }
+        }
+        System.out.println("[ShardInterceptor] Shard " + index + "/" + total + " runs " + mine.size() + " of "
+                + methods.size() + " methods; estimated load " + plan.describe());
+        return mine;
+    }
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> original, IDataProviderMethod dataProviderMethod,
+                                        ITestNGMethod method, ITestContext context) {
+        Object attr = context.getAttribute(PLAN_ATTR);
+        if (!(attr instanceof ShardPlanner)) return original;
+        ShardPlanner plan = (ShardPlanner) attr;
+        int index = ShardPlanner.configuredIndex();
+        String key = key(method);
+        List<Integer> delivered = deliveredRows.computeIfAbsent(key, k -> new ArrayList<>());
+
+        // lazy filter: rows belonging to other shards are skipped without being materialised into a list
+        return new Iterator<Object[]>() {
+            private int row = 0;
+            private Object[] next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && original.hasNext()) {
+                    Object[] candidate = original.next();
+                    int current = row++;
+                    if (plan.shardOfRow(key, current) == index) {
+                        next = candidate;
+                        synchronized (delivered) {
+                            delivered.add(current);
+                        }
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Object[] r = next;
+                next = null;
+                return r;
+            }
+        };
+    }
+
+    public static String key(ITestNGMethod m) {
+        return m.getRealClass().getName() + "#" + m.getMethodName();
+    }
+
+    private static long defaultMs() {
+        return ConfigReader.getInt("shard.default.ms", 30000);
+    }
+}
@@ -4,17 +4,26 @@ import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.myproject.config.ExtentManager;
+import com.myproject.utils.ResultJournal;
 import com.myproject.utils.ScreenshotUtil;
+import com.myproject.utils.TestDataCache;
+import com.myproject.utils.TestHistoryStore;
 import org.testng.IConfigurationListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
+import org.testng.internal.TestResult;
 
 import java.lang.reflect.Method;
 
-public class TestListener implements ITestListener, IConfigurationListener {
+public class TestListener implements ITestListener, IConfigurationListener, ISuiteListener {
     private static final ExtentReports extent = ExtentManager.getInstance();
     private static final ThreadLocal<ExtentTest> testThread = new ThreadLocal<>();
+    // before-method configuration time on this thread since the last recorded test
+    private static final ThreadLocal<long[]> setupMs = ThreadLocal.withInitial(() -> new long[1]);
+    private static final String ROW_ATTR = "history.row";
 
     @Override
     public void onStart(ITestContext context) { }
@@ -24,6 +33,26 @@ public class TestListener implements ITestListener, IConfigurationListener {
         extent.flush();
     }
 
+    /* -------------------------
+       ISuiteListener methods
+       ------------------------- */
+
+    @Override
+    public void onStart(ISuite suite) {
+        RunSummary.register("Thread utilization", ThreadUtilization::summary);
+        RunSummary.register("Result journals", ResultJournal::stats);
+        RunSummary.register("Test data cache", TestDataCache::stats);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TestHistoryStore.close();
+        ResultJournal.publishAll();
+        // runs after @AfterSuite, so pool/cache statistics are final here
+        RunSummary.publish(extent);
+        extent.flush();
+    }
+
     @Override
     public void onTestStart(ITestResult result) {
         String methodName = result.getMethod().getMethodName();
@@ -37,12 +66,20 @@ public class TestListener implements ITestListener, IConfigurationListener {
             } catch (Exception ignored) { }
         }
         testThread.set(test);
+
+        int row = -1;
+        int index = parameterIndex(result);
+        if (result.getMethod().isDataDriven() && index >= 0) {
+            row = ShardInterceptor.originalRow(ShardInterceptor.key(result.getMethod()), index);
+        }
+        result.setAttribute(ROW_ATTR, row);
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
         ExtentTest t = testThread.get();
         if (t != null) t.log(Status.PASS, "Test passed");
+        recordHistory(result, "PASS");
         // clear thread-local to avoid subsequent config logs being attached to this test
         testThread.remove();
     }
@@ -50,6 +87,7 @@ public class TestListener implements ITestListener, IConfigurationListener {
     @Override
     public void onTestFailure(ITestResult result) {
         ExtentTest t = testThread.get();
+        recordHistory(result, "FAIL");
         try {
             // Try to capture screenshot (if driver available)
             tryAttachScreenshotFromInstance(result, result.getMethod().getMethodName());
@@ -74,6 +112,7 @@ public class TestListener implements ITestListener, IConfigurationListener {
     @Override
     public void onTestSkipped(ITestResult result) {
         ExtentTest t = testThread.get();
+        recordHistory(result, "SKIP");
         if (t != null) {
             if (result.getThrowable() != null) t.log(Status.SKIP, "Test skipped: " + result.getThrowable());
             else t.log(Status.SKIP, "Test skipped");
@@ -93,6 +132,7 @@ public class TestListener implements ITestListener, IConfigurationListener {
 
     @Override
     public void onConfigurationFailure(ITestResult itr) {
+        addSetupTime(itr);
         System.err.println("[TestListener] Configuration failure for: " + itr.getMethod().getMethodName());
         if (itr.getThrowable() != null) itr.getThrowable().printStackTrace();
         tryAttachScreenshotFromInstance(itr, "config_failure_" + itr.getMethod().getMethodName());
@@ -100,6 +140,7 @@ public class TestListener implements ITestListener, IConfigurationListener {
 
     @Override
     public void onConfigurationSuccess(ITestResult itr) {
+        addSetupTime(itr);
         // Optional: log config success to console (not attached to Extent because test may not be started yet)
         System.out.println("[TestListener] Configuration success: " + itr.getMethod().getMethodName());
     }
@@ -114,6 +155,37 @@ public class TestListener implements ITestListener, IConfigurationListener {
        Private helpers
        ------------------------- */
 
+    private void addSetupTime(ITestResult itr) {
+        // only per-test configuration is worker time; suite/test/class-level methods run outside the test threads
+        if (itr.getMethod().isBeforeMethodConfiguration() || itr.getMethod().isAfterMethodConfiguration()) {
+            ThreadUtilization.record(itr.getStartMillis(), itr.getEndMillis());
+        }
+        if (itr.getMethod().isBeforeMethodConfiguration()) {
+            setupMs.get()[0] += Math.max(0, itr.getEndMillis() - itr.getStartMillis());
+        }
+    }
+
+    /**
+     * Position of this invocation's parameters in the rows the data provider delivered (the same for a retry and
+     * whatever order parallel rows start in); -1 when TestNG does not tell.
+     */
+    private static int parameterIndex(ITestResult result) {
+        return result instanceof TestResult ? ((TestResult) result).getParameterIndex() : -1;
+    }
+
+    /**
+     * Append the finished invocation to the duration history (class, method, row, outcome, duration, setup time).
+     */
+    private void recordHistory(ITestResult result, String status) {
+        long[] setup = setupMs.get();
+        Object row = result.getAttribute(ROW_ATTR);
+        long duration = result.getStartMillis() > 0 ? Math.max(0, result.getEndMillis() - result.getStartMillis()) : 0;
+        ThreadUtilization.record(result.getStartMillis(), result.getEndMillis());
+        TestHistoryStore.record(result.getTestClass().getName(), result.getMethod().getMethodName(),
+                row instanceof Integer ? (Integer) row : -1, status, duration, setup[0], result.getStartMillis());
+        setup[0] = 0;
+    }
+
     /**
      * Try to reflectively call getDriver() on the test instance and attach a screenshot to the current ExtentTest.
      */
@@ -0,0 +1,44 @@
+package com.myproject.listeners;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Busy time per worker thread (tests plus their @Before/@AfterMethod configuration), fed by TestListener.
+ * Utilization = busy time / (threads x wall time); the tail is how long the run went on after the
+ * first thread ran out of work for good.
+ */
+public final class ThreadUtilization {
+
+    private static final Map<String, long[]> perThread = new ConcurrentHashMap<>(); // busy, first start, last end
+
+    private ThreadUtilization() { /* utility */ }
+
+    public static void record(long startMillis, long endMillis) {
+        if (startMillis <= 0 || endMillis < startMillis) return;
+        long[] t = perThread.computeIfAbsent(Thread.currentThread().getName(), k -> new long[]{0, Long.MAX_VALUE, 0});
+        synchronized (t) {
+            t[0] += endMillis - startMillis;
+            t[1] = Math.min(t[1], startMillis);
+            t[2] = Math.max(t[2], endMillis);
+        }
+    }
+
+    public static String summary() {
+        if (perThread.isEmpty()) return "";
+        long busy = 0, start = Long.MAX_VALUE, end = 0, firstIdle = Long.MAX_VALUE;
+        for (long[] t : perThread.values()) {
+            synchronized (t) {
+                busy += t[0];
+                start = Math.min(start, t[1]);
+                end = Math.max(end, t[2]);
+                firstIdle = Math.min(firstIdle, t[2]);
+            }
+        }
+        long wall = Math.max(1, end - start);
+        int threads = perThread.size();
+        long pct = Math.round(100.0 * busy / (threads * wall));
+        return "threads=" + threads + ", wall=" + wall + "ms, busy=" + busy + "ms, utilization=" + pct + "%"
+                + ", tail=" + (end - firstIdle) + "ms";
+    }
+}
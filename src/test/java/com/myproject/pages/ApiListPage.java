@@ -1,6 +1,10 @@
 package com.myproject.pages;
 
+import com.myproject.base.ElementFinder;
+import com.myproject.base.PageReadiness;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
+import com.myproject.utils.KeywordScanner;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -13,7 +17,7 @@ public class ApiListPage {
     private final WebDriver driver;
     private final WebDriverWait wait;
 
-    private final String baseUrl = "https://www.automationexercise.com";
+    private final String baseUrl = ConfigReader.url("");
     private final String apiListUrl = baseUrl + "/api_list";
 
     // top-nav links
@@ -38,10 +42,9 @@ public class ApiListPage {
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
     }
 
+    // after clicks that may have left the page: the configured phases only
     private void waitForReady() {
-        try {
-            wait.until(d -> ((JavascriptExecutor) d).executeScript("return document.readyState").equals("complete"));
-        } catch (Exception ignored) {}
+        PageReadiness.await(driver, "ApiListPage");
     }
 
     private void safeClick(WebElement el) {
@@ -56,7 +59,7 @@ public class ApiListPage {
 
     public void openApiListPage() {
         driver.get(apiListUrl);
-        waitForReady();
+        PageReadiness.await(driver, PageReadiness.Spec.defaults().selector(pageTitle), "ApiListPage");
         TestListener.info("Opened API List page: " + apiListUrl);
     }
 
@@ -70,10 +73,10 @@ public class ApiListPage {
 
     public boolean isLogoPresent() {
         openApiListPage();
-        List<WebElement> logos = driver.findElements(logo);
+        List<WebElement> logos = ElementFinder.probe(driver, logo);
         if (logos.isEmpty()) {
             TestListener.info("Primary logo not found, trying fallback with text 'Automation Exercise'");
-            logos = driver.findElements(By.xpath("//a[contains(text(),'Automation Exercise')]"));
+            logos = ElementFinder.probe(driver, By.xpath("//a[contains(text(),'Automation Exercise')]"));
         }
         boolean ok = !logos.isEmpty();
         TestListener.info("Checked Automation Exercise logo/button present → " + ok);
@@ -98,7 +101,7 @@ public class ApiListPage {
         }
     }
 
-    public boolean clickHomeAndVerify() { return navigateAndCheckNav(navHome, "automationexercise.com"); }
+    public boolean clickHomeAndVerify() { return navigateAndCheckNav(navHome, ConfigReader.siteHost()); }
     public boolean clickProductsAndVerify() { return navigateAndCheckNav(navProducts, "/products"); }
     public boolean clickCartAndVerify() { return navigateAndCheckNav(navCart, "/view_cart"); }
     public boolean clickSignupAndVerify() { return navigateAndCheckNav(navSignup, "/login"); }
@@ -109,7 +112,7 @@ public class ApiListPage {
     public boolean isApiListTitlePresent(String expectedTextFragment) {
         openApiListPage();
         try {
-            WebElement h = driver.findElement(pageTitle);
+            WebElement h = ElementFinder.await(driver, pageTitle);
             boolean ok = h.isDisplayed() && h.getText().toLowerCase().contains(expectedTextFragment.toLowerCase());
             TestListener.info("Checked API list title contains '" + expectedTextFragment + "' → " + ok);
             return ok;
@@ -122,7 +125,7 @@ public class ApiListPage {
 
     public boolean isFeedbackSectionPresent() {
         openApiListPage();
-        boolean ok = !driver.findElements(feedbackCandidates).isEmpty();
+        boolean ok = !ElementFinder.probe(driver, feedbackCandidates).isEmpty();
         TestListener.info("Checked feedback section present → " + ok);
         return ok;
     }
@@ -131,14 +134,14 @@ public class ApiListPage {
         openApiListPage();
         boolean found = false;
         try {
-            List<WebElement> cands = driver.findElements(feedbackCandidates);
+            List<WebElement> cands = ElementFinder.probe(driver, feedbackCandidates);
             for (WebElement sec : cands) {
-                if (!sec.findElements(By.xpath(".//a[contains(@href,'mailto:') or contains(text(),'" + expectedMail + "')]")).isEmpty()) {
+                if (!ElementFinder.probe(sec, By.xpath(".//a[contains(@href,'mailto:') or contains(text(),'" + expectedMail + "')]")).isEmpty()) {
                     found = true; break;
                 }
             }
             if (!found) {
-                found = !driver.findElements(By.xpath("//a[contains(@href,'mailto:') or contains(text(),'" + expectedMail + "')]")).isEmpty();
+                found = !ElementFinder.probe(driver, By.xpath("//a[contains(@href,'mailto:') or contains(text(),'" + expectedMail + "')]")).isEmpty();
             }
         } catch (Exception ignored) {}
         TestListener.info("Checked feedback email '" + expectedMail + "' present → " + found);
@@ -147,7 +150,7 @@ public class ApiListPage {
 
     public List<WebElement> getApiListElements() {
         openApiListPage();
-        List<WebElement> els = driver.findElements(apiListItems);
+        List<WebElement> els = ElementFinder.probeAll(driver, apiListItems);
         List<WebElement> visible = new ArrayList<>();
         for (WebElement e : els) {
             try {
@@ -177,6 +180,13 @@ public class ApiListPage {
         return ok;
     }
 
+    private static final KeywordScanner API_ARTIFACTS = KeywordScanner.builder()
+            .any("url", "http", "/api")
+            .any("method", "get", "post", "delete")
+            .any("code", "200", "404", "500")
+            .any("version", "v1", "version")
+            .build();
+
     public boolean verifyEachApiEntryDetails() {
         List<WebElement> entries = getApiListElements();
         if (entries.isEmpty()) return false;
@@ -187,13 +197,7 @@ public class ApiListPage {
                 if (href != null && !href.trim().isEmpty()) driver.get(href);
                 else safeClick(e);
                 waitForReady();
-                String pageSrc = driver.getPageSource().toLowerCase();
-
-                int positives = 0;
-                if (pageSrc.contains("http") || pageSrc.contains("/api")) positives++;
-                if (pageSrc.contains("get") || pageSrc.contains("post") || pageSrc.contains("delete")) positives++;
-                if (pageSrc.contains("200") || pageSrc.contains("404") || pageSrc.contains("500")) positives++;
-                if (pageSrc.contains("v1") || pageSrc.contains("version")) positives++;
+                int positives = API_ARTIFACTS.scan(driver.getPageSource()).count();
                 if (positives >= 2) success++;
 
                 openApiListPage();
@@ -206,7 +210,7 @@ public class ApiListPage {
 
     public boolean isFooterCopyrightPresent() {
         openApiListPage();
-        boolean ok = !driver.findElements(footerCopyright).isEmpty();
+        boolean ok = !ElementFinder.probe(driver, footerCopyright).isEmpty();
         TestListener.info("Checked footer copyright → " + ok);
         return ok;
     }
@@ -1,6 +1,11 @@
 package com.myproject.pages;
 
+import com.myproject.base.ElementFinder;
+import com.myproject.base.HttpLinkChecker;
+import com.myproject.base.PageReadiness;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
+import com.myproject.utils.KeywordScanner;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -8,11 +13,12 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class ApiListPageFunctional {
     private final WebDriver driver;
     private final WebDriverWait wait;
-    private final String apiListUrl = "https://www.automationexercise.com/api_list";
+    private final String apiListUrl = ConfigReader.url("/api_list");
 
     // Locators (robust)
     private final By pageTitle = By.cssSelector(".features_items h2, .page-title, .title.text-center, .features_items > h2");
@@ -34,21 +40,20 @@ public class ApiListPageFunctional {
     public void open() {
         log("Navigate to API list page: " + apiListUrl);
         driver.get(apiListUrl);
-        waitForReady();
+        PageReadiness.await(driver, PageReadiness.Spec.defaults().selector(pageTitle), "ApiListPageFunctional");
         log("Page opened: " + driver.getCurrentUrl());
     }
 
+    // after clicks that may have left the page: the configured phases only
     private void waitForReady() {
-        try {
-            wait.until(d -> ((JavascriptExecutor)d).executeScript("return document.readyState").equals("complete"));
-        } catch (Exception ignored) {}
+        PageReadiness.await(driver, "ApiListPageFunctional");
     }
 
     // --- simple checks ---
     public boolean isPageLoaded() {
         log("Checking page title presence");
         try {
-            return !driver.findElements(pageTitle).isEmpty();
+            return !ElementFinder.probe(driver, pageTitle).isEmpty();
         } catch (Exception e) {
             failLog("isPageLoaded exception: " + e.getMessage());
             return false;
@@ -58,7 +63,7 @@ public class ApiListPageFunctional {
     public boolean isLogoPresent() {
         log("Checking logo presence");
         try {
-            return !driver.findElements(logo).isEmpty();
+            return !ElementFinder.probe(driver, logo).isEmpty();
         } catch (Exception e) {
             failLog("isLogoPresent exception: " + e.getMessage());
             return false;
@@ -69,7 +74,7 @@ public class ApiListPageFunctional {
         log("Checking feedback section presence");
         try {
             open(); // ensure page is active
-            boolean ok = !driver.findElements(feedbackCandidates).isEmpty();
+            boolean ok = !ElementFinder.probe(driver, feedbackCandidates).isEmpty();
             log("Feedback candidates found -> " + ok);
             return ok;
         } catch (Exception e) {
@@ -82,10 +87,10 @@ public class ApiListPageFunctional {
         log("Checking for feedback email: " + expectedMail);
         try {
             open();
-            List<WebElement> cands = driver.findElements(feedbackCandidates);
+            List<WebElement> cands = ElementFinder.probe(driver, feedbackCandidates);
             for (WebElement sec : cands) {
                 try {
-                    List<WebElement> mails = sec.findElements(By.xpath(".//a[contains(@href,'mailto:') or contains(text(),'" + expectedMail + "')]"));
+                    List<WebElement> mails = ElementFinder.probe(sec, By.xpath(".//a[contains(@href,'mailto:') or contains(text(),'" + expectedMail + "')]"));
                     if (!mails.isEmpty()) {
                         log("Found expected mail inside feedback section");
                         return true;
@@ -93,7 +98,7 @@ public class ApiListPageFunctional {
                 } catch (Exception ignored) {}
             }
             // global fallback
-            List<WebElement> global = driver.findElements(By.xpath("//a[contains(@href,'mailto:') or contains(text(),'" + expectedMail + "')]"));
+            List<WebElement> global = ElementFinder.probe(driver, By.xpath("//a[contains(@href,'mailto:') or contains(text(),'" + expectedMail + "')]"));
             boolean ok = !global.isEmpty();
             log("Global href/text search for mail -> " + ok);
             return ok;
@@ -108,11 +113,11 @@ public class ApiListPageFunctional {
         open();
         List<WebElement> list = new ArrayList<>();
         try {
-            list = driver.findElements(apiListAnchors);
+            list = ElementFinder.probeAll(driver, apiListAnchors);
             log("Found " + list.size() + " anchors via primary selector");
             if (list.isEmpty()) {
                 // fallback to any anchor inside main content
-                List<WebElement> fallback = driver.findElements(By.cssSelector("main a, .container a, .col-sm-9 a"));
+                List<WebElement> fallback = ElementFinder.probeAll(driver, By.cssSelector("main a, .container a, .col-sm-9 a"));
                 log("Fallback anchors found: " + fallback.size());
                 list = fallback;
             }
@@ -145,7 +150,8 @@ public class ApiListPageFunctional {
 
     /**
      * Best-effort verify each API entry details:
-     * - open anchor (navigate same-tab)
+     * - fetch every anchor target over HTTP at once (HttpLinkChecker); only links that need JavaScript are
+     *   opened in the browser (navigate same-tab, then back to the list)
      * - check for presence of 'http', '/api', verbs get/post/put/delete, status codes
      * returns true if >= half of inspected anchors show at least 2 artifacts
      */
@@ -156,49 +162,34 @@ public class ApiListPageFunctional {
             failLog("No API anchors to inspect");
             return false;
         }
+        List<String[]> links = readLinks(anchors);
+        List<String> httpTargets = new ArrayList<>();
+        for (String[] link : links) {
+            if (!HttpLinkChecker.needsBrowser(link[0])) httpTargets.add(link[0]);
+        }
+        Map<String, HttpLinkChecker.Response> responses = HttpLinkChecker.fetchAll(httpTargets);
+
         int success = 0;
         int inspected = 0;
-        for (WebElement a : anchors) {
+        for (int i = 0; i < links.size(); i++) {
+            String href = links.get(i)[0];
+            log("Inspecting anchor: text='" + links.get(i)[1] + "' href='" + href + "'");
             try {
-                String href = a.getAttribute("href");
-                String text = a.getText();
-                log("Inspecting anchor: text='" + (text==null? "":text.trim()) + "' href='" + href + "'");
-                // open: prefer navigate so we can inspect content
-                if (href != null && !href.trim().isEmpty() && (href.startsWith("http") || href.startsWith("/"))) {
-                    try {
-                        driver.get(href);
-                        waitForReady();
-                    } catch (Exception navEx) {
-                        log("Navigation to href failed, will attempt click: " + navEx.getMessage());
-                        try { a.click(); waitForReady(); } catch (Exception ignored) {}
-                    }
+                String src;
+                HttpLinkChecker.Response response = responses.get(href);
+                if (response != null && response.getStatus() > 0 && !HttpLinkChecker.needsBrowser(response)) {
+                    log("Fetched over HTTP: " + response);
+                    src = response.getBody();
                 } else {
-                    try { a.click(); waitForReady(); } catch (Exception ignored) {}
+                    if (response != null) log("HTTP fetch not usable (" + response + "), opening in browser");
+                    src = openInBrowser(anchors.get(i), href);
                 }
 
-                String src = driver.getPageSource().toLowerCase();
-                boolean hasApiUrl = src.contains("http") || src.contains("/api") || src.contains("endpoint");
-                boolean hasMethod = src.contains("get") || src.contains("post") || src.contains("put") || src.contains("delete") || src.contains("patch");
-                boolean hasCode = src.matches("(?s).*\\b(200|201|204|400|401|403|404|500)\\b.*");
-                boolean hasVersion = src.contains("v1") || src.contains("v2") || src.contains("version");
-
-                int positives = 0;
-                if (hasApiUrl) positives++;
-                if (hasMethod) positives++;
-                if (hasCode) positives++;
-                if (hasVersion) positives++;
-
-                log("Entry checks => apiUrl:" + hasApiUrl + " method:" + hasMethod + " code:" + hasCode + " version:" + hasVersion);
-
+                int positives = countApiArtifacts(src);
                 if (positives >= 2) success++;
-
                 inspected++;
-                // go back to api list page
-                driver.get(apiListUrl);
-                waitForReady();
             } catch (Exception e) {
                 log("Exception inspecting entry: " + e.getMessage());
-                try { driver.get(apiListUrl); waitForReady(); } catch (Exception ignored) {}
             }
         }
         boolean ok = success >= Math.max(1, inspected / 2);
@@ -206,6 +197,65 @@ public class ApiListPageFunctional {
         return ok;
     }
 
+    // {href, text} of every anchor, in one call
+    private List<String[]> readLinks(List<WebElement> anchors) {
+        List<String[]> out = new ArrayList<>();
+        Object raw = ((JavascriptExecutor) driver).executeScript(
+                "return arguments[0].map(function (a) { return [a.href || '', (a.textContent || '').trim()]; });", anchors);
+        if (raw instanceof List) {
+            for (Object item : (List<?>) raw) {
+                List<?> pair = (List<?>) item;
+                out.add(new String[]{String.valueOf(pair.get(0)), String.valueOf(pair.get(1))});
+            }
+        }
+        return out;
+    }
+
+    // page source of a link that only works in the browser; returns to the api list afterwards
+    private String openInBrowser(WebElement anchor, String href) {
+        try {
+            if (href != null && !href.trim().isEmpty() && (href.startsWith("http") || href.startsWith("/"))) {
+                try {
+                    driver.get(href);
+                    waitForReady();
+                } catch (Exception navEx) {
+                    log("Navigation to href failed, will attempt click: " + navEx.getMessage());
+                    try { anchor.click(); waitForReady(); } catch (Exception ignored) {}
+                }
+            } else {
+                try { anchor.click(); waitForReady(); } catch (Exception ignored) {}
+            }
+            return driver.getPageSource();
+        } finally {
+            try { driver.get(apiListUrl); waitForReady(); } catch (Exception ignored) {}
+        }
+    }
+
+    // API entry artifacts, answered in one pass over the page source
+    private static final KeywordScanner API_ARTIFACTS = KeywordScanner.builder()
+            .any("apiUrl", "http", "/api", "endpoint")
+            .any("method", "get", "post", "put", "delete", "patch")
+            .word("code", "200", "201", "204", "400", "401", "403", "404", "500")
+            .any("version", "v1", "v2", "version")
+            .build();
+
+    private int countApiArtifacts(String source) {
+        KeywordScanner.Result found = API_ARTIFACTS.scan(source);
+        boolean hasApiUrl = found.has("apiUrl");
+        boolean hasMethod = found.has("method");
+        boolean hasCode = found.has("code");
+        boolean hasVersion = found.has("version");
+
+        int positives = 0;
+        if (hasApiUrl) positives++;
+        if (hasMethod) positives++;
+        if (hasCode) positives++;
+        if (hasVersion) positives++;
+
+        log("Entry checks => apiUrl:" + hasApiUrl + " method:" + hasMethod + " code:" + hasCode + " version:" + hasVersion);
+        return positives;
+    }
+
     public boolean doApiLinksOpenBehaviorCheck() {
         log("Checking whether API links open same-tab or new-tab");
         List<WebElement> anchors = getApiAnchors();
@@ -240,7 +290,7 @@ public class ApiListPageFunctional {
     public boolean isFooterPresent() {
         log("Checking footer copyright presence");
         try {
-            return !driver.findElements(footerCopyright).isEmpty();
+            return !ElementFinder.probe(driver, footerCopyright).isEmpty();
         } catch (Exception e) {
             failLog("isFooterPresent exception: " + e.getMessage());
             return false;
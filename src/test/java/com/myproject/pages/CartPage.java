@@ -1,18 +1,20 @@
 package com.myproject.pages;
 
+import com.myproject.base.AsyncWaits;
+import com.myproject.base.BasePage;
+import com.myproject.base.ElementFinder;
+import com.myproject.base.PageReadiness;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
 
-public class CartPage {
-    private final WebDriver driver;
-    private final WebDriverWait wait;
+public class CartPage extends BasePage {
 
-    private final String baseUrl = "https://www.automationexercise.com";
+    private final String baseUrl = ConfigReader.url("");
     private final String cartUrl = baseUrl + "/view_cart";
     private final String productsUrl = baseUrl + "/products";
     private final String homeUrl = baseUrl + "/";
@@ -39,11 +41,13 @@ public class CartPage {
     private final By cartCountBadge = By.cssSelector(".cart-count, .badge.cart, .cart_quantity");
     private final By logo = By.cssSelector(".logo, .navbar-brand img");
     private final By footerCopyright = By.xpath("//*[contains(text(),'All rights reserved') or contains(text(),'Copyright')]");
+    // readiness: the cart section for the cart itself, the product grid for home and products
+    private final By cartSection = By.cssSelector("#cart_items, #cart_info, .cart_info");
+    private final By productGrid = By.cssSelector(".features_items");
     private final By continueBtn = By.xpath("//a[contains(.,'Continue Shopping') or contains(.,'Continue to cart') or contains(.,'Continue')]");
 
     public CartPage(WebDriver driver) {
-        this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        super(driver);
     }
 
     // --- Logging helper ---
@@ -53,11 +57,20 @@ public class CartPage {
 
     // ---------- Navigation and waits ----------
     public void openCartPage() {
+        openCartPage(false);
+    }
+
+    /**
+     * Navigate to the cart unless the browser already shows an unmodified cart page; forceReload always navigates.
+     */
+    public void openCartPage(boolean forceReload) {
         logStep("Action: openCartPage() - navigating to " + cartUrl);
         try {
-            driver.get(cartUrl);
-            waitForReady();
-            logStep("Navigation to cart page complete: " + driver.getCurrentUrl());
+            if (open(cartUrl, forceReload)) {
+                logStep("Navigation to cart page complete: " + driver.getCurrentUrl());
+            } else {
+                logStep("Already on an unmodified cart page, navigation skipped");
+            }
         } catch (Exception e) {
             logStep("Exception navigating to cart page: " + e.getMessage());
             throw new RuntimeException("Failed to open cart page", e);
@@ -68,7 +81,7 @@ public class CartPage {
         logStep("Action: openProductsPage() - navigating to " + productsUrl);
         try {
             driver.get(productsUrl);
-            waitForReady();
+            waitForReady(PageReadiness.Spec.defaults().selector(productGrid));
             logStep("Navigation to products page complete: " + driver.getCurrentUrl());
         } catch (Exception e) {
             logStep("Exception navigating to products page: " + e.getMessage());
@@ -80,7 +93,7 @@ public class CartPage {
         logStep("Action: openHomePage() - navigating to " + homeUrl);
         try {
             driver.get(homeUrl);
-            waitForReady();
+            waitForReady(PageReadiness.Spec.defaults().selector(productGrid));
             logStep("Navigation to home page complete: " + driver.getCurrentUrl());
         } catch (Exception e) {
             logStep("Exception navigating to home page: " + e.getMessage());
@@ -88,13 +101,16 @@ public class CartPage {
         }
     }
 
-    private void waitForReady() {
-        try {
-            wait.until(d -> ((JavascriptExecutor) d).executeScript("return document.readyState").equals("complete"));
-            logStep("Document readyState=complete");
-        } catch (Exception e) {
-            logStep("waitForReady() finished with exception (ignored): " + e.getMessage());
-        }
+    @Override
+    protected PageReadiness.Spec readiness() {
+        return super.readiness().selector(cartSection);
+    }
+
+    @Override
+    protected PageReadiness.Result waitForReady(PageReadiness.Spec spec) {
+        PageReadiness.Result ready = super.waitForReady(spec);
+        logStep("Page readiness: " + ready);
+        return ready;
     }
 
     private void safeClick(WebElement el) {
@@ -115,16 +131,16 @@ public class CartPage {
         }
     }
 
-    private void sleep(long ms) {
-        try { Thread.sleep(ms); } catch (InterruptedException ignored) {}
-    }
+    // the "Added!" modal shown after add-to-cart
+    private static final By cartModal = By.cssSelector("#cartModal, .modal");
+    private static final Duration UI_SETTLE = Duration.ofSeconds(3);
 
     private void closeModalIfPresent() {
         try {
-            List<WebElement> close = driver.findElements(By.cssSelector(".close-modal, .modal .close, .dismiss, .close, .btn.close"));
+            List<WebElement> close = ElementFinder.probe(driver, By.cssSelector(".close-modal, .modal .close, .dismiss, .close, .btn.close"));
             if (!close.isEmpty()) {
                 safeClick(close.get(0));
-                sleep(300);
+                AsyncWaits.hidden(driver, cartModal, UI_SETTLE);
                 logStep("Closed a modal (if present)");
             }
         } catch (Exception e) {
@@ -136,7 +152,7 @@ public class CartPage {
     public boolean isCartAccessibleViaUrl() {
         logStep("Check: isCartAccessibleViaUrl()");
         try {
-            openCartPage();
+            openCartPage(true); // the check is the URL navigation itself
             boolean ok = driver.getCurrentUrl().contains("/view_cart");
             logStep("Result: cart URL contains /view_cart -> " + ok);
             return ok;
@@ -150,7 +166,7 @@ public class CartPage {
         logStep("Check: isEmptyCartMessageDisplayed()");
         try {
             openCartPage();
-            boolean present = !driver.findElements(cartEmptyMsg).isEmpty();
+            boolean present = !ElementFinder.probe(driver, cartEmptyMsg).isEmpty();
             logStep("Result: empty cart message present -> " + present);
             return present;
         } catch (Exception e) {
@@ -163,7 +179,7 @@ public class CartPage {
         logStep("Check: isCartLayoutPresent()");
         try {
             openCartPage();
-            boolean present = !driver.findElements(By.cssSelector(".cart_info, .cart-table, .cart-items")).isEmpty();
+            boolean present = !ElementFinder.probe(driver, By.cssSelector(".cart_info, .cart-table, .cart-items")).isEmpty();
             logStep("Result: cart layout present -> " + present);
             return present;
         } catch (Exception e) {
@@ -174,7 +190,7 @@ public class CartPage {
 
     public boolean isLogoPresent() {
         logStep("Check: isLogoPresent()");
-        boolean present = !driver.findElements(logo).isEmpty();
+        boolean present = !ElementFinder.probe(driver, logo).isEmpty();
         logStep("Result: logo present -> " + present);
         return present;
     }
@@ -183,7 +199,7 @@ public class CartPage {
         logStep("Check: isFooterCopyrightPresent()");
         try {
             openCartPage();
-            boolean present = !driver.findElements(footerCopyright).isEmpty();
+            boolean present = !ElementFinder.probe(driver, footerCopyright).isEmpty();
             logStep("Result: footer copyright present -> " + present);
             return present;
         } catch (Exception e) {
@@ -196,7 +212,7 @@ public class CartPage {
         logStep("Check: basicTabNavigationWorks()");
         try {
             openCartPage();
-            WebElement body = driver.findElement(By.tagName("body"));
+            WebElement body = ElementFinder.await(driver, By.tagName("body"));
             body.sendKeys(Keys.TAB);
             Object active = ((JavascriptExecutor) driver).executeScript("return document.activeElement && document.activeElement.tagName;");
             boolean ok = active != null;
@@ -212,7 +228,7 @@ public class CartPage {
         logStep("Check: isCouponFeaturePresent()");
         try {
             openCartPage();
-            boolean present = !driver.findElements(couponInput).isEmpty() && !driver.findElements(couponApply).isEmpty();
+            boolean present = !ElementFinder.probe(driver, couponInput).isEmpty() && !ElementFinder.probe(driver, couponApply).isEmpty();
             logStep("Result: coupon feature present -> " + present);
             return present;
         } catch (Exception e) {
@@ -224,7 +240,7 @@ public class CartPage {
     // ---------- Nav-button click & verify (operate from Cart page) ----------
     private WebElement findNav(By locator) {
         try {
-            List<WebElement> els = driver.findElements(locator);
+            List<WebElement> els = ElementFinder.probe(driver, locator);
             if (els.isEmpty()) return null;
             for (WebElement e : els) if (e.isDisplayed() && e.isEnabled()) return e;
             return els.get(0);
@@ -330,7 +346,7 @@ public class CartPage {
         try {
             openProductsPage();
             // Look for any text containing "Out of stock"
-            List<WebElement> outs = driver.findElements(
+            List<WebElement> outs = ElementFinder.probe(driver, 
                 By.xpath("//*[contains(translate(text(),'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'out of stock')]")
             );
             boolean res = !outs.isEmpty();
@@ -378,15 +394,15 @@ public class CartPage {
         logStep("Action: addFirstProductFromHomeOrProducts()");
         try {
             try { openHomePage(); } catch (Exception ignored) {}
-            List<WebElement> addBtns = driver.findElements(addToCartBtn);
+            List<WebElement> addBtns = ElementFinder.probe(driver, addToCartBtn);
             if (addBtns.isEmpty()) {
                 openProductsPage();
-                addBtns = driver.findElements(addToCartBtn);
+                addBtns = ElementFinder.probe(driver, addToCartBtn);
             }
             for (WebElement b : addBtns) {
                 if (b.isDisplayed() && b.isEnabled()) {
                     try { safeClick(b); } catch (Exception ignored) {}
-                    sleep(600);
+                    AsyncWaits.visible(driver, cartModal, UI_SETTLE);
                     closeModalIfPresent();
                     logStep("Added a product using add-to-cart button");
                     return true;
@@ -405,12 +421,12 @@ public class CartPage {
         try {
             openProductsPage();
             int added = 0;
-            for (WebElement b : driver.findElements(addToCartBtn)) {
+            for (WebElement b : ElementFinder.probe(driver, addToCartBtn)) {
                 if (added >= n) break;
                 if (b.isDisplayed()) {
                     safeClick(b);
                     added++;
-                    sleep(500);
+                    AsyncWaits.visible(driver, cartModal, UI_SETTLE);
                     closeModalIfPresent();
                 }
             }
@@ -426,7 +442,7 @@ public class CartPage {
         logStep("Action: getCartItemsCount()");
         try {
             openCartPage();
-            int count = driver.findElements(cartRows).size();
+            int count = ElementFinder.probeAll(driver, cartRows).size();
             logStep("Result: cart items count -> " + count);
             return count;
         } catch (Exception e) {
@@ -439,10 +455,12 @@ public class CartPage {
         logStep("Action: removeFirstCartItem()");
         try {
             openCartPage();
-            List<WebElement> rem = driver.findElements(removeBtn);
+            List<WebElement> rem = ElementFinder.probe(driver, removeBtn);
             if (rem.isEmpty()) { logStep("No remove button found"); return false; }
-            safeClick(rem.get(0));
-            sleep(500);
+            WebElement first = rem.get(0);
+            safeClick(first);
+            // the row (and its button) is removed once the server confirms
+            AsyncWaits.detached(driver, first, UI_SETTLE);
             logStep("Removed first cart item");
             return true;
         } catch (Exception e) {
@@ -455,10 +473,10 @@ public class CartPage {
         logStep("Action: clickProceedToCheckout()");
         try {
             openCartPage();
-            List<WebElement> els = driver.findElements(proceedCheckout);
+            List<WebElement> els = ElementFinder.probe(driver, proceedCheckout);
             if (els.isEmpty()) { logStep("No proceed to checkout element found"); return false; }
             safeClick(els.get(0));
-            waitForReady();
+            waitForReady(PageReadiness.Spec.defaults());
             boolean ok = driver.getCurrentUrl().toLowerCase().contains("checkout") || driver.getCurrentUrl().toLowerCase().contains("payment");
             logStep("Result: clickProceedToCheckout -> " + ok + " currentUrl=" + driver.getCurrentUrl());
             return ok;
@@ -472,10 +490,10 @@ public class CartPage {
         logStep("Action: clickContinueToProducts()");
         try {
             openCartPage();
-            List<WebElement> els = driver.findElements(continueBtn);
+            List<WebElement> els = ElementFinder.probe(driver, continueBtn);
             if (els.isEmpty()) { logStep("No continue button found"); return false; }
             safeClick(els.get(0));
-            waitForReady();
+            waitForReady(PageReadiness.Spec.defaults());
             boolean ok = driver.getCurrentUrl().contains("/products") || !driver.getCurrentUrl().contains("/view_cart");
             logStep("Result: clickContinueToProducts -> " + ok + " currentUrl=" + driver.getCurrentUrl());
             return ok;
@@ -489,16 +507,17 @@ public class CartPage {
         logStep("Action: applyCoupon(" + code + ")");
         try {
             openCartPage();
-            if (driver.findElements(couponInput).isEmpty() || driver.findElements(couponApply).isEmpty()) {
+            if (ElementFinder.probe(driver, couponInput).isEmpty() || ElementFinder.probe(driver, couponApply).isEmpty()) {
                 logStep("Coupon UI not present");
                 return false;
             }
-            WebElement in = driver.findElement(couponInput);
+            WebElement in = ElementFinder.await(driver, couponInput);
             in.clear();
             in.sendKeys(code);
-            safeClick(driver.findElement(couponApply));
-            sleep(700);
-            boolean alerts = !driver.findElements(By.cssSelector(".alert, .success, .error")).isEmpty();
+            safeClick(ElementFinder.await(driver, couponApply));
+            By message = By.cssSelector(".alert, .success, .error");
+            AsyncWaits.visible(driver, message, UI_SETTLE);
+            boolean alerts = !ElementFinder.probe(driver, message).isEmpty();
             logStep("Result: applyCoupon -> alertPresent=" + alerts);
             return alerts;
         } catch (Exception e) {
@@ -525,7 +544,7 @@ public class CartPage {
     public String getCartCount() {
         logStep("Action: getCartCount()");
         try {
-            List<WebElement> b = driver.findElements(cartCountBadge);
+            List<WebElement> b = ElementFinder.probe(driver, cartCountBadge);
             String val = b.isEmpty() ? "" : b.get(0).getText().trim();
             logStep("Result: cart count -> '" + val + "'");
             return val;
@@ -540,12 +559,12 @@ public class CartPage {
         logStep("Action: clearCart()");
         try {
             openCartPage();
-            List<WebElement> rem = driver.findElements(removeBtn);
+            List<WebElement> rem = ElementFinder.probe(driver, removeBtn);
             for (WebElement r : rem) {
                 safeClick(r);
-                sleep(400);
+                AsyncWaits.detached(driver, r, UI_SETTLE);
             }
-            boolean empty = driver.findElements(cartRows).isEmpty();
+            boolean empty = ElementFinder.probe(driver, cartRows).isEmpty();
             logStep("Result: clearCart -> empty=" + empty);
             return empty;
         } catch (Exception e) {
@@ -559,7 +578,7 @@ public class CartPage {
         By[] items = new By[]{navHome, navProducts, navCart, navSignup, navTestCases, navApi, navVideos, navContact1, navContact2};
         System.out.println("=== NAV LIST ===");
         for (By loc : items) {
-            List<WebElement> els = driver.findElements(loc);
+            List<WebElement> els = ElementFinder.probe(driver, loc);
             if (els.isEmpty()) System.out.println(loc + " -> NOT FOUND");
             else for (WebElement el : els) {
                 String txt = ""; try { txt = el.getText().trim(); } catch (Exception ignored) {}
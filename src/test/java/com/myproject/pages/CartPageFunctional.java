@@ -1,5 +1,8 @@
 package com.myproject.pages;
 
+import com.myproject.base.AsyncWaits;
+import com.myproject.base.ElementFinder;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -13,7 +16,7 @@ public class CartPageFunctional {
     private final WebDriverWait wait;
 
     // URLs
-    private final String cartUrl = "https://www.automationexercise.com/view_cart";
+    private final String cartUrl = ConfigReader.url("/view_cart");
 
     // Locators
     private final By cartTable = By.cssSelector(".cart_info, .cart-table, .table-responsive");
@@ -48,48 +51,51 @@ public class CartPageFunctional {
     public void openCartPage() {
         logStep("Navigating to Cart page: " + cartUrl);
         driver.get(cartUrl);
-        wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
+        // cart table (or the empty-cart message) is the readiness signal; body alone is there long before it
+        wait.until(ExpectedConditions.or(
+                ExpectedConditions.presenceOfElementLocated(cartTable),
+                ExpectedConditions.presenceOfElementLocated(emptyCartMsg)));
     }
 
     // --- Functional checks ---
     public boolean isCartPageDisplayed() {
         logStep("Checking cart table visibility");
-        return !driver.findElements(cartTable).isEmpty();
+        return !ElementFinder.probe(driver, cartTable).isEmpty();
     }
 
     public boolean isEmptyCartMessageDisplayed() {
         logStep("Checking empty cart message");
-        return !driver.findElements(emptyCartMsg).isEmpty();
+        return !ElementFinder.probe(driver, emptyCartMsg).isEmpty();
     }
 
     public boolean isProductListedInCart() {
         logStep("Checking if any product rows exist in cart");
-        return !driver.findElements(cartRows).isEmpty();
+        return !ElementFinder.probe(driver, cartRows).isEmpty();
     }
 
     public boolean verifyProductNameVisible() {
         logStep("Checking product name visibility");
-        return !driver.findElements(productName).isEmpty();
+        return !ElementFinder.probe(driver, productName).isEmpty();
     }
 
     public boolean verifyProductQuantityVisible() {
         logStep("Checking product quantity input visibility");
-        return !driver.findElements(productQuantity).isEmpty();
+        return !ElementFinder.probe(driver, productQuantity).isEmpty();
     }
 
     public boolean verifyProductPriceVisible() {
         logStep("Checking product price visibility");
-        return !driver.findElements(productPrice).isEmpty();
+        return !ElementFinder.probe(driver, productPrice).isEmpty();
     }
 
     public boolean verifyTotalPriceVisible() {
         logStep("Checking total price visibility");
-        return !driver.findElements(totalPrice).isEmpty();
+        return !ElementFinder.probe(driver, totalPrice).isEmpty();
     }
 
     public boolean removeFirstItemFromCart() {
         logStep("Attempting to remove first item from cart");
-        List<WebElement> buttons = driver.findElements(removeBtn);
+        List<WebElement> buttons = ElementFinder.probe(driver, removeBtn);
         if (buttons.isEmpty()) return false;
         buttons.get(0).click();
         return true;
@@ -97,7 +103,7 @@ public class CartPageFunctional {
 
     public boolean clickProceedToCheckout() {
         logStep("Clicking Proceed To Checkout button");
-        List<WebElement> btns = driver.findElements(proceedToCheckoutBtn);
+        List<WebElement> btns = ElementFinder.probe(driver, proceedToCheckoutBtn);
         if (btns.isEmpty()) return false;
         btns.get(0).click();
         return driver.getCurrentUrl().contains("checkout");
@@ -105,7 +111,7 @@ public class CartPageFunctional {
 
     public boolean clickContinueShopping() {
         logStep("Clicking Continue Shopping button");
-        List<WebElement> btns = driver.findElements(continueShoppingBtn);
+        List<WebElement> btns = ElementFinder.probe(driver, continueShoppingBtn);
         if (btns.isEmpty()) return false;
         btns.get(0).click();
         return driver.getCurrentUrl().contains("/products");
@@ -117,7 +123,7 @@ public class CartPageFunctional {
             WebElement input = waitVisible(couponInput);
             input.clear();
             input.sendKeys(code);
-            driver.findElement(applyCouponBtn).click();
+            ElementFinder.await(driver, applyCouponBtn).click();
             wait.until(ExpectedConditions.visibilityOfElementLocated(successOrErrorMsg));
             return true;
         } catch (Exception e) {
@@ -127,11 +133,10 @@ public class CartPageFunctional {
 
     public boolean clickScrollUpAndVerifyTop() {
         logStep("Scrolling down to trigger scroll-up button");
-        ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-        try { Thread.sleep(600); } catch (InterruptedException ignored) {}
-        List<WebElement> btns = driver.findElements(scrollUp);
+        AsyncWaits.scrollToBottom(driver, Duration.ofSeconds(5));
+        AsyncWaits.visible(driver, scrollUp, Duration.ofSeconds(3));
+        List<WebElement> btns = ElementFinder.probe(driver, scrollUp);
         if (btns.isEmpty()) return false;
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btns.get(0));
-        return wait.until(d -> ((JavascriptExecutor)d).executeScript("return window.pageYOffset").toString().equals("0"));
+        return AsyncWaits.clickAndAwaitTop(driver, btns.get(0), 0, Duration.ofSeconds(10));
     }
 }
@@ -1,19 +1,24 @@
 package com.myproject.pages;
 
+import com.myproject.base.BasePage;
+import com.myproject.base.BatchProbe;
+import com.myproject.base.DomCheck;
+import com.myproject.base.ElementFinder;
+import com.myproject.base.PageReadiness;
+import com.myproject.base.StaticDom;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.net.URI;
-import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-public class ContactUsPage {
-    private final WebDriver driver;
-    private final WebDriverWait wait;
+public class ContactUsPage extends BasePage {
 
-    private final String baseUrl = "https://www.automationexercise.com";
+    private final String baseUrl = ConfigReader.url("");
     private final String contactUrl = baseUrl + "/contact_us";
 
     // top-nav fallback locators
@@ -27,49 +32,57 @@ public class ContactUsPage {
     private final By navContact1 = By.linkText("Contact us");
     private final By navContact2 = By.linkText("Contact Us");
 
-    // contact form locators
-    private final By pageTitle = By.cssSelector(".contact-info h2, .features_items h2, .page-title, .title.text-center");
-    private final By getInTouchTitle = By.xpath("//*[contains(translate(.,'GET IN TOUCH','get in touch'),'get in touch')]");
-    private final By nameField = By.cssSelector("input[name='name'], input#name, input.contact-name, input[placeholder*='Name']");
-    private final By emailField = By.cssSelector("input[name='email'], input#email, input[placeholder*='Email']");
-    private final By subjectField = By.cssSelector("input[name='subject'], input#subject, input[placeholder*='Subject']");
-    private final By messageField = By.cssSelector("textarea[name='message'], textarea#message, textarea[placeholder*='Message']");
-    private final By chooseFileBtn = By.cssSelector("input[type='file'], .choose-file, .file-upload");
-    private final By submitBtn = By.cssSelector("input[type='submit'], button[type='submit'], .btn.btn-primary, .submit-form");
-    private final By feedbackCandidates = By.xpath("//*[contains(translate(.,'FEEDBACK','feedback'),'feedback') or contains(@id,'feedback') or contains(@class,'feedback')]");
-    private final By logo = By.cssSelector(".logo, .navbar-brand img");
-    private final By footerCopyright = By.xpath("//*[contains(text(),'All rights reserved') or contains(text(),'Copyright')]");
+    // contact form locators (static: shared with domChecks())
+    private static final By pageTitle = By.cssSelector(".contact-info h2, .features_items h2, .page-title, .title.text-center");
+    private static final By getInTouchTitle = By.xpath("//*[contains(translate(.,'GET IN TOUCH','get in touch'),'get in touch')]");
+    private static final By nameField = By.cssSelector("input[name='name'], input#name, input.contact-name, input[placeholder*='Name']");
+    private static final By emailField = By.cssSelector("input[name='email'], input#email, input[placeholder*='Email']");
+    private static final By subjectField = By.cssSelector("input[name='subject'], input#subject, input[placeholder*='Subject']");
+    private static final By messageField = By.cssSelector("textarea[name='message'], textarea#message, textarea[placeholder*='Message']");
+    private static final By chooseFileBtn = By.cssSelector("input[type='file'], .choose-file, .file-upload");
+    private static final By submitBtn = By.cssSelector("input[type='submit'], button[type='submit'], .btn.btn-primary, .submit-form");
+    private static final By feedbackCandidates = By.xpath("//*[contains(translate(.,'FEEDBACK','feedback'),'feedback') or contains(@id,'feedback') or contains(@class,'feedback')]");
+    private static final By logo = By.cssSelector(".logo, .navbar-brand img");
+    private static final By contactForm = By.cssSelector("#contact-us-form, .contact-form form");
+    private static final By footerCopyright = By.xpath("//*[contains(text(),'All rights reserved') or contains(text(),'Copyright')]");
 
     public ContactUsPage(WebDriver driver) {
-        this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        super(driver);
     }
 
     public void openContactPage() {
-        TestListener.info("Opening Contact Us page: " + contactUrl);
-        driver.get(contactUrl);
-        waitForReady();
+        openContactPage(false);
     }
 
-    private void waitForReady() {
-        try {
-            wait.until(d -> ((JavascriptExecutor) d).executeScript("return document.readyState").equals("complete"));
-        } catch (Exception ignored) {}
+    /**
+     * Navigate to Contact Us unless an unmodified copy is already showing; forceReload always navigates.
+     */
+    public void openContactPage(boolean forceReload) {
+        if (open(contactUrl, forceReload)) {
+            TestListener.info("Opened Contact Us page: " + contactUrl);
+        } else {
+            TestListener.info("Contact Us page already open and unmodified, navigation skipped");
+        }
+    }
+
+    @Override
+    protected PageReadiness.Spec readiness() {
+        return super.readiness().selector(contactForm);
     }
 
     // robust nav finder
     private WebElement findNavRobust(String visibleText) {
         try {
-            List<WebElement> els = driver.findElements(By.linkText(visibleText));
+            List<WebElement> els = ElementFinder.probe(driver, By.linkText(visibleText));
             for (WebElement e : els) if (e.isDisplayed() && e.isEnabled()) return e;
         } catch (Exception ignored) {}
         try {
-            List<WebElement> els = driver.findElements(By.partialLinkText(visibleText.length() > 6 ? visibleText.substring(0,6) : visibleText));
+            List<WebElement> els = ElementFinder.probe(driver, By.partialLinkText(visibleText.length() > 6 ? visibleText.substring(0,6) : visibleText));
             for (WebElement e : els) if (e.isDisplayed() && e.isEnabled()) return e;
         } catch (Exception ignored) {}
         try {
             String xpath = String.format("//a[contains(translate(., 'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'), '%s')]", visibleText.toLowerCase());
-            List<WebElement> els = driver.findElements(By.xpath(xpath));
+            List<WebElement> els = ElementFinder.probe(driver, By.xpath(xpath));
             for (WebElement e : els) if (e.isDisplayed() && e.isEnabled()) return e;
         } catch (Exception ignored) {}
         return null;
@@ -122,11 +135,11 @@ public class ContactUsPage {
     public boolean clickTestCasesNavAndVerify() { return navigateAndVerifyNav("Test Cases", "/test_cases"); }
     public boolean clickApiNavAndVerify() { return navigateAndVerifyNav("API Testing", "api"); }
     public boolean clickVideoNavAndVerify() { return navigateAndVerifyNav("Video Tutorials", "video"); }
-    public boolean clickHomeNavAndVerify() { return navigateAndVerifyNav("Home", "automationexercise.com/"); }
+    public boolean clickHomeNavAndVerify() { return navigateAndVerifyNav("Home", ConfigReader.siteHost() + "/"); }
 
     // page checks with logging
     public boolean isContactPageAccessibleViaUrl() {
-        openContactPage();
+        openContactPage(true); // the check is the URL navigation itself
         boolean ok = driver.getCurrentUrl().contains("/contact_us");
         TestListener.info("Contact Us page accessible via URL → " + ok);
         return ok;
@@ -135,7 +148,7 @@ public class ContactUsPage {
     public boolean isPageTitleCenteredAndDisplayed() {
         openContactPage();
         try {
-            WebElement h = driver.findElement(pageTitle);
+            WebElement h = ElementFinder.await(driver, pageTitle);
             boolean ok = h.isDisplayed();
             TestListener.info("Page title displayed: " + ok + " → " + h.getText());
             return ok;
@@ -146,28 +159,89 @@ public class ContactUsPage {
     }
 
     public boolean isGetInTouchTitlePresent() {
-        openContactPage();
-        boolean ok = !driver.findElements(getInTouchTitle).isEmpty();
-        TestListener.info("Get In Touch title present: " + ok);
+        return isPresent(getInTouchTitle, "Get In Touch title");
+    }
+
+    // presence-only checks: from the served HTML snapshot in ui.static.mode, otherwise in the browser
+    private boolean isPresent(By locator, String what) {
+        boolean ok;
+        if (StaticDom.enabled()) {
+            ok = StaticDom.exists(contactUrl, locator);
+            TestListener.info(what + " present (static DOM): " + ok);
+        } else {
+            openContactPage();
+            ok = !ElementFinder.probe(driver, locator).isEmpty();
+            TestListener.info(what + " present: " + ok);
+        }
         return ok;
     }
 
-    public boolean isNameFieldPresent() { openContactPage(); boolean ok = !driver.findElements(nameField).isEmpty(); TestListener.info("Name field present: " + ok); return ok; }
-    public boolean isEmailFieldPresent() { openContactPage(); boolean ok = !driver.findElements(emailField).isEmpty(); TestListener.info("Email field present: " + ok); return ok; }
-    public boolean isSubjectFieldPresent() { openContactPage(); boolean ok = !driver.findElements(subjectField).isEmpty(); TestListener.info("Subject field present: " + ok); return ok; }
-    public boolean isMessageFieldPresent() { openContactPage(); boolean ok = !driver.findElements(messageField).isEmpty(); TestListener.info("Message field present: " + ok); return ok; }
-    public boolean isChooseFilePresent() { openContactPage(); boolean ok = !driver.findElements(chooseFileBtn).isEmpty(); TestListener.info("Choose File button present: " + ok); return ok; }
-    public boolean isSubmitButtonPresent() { openContactPage(); boolean ok = !driver.findElements(submitBtn).isEmpty(); TestListener.info("Submit button present: " + ok); return ok; }
+    /**
+     * Every check of this page; the presence checks need only the served HTML (see StaticDom).
+     */
+    public static List<DomCheck> domChecks() {
+        String url = ConfigReader.url("/contact_us");
+        return List.of(
+                DomCheck.needsBrowser("Contact Us: page title displayed", url, pageTitle),
+                DomCheck.onServedHtml("Contact Us: Get In Touch title", url, getInTouchTitle),
+                DomCheck.onServedHtml("Contact Us: name field", url, nameField),
+                DomCheck.onServedHtml("Contact Us: email field", url, emailField),
+                DomCheck.onServedHtml("Contact Us: subject field", url, subjectField),
+                DomCheck.onServedHtml("Contact Us: message field", url, messageField),
+                DomCheck.onServedHtml("Contact Us: choose file", url, chooseFileBtn),
+                DomCheck.onServedHtml("Contact Us: submit button", url, submitBtn),
+                DomCheck.onServedHtml("Contact Us: feedback section", url, feedbackCandidates),
+                DomCheck.onServedHtml("Contact Us: logo", url, logo),
+                DomCheck.onServedHtml("Contact Us: footer copyright", url, footerCopyright));
+    }
+
+    public boolean isNameFieldPresent() { return isPresent(nameField, "Name field"); }
+    public boolean isEmailFieldPresent() { return isPresent(emailField, "Email field"); }
+    public boolean isSubjectFieldPresent() { return isPresent(subjectField, "Subject field"); }
+    public boolean isMessageFieldPresent() { return isPresent(messageField, "Message field"); }
+    public boolean isChooseFilePresent() { return isPresent(chooseFileBtn, "Choose File button"); }
+    public boolean isSubmitButtonPresent() { return isPresent(submitBtn, "Submit button"); }
+
+    /**
+     * Presence of every form element (name -> result), same checks as the is...Present methods above: per element
+     * from the served HTML in ui.static.mode, otherwise the whole form in one round trip.
+     */
+    public Map<String, Boolean> checkFormFields() {
+        Map<String, By> fields = new LinkedHashMap<>();
+        fields.put("Name field", nameField);
+        fields.put("Email field", emailField);
+        fields.put("Subject field", subjectField);
+        fields.put("Message field", messageField);
+        fields.put("Choose File button", chooseFileBtn);
+        fields.put("Submit button", submitBtn);
+
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        if (StaticDom.enabled()) {
+            for (Map.Entry<String, By> f : fields.entrySet()) results.put(f.getKey(), isPresent(f.getValue(), f.getKey()));
+            return results;
+        }
+        openContactPage();
+        try {
+            for (Map.Entry<String, BatchProbe.ElementState> e : BatchProbe.probe(driver, fields).entrySet()) {
+                results.put(e.getKey(), e.getValue().isPresent());
+                TestListener.info(e.getKey() + " present: " + e.getValue().isPresent());
+            }
+        } catch (Exception e) {
+            TestListener.info("Form field batch check failed: " + e.getMessage());
+            for (String key : fields.keySet()) results.put(key, false);
+        }
+        return results;
+    }
 
-    public boolean isFeedbackSectionPresent() { openContactPage(); boolean ok = !driver.findElements(feedbackCandidates).isEmpty(); TestListener.info("Feedback section present: " + ok); return ok; }
+    public boolean isFeedbackSectionPresent() { return isPresent(feedbackCandidates, "Feedback section"); }
 
     public boolean isFeedbackMailPresent(String expectedMail) {
         openContactPage();
         boolean found = false;
         try {
-            List<WebElement> sections = driver.findElements(feedbackCandidates);
+            List<WebElement> sections = ElementFinder.probe(driver, feedbackCandidates);
             for (WebElement sec : sections) {
-                List<WebElement> mails = sec.findElements(By.xpath(".//a[contains(@href,'mailto:') or contains(text(),'" + expectedMail + "')]"));
+                List<WebElement> mails = ElementFinder.probe(sec, By.xpath(".//a[contains(@href,'mailto:') or contains(text(),'" + expectedMail + "')]"));
                 if (!mails.isEmpty()) { found = true; break; }
             }
         } catch (Exception ignored) {}
@@ -175,14 +249,14 @@ public class ContactUsPage {
         return found;
     }
 
-    public boolean isLogoPresent() { openContactPage(); boolean ok = !driver.findElements(logo).isEmpty(); TestListener.info("Logo present: " + ok); return ok; }
+    public boolean isLogoPresent() { return isPresent(logo, "Logo"); }
 
-    public boolean isFooterCopyrightPresent() { openContactPage(); boolean ok = !driver.findElements(footerCopyright).isEmpty(); TestListener.info("Footer copyright present: " + ok); return ok; }
+    public boolean isFooterCopyrightPresent() { return isPresent(footerCopyright, "Footer copyright"); }
 
     // debug helper
     public void debugPrintHeaderAnchors() {
         openContactPage();
-        List<WebElement> anchors = driver.findElements(By.cssSelector("header a, nav a, .navbar a"));
+        List<WebElement> anchors = ElementFinder.probeAll(driver, By.cssSelector("header a, nav a, .navbar a"));
         System.out.println("=== HEADER ANCHORS ===");
         for (WebElement a : anchors) {
             try { System.out.printf("text='%s' href='%s' displayed=%b%n", a.getText().trim(), a.getAttribute("href"), a.isDisplayed()); } catch (Exception ignored) {}
@@ -1,19 +1,27 @@
 package com.myproject.pages;
 
+import com.myproject.base.AsyncWaits;
+import com.myproject.base.ElementFinder;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.List;
 
 public class ContactUsPageFunctional {
 
     private final WebDriver driver;
-    private final String contactUrl = "https://www.automationexercise.com/contact_us";
+    private final String contactUrl = ConfigReader.url("/contact_us");
 
     public ContactUsPageFunctional(WebDriver driver) {
         this.driver = driver;
-        PageFactory.initElements(driver, this);
+        ElementFinder.initElements(driver, this);
         TestListener.info("ContactUsPageFunctional initialized.");
     }
 
@@ -36,8 +44,11 @@ public class ContactUsPageFunctional {
     @FindBy(name = "submit")
     private WebElement submitButton;
 
-    @FindBy(xpath = "//div[@class='status alert alert-success']")
-    private WebElement successMessage;
+    // shown on the page the submit navigates to
+    private static final By successMessage = By.xpath("//div[@class='status alert alert-success']");
+
+    // the last clickSubmit() got the confirm alert, i.e. the browser's form validation let the submit through
+    private boolean submitted;
 
     @FindBy(xpath = "//a[text()=' Home']")
     private WebElement homeLink;
@@ -47,6 +58,9 @@ public class ContactUsPageFunctional {
     /** Open Contact Us page directly */
     public void open() {
         driver.get(contactUrl);
+        // with an EAGER page load strategy get() returns before the form is usable
+        new WebDriverWait(driver, Duration.ofSeconds(15))
+                .until(ExpectedConditions.visibilityOfElementLocated(By.name("name")));
         TestListener.info("Navigated to Contact Us page: " + contactUrl);
     }
 
@@ -89,26 +103,32 @@ public class ContactUsPageFunctional {
 
     /** Click submit and accept alert */
     public void clickSubmit() {
+        submitted = false;
         try {
             submitButton.click();
             TestListener.info("Clicked Submit button.");
             driver.switchTo().alert().accept();
+            submitted = true;
             TestListener.info("Accepted alert after submission.");
         } catch (Exception e) {
             TestListener.fail("Submit failed: " + e.getMessage());
         }
     }
 
-    /** Success message visible */
+    /** Success message visible; waits for it only when the submit went through */
     public boolean isSuccessMessageDisplayed() {
-        try {
-            boolean visible = successMessage.isDisplayed();
-            TestListener.info("Success message visible: " + visible);
+        if (!submitted) {
+            // no alert: the form was rejected before sending, so there is no message on its way
+            boolean visible = ElementFinder.probe(driver, successMessage).stream().anyMatch(WebElement::isDisplayed);
+            TestListener.info("Form not submitted, success message visible: " + visible);
             return visible;
-        } catch (Exception e) {
-            TestListener.info("Success message not found: " + e.getMessage());
-            return false;
         }
+        // visibility, not text: the message may sit hidden in the page before the submit
+        String appeared = AsyncWaits.firstToAppear(driver, ElementFinder.defaultTimeout(),
+                List.of(), List.of(successMessage));
+        boolean visible = appeared != null;
+        TestListener.info("Success message visible: " + visible + (visible ? " (" + appeared + ")" : ""));
+        return visible;
     }
 
     /** Click Home link */
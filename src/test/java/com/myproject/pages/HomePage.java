@@ -1,18 +1,21 @@
 package com.myproject.pages;
 
+import com.myproject.base.BatchProbe;
+import com.myproject.base.ElementFinder;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 public class HomePage {
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private static final Duration WAIT = Duration.ofSeconds(10);
 
     // --- locators ---
     private final By logo = By.cssSelector(".logo, .site-logo, .navbar-brand img");
@@ -32,7 +35,6 @@ public class HomePage {
 
     public HomePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
     }
 
     // expose driver for tests/listener to use if needed
@@ -41,10 +43,10 @@ public class HomePage {
     }
 
     // --- helpers ---
+    // one executeScript per poll instead of findElement + isDisplayed (+ isEnabled) per locator
     private boolean isVisible(By locator) {
         try {
-            wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            return driver.findElements(locator).size() > 0;
+            return BatchProbe.await(driver, locator, BatchProbe.ElementState::isDisplayed, WAIT).isDisplayed();
         } catch (Exception e) {
             return false;
         }
@@ -52,8 +54,7 @@ public class HomePage {
 
     private boolean isClickable(By locator) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(locator));
-            return driver.findElements(locator).size() > 0;
+            return BatchProbe.await(driver, locator, BatchProbe.ElementState::isClickable, WAIT).isClickable();
         } catch (Exception e) {
             return false;
         }
@@ -72,43 +73,43 @@ public class HomePage {
     }
 
     public boolean isProductsIconPresentAndClickable() {
-        boolean result = isVisible(productsLink) && isClickable(productsLink);
+        boolean result = isClickable(productsLink);
         logStep("Checked Products icon presence & clickable → " + result);
         return result;
     }
 
     public boolean isCartIconPresentAndClickable() {
-        boolean result = isVisible(cartLink) && isClickable(cartLink);
+        boolean result = isClickable(cartLink);
         logStep("Checked Cart icon presence & clickable → " + result);
         return result;
     }
 
     public boolean isSignupLoginPresentAndClickable() {
-        boolean result = isVisible(signupLoginLink) && isClickable(signupLoginLink);
+        boolean result = isClickable(signupLoginLink);
         logStep("Checked Signup/Login presence & clickable → " + result);
         return result;
     }
 
     public boolean isTestCasesPresentAndClickable() {
-        boolean result = isVisible(testCasesLink) && isClickable(testCasesLink);
+        boolean result = isClickable(testCasesLink);
         logStep("Checked Test Cases presence & clickable → " + result);
         return result;
     }
 
     public boolean isApiTestingPresentAndClickable() {
-        boolean result = isVisible(apiTestingLink) && isClickable(apiTestingLink);
+        boolean result = isClickable(apiTestingLink);
         logStep("Checked API Testing presence & clickable → " + result);
         return result;
     }
 
     public boolean isVideoTutorialsPresentAndClickable() {
-        boolean result = isVisible(videoTutorialsLink) && isClickable(videoTutorialsLink);
+        boolean result = isClickable(videoTutorialsLink);
         logStep("Checked Video Tutorials presence & clickable → " + result);
         return result;
     }
 
     public boolean isContactUsPresentAndClickable() {
-        boolean result = isVisible(contactUsLink) && isClickable(contactUsLink);
+        boolean result = isClickable(contactUsLink);
         logStep("Checked Contact Us presence & clickable → " + result);
         return result;
     }
@@ -133,7 +134,7 @@ public class HomePage {
 
     public boolean areProductsAvailableOnHomepage() {
         try {
-            List<WebElement> list = driver.findElements(productItems);
+            List<WebElement> list = ElementFinder.probeAll(driver, productItems);
             boolean result = list.size() > 0;
             logStep("Checked products availability on homepage → count=" + list.size());
             return result;
@@ -145,12 +146,12 @@ public class HomePage {
 
     public boolean isCarouselWorking() {
         try {
-            List<WebElement> slides = driver.findElements(carouselSlides);
+            List<WebElement> slides = ElementFinder.probeAll(driver, carouselSlides);
             boolean result;
             if (slides.size() > 1) {
                 result = true;
             } else {
-                result = driver.findElements(carouselNext).size() > 0;
+                result = ElementFinder.probe(driver, carouselNext).size() > 0;
             }
             logStep("Checked carousel working → " + result);
             return result;
@@ -160,6 +161,60 @@ public class HomePage {
         }
     }
 
+    // --- batch checks: the whole family in one round trip per poll ---
+
+    private Map<String, By> navigationLinks() {
+        Map<String, By> links = new LinkedHashMap<>();
+        links.put("Products", productsLink);
+        links.put("Cart", cartLink);
+        links.put("Signup / Login", signupLoginLink);
+        links.put("Test Cases", testCasesLink);
+        links.put("API Testing", apiTestingLink);
+        links.put("Video Tutorials", videoTutorialsLink);
+        links.put("Contact Us", contactUsLink);
+        return links;
+    }
+
+    private Map<String, By> sections() {
+        Map<String, By> s = new LinkedHashMap<>();
+        s.put("Home icon", logo);
+        s.put("Categories", categoriesSection);
+        s.put("Feature Items", featureItemsSection);
+        s.put("Brands", brandsSection);
+        return s;
+    }
+
+    /**
+     * Presence & clickability of every header navigation link (name -> result), same checks as the
+     * is...PresentAndClickable methods.
+     */
+    public Map<String, Boolean> checkNavigationLinks() {
+        return check(navigationLinks(), BatchProbe.ElementState::isClickable, "presence & clickable");
+    }
+
+    /**
+     * Visibility of the Home icon and the Categories / Feature Items / Brands sections (name -> result).
+     */
+    public Map<String, Boolean> checkSections() {
+        return check(sections(), BatchProbe.ElementState::isDisplayed, "presence");
+    }
+
+    private Map<String, Boolean> check(Map<String, By> locators, Predicate<BatchProbe.ElementState> condition, String what) {
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        try {
+            Map<String, BatchProbe.ElementState> states = BatchProbe.awaitAll(driver, locators, condition, WAIT);
+            for (Map.Entry<String, BatchProbe.ElementState> e : states.entrySet()) {
+                boolean ok = condition.test(e.getValue());
+                results.put(e.getKey(), ok);
+                logStep("Checked " + e.getKey() + " " + what + " → " + ok + " (" + e.getValue() + ")");
+            }
+        } catch (Exception e) {
+            logStep("Error during batch check: " + e.getMessage());
+            for (String key : locators.keySet()) results.put(key, false);
+        }
+        return results;
+    }
+
     public boolean isTestCaseButtonClickable() {
         boolean result = isTestCasesPresentAndClickable();
         logStep("Checked Test Case button clickable → " + result);
@@ -176,7 +231,7 @@ public class HomePage {
             throw new IllegalStateException("Home logo not clickable or not present");
         }
         try {
-            driver.findElement(logo).click();
+            ElementFinder.await(driver, logo).click();
             logStep("Clicked Home logo to navigate to homepage");
         } catch (Exception e) {
             logStep("Failed to click Home logo: " + e.getMessage());
@@ -191,7 +246,7 @@ public class HomePage {
             throw new IllegalStateException("Products link not clickable or not present");
         }
         try {
-            driver.findElement(productsLink).click();
+            ElementFinder.await(driver, productsLink).click();
             logStep("Clicked Products link");
         } catch (Exception e) {
             logStep("Exception while clicking Products link: " + e.getMessage());
@@ -206,7 +261,7 @@ public class HomePage {
             throw new IllegalStateException("Cart link not clickable or not present");
         }
         try {
-            driver.findElement(cartLink).click();
+            ElementFinder.await(driver, cartLink).click();
             logStep("Clicked Cart link");
         } catch (Exception e) {
             logStep("Exception while clicking Cart link: " + e.getMessage());
@@ -221,7 +276,7 @@ public class HomePage {
             throw new IllegalStateException("Signup / Login link not clickable or not present");
         }
         try {
-            driver.findElement(signupLoginLink).click();
+            ElementFinder.await(driver, signupLoginLink).click();
             logStep("Clicked Signup / Login link");
         } catch (Exception e) {
             logStep("Exception while clicking Signup / Login link: " + e.getMessage());
@@ -236,7 +291,7 @@ public class HomePage {
             throw new IllegalStateException("Test Cases link not clickable or not present");
         }
         try {
-            driver.findElement(testCasesLink).click();
+            ElementFinder.await(driver, testCasesLink).click();
             logStep("Clicked Test Cases link");
         } catch (Exception e) {
             logStep("Exception while clicking Test Cases link: " + e.getMessage());
@@ -251,7 +306,7 @@ public class HomePage {
             throw new IllegalStateException("API Testing link not clickable or not present");
         }
         try {
-            driver.findElement(apiTestingLink).click();
+            ElementFinder.await(driver, apiTestingLink).click();
             logStep("Clicked API Testing link");
         } catch (Exception e) {
             logStep("Exception while clicking API Testing link: " + e.getMessage());
@@ -266,7 +321,7 @@ public class HomePage {
             throw new IllegalStateException("Video Tutorials link not clickable or not present");
         }
         try {
-            driver.findElement(videoTutorialsLink).click();
+            ElementFinder.await(driver, videoTutorialsLink).click();
             logStep("Clicked Video Tutorials link");
         } catch (Exception e) {
             logStep("Exception while clicking Video Tutorials link: " + e.getMessage());
@@ -281,7 +336,7 @@ public class HomePage {
             throw new IllegalStateException("Contact Us link not clickable or not present");
         }
         try {
-            driver.findElement(contactUsLink).click();
+            ElementFinder.await(driver, contactUsLink).click();
             logStep("Clicked Contact Us link");
         } catch (Exception e) {
             logStep("Exception while clicking Contact Us link: " + e.getMessage());
@@ -297,7 +352,7 @@ public class HomePage {
             throw new IllegalStateException(actionName + " - element not clickable/present");
         }
         try {
-            driver.findElement(locator).click();
+            ElementFinder.await(driver, locator).click();
             logStep(actionName + " - click successful");
         } catch (Exception e) {
             logStep(actionName + " - exception: " + e.getMessage());
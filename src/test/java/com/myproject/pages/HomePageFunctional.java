@@ -1,5 +1,6 @@
 package com.myproject.pages;
 
+import com.myproject.base.ElementFinder;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -93,7 +94,7 @@ public class HomePageFunctional {
             input.sendKeys(email);
             TestListener.info("Entered subscription email: " + email);
             if (wait.until(ExpectedConditions.elementToBeClickable(subscriptionButton)) != null) {
-                driver.findElement(subscriptionButton).click();
+                ElementFinder.await(driver, subscriptionButton).click();
                 TestListener.info("Clicked subscription button");
             } else {
                 input.sendKeys(Keys.ENTER);
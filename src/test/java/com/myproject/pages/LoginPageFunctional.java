@@ -1,5 +1,7 @@
 package com.myproject.pages;
 
+import com.myproject.base.ElementFinder;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -29,7 +31,7 @@ public class LoginPageFunctional {
     public boolean openLoginPage() {
         TestListener.info("Open login page");
         try {
-            List<WebElement> nav = driver.findElements(signupLoginNav);
+            List<WebElement> nav = ElementFinder.probe(driver, signupLoginNav);
             if (!nav.isEmpty()) {
                 for (WebElement n : nav) {
                     if (n.isDisplayed()) {
@@ -39,7 +41,7 @@ public class LoginPageFunctional {
                     }
                 }
             }
-            driver.get("https://www.automationexercise.com/login");
+            driver.get(ConfigReader.url("/login"));
             waitUntilLoginReady();
             return true;
         } catch (Exception e) {
@@ -52,7 +54,7 @@ public class LoginPageFunctional {
         try {
             wait.until(d -> {
                 try {
-                    if (!d.findElements(emailInput).isEmpty() && d.findElement(emailInput).isDisplayed()) return true;
+                    if (!ElementFinder.probe(d, emailInput).isEmpty() && ElementFinder.await(d, emailInput).isDisplayed()) return true;
                 } catch (Exception ignored) {}
                 try {
                     String cur = d.getCurrentUrl();
@@ -68,32 +70,32 @@ public class LoginPageFunctional {
         TestListener.info("Login: email=" + mask(email));
         try {
             wait.until(ExpectedConditions.visibilityOfElementLocated(emailInput)).clear();
-            driver.findElement(emailInput).sendKeys(email);
+            ElementFinder.await(driver, emailInput).sendKeys(email);
             TestListener.info("Filled email");
 
             wait.until(ExpectedConditions.visibilityOfElementLocated(passwordInput)).clear();
-            driver.findElement(passwordInput).sendKeys(password);
+            ElementFinder.await(driver, passwordInput).sendKeys(password);
             TestListener.info("Filled password");
 
             WebElement btn = null;
-            try { btn = driver.findElement(loginBtn); } catch (Exception ignored) {}
+            try { btn = ElementFinder.await(driver, loginBtn); } catch (Exception ignored) {}
             if (btn != null && btn.isDisplayed()) {
                 try { btn.click(); } catch (Exception ex) { ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn); }
                 TestListener.info("Clicked login button");
             } else {
                 // fallback: press Enter on password input
-                driver.findElement(passwordInput).sendKeys(Keys.ENTER);
+                ElementFinder.await(driver, passwordInput).sendKeys(Keys.ENTER);
                 TestListener.info("Submitted via ENTER fallback");
             }
 
             // wait for success marker or explicit error
             boolean result = wait.until(d -> {
                 try {
-                    List<WebElement> ok = d.findElements(loggedInMarker);
+                    List<WebElement> ok = ElementFinder.probe(d, loggedInMarker);
                     for (WebElement e : ok) if (e.isDisplayed()) return true;
                 } catch (Exception ignored) {}
                 try {
-                    List<WebElement> err = d.findElements(loginError);
+                    List<WebElement> err = ElementFinder.probe(d, loginError);
                     for (WebElement e : err) if (e.isDisplayed()) return false;
                 } catch (Exception ignored) {}
                 return null;
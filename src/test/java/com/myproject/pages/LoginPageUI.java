@@ -1,12 +1,19 @@
 package com.myproject.pages;
 
+import com.myproject.base.AsyncWaits;
+import com.myproject.base.BatchProbe;
+import com.myproject.base.ElementFinder;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 public class LoginPageUI {
     private final WebDriver driver;
@@ -59,10 +66,10 @@ public class LoginPageUI {
     }
 
     // helper safe visibility/clickable
+    // (one executeScript per poll instead of findElement + isDisplayed (+ isEnabled))
     private boolean isVisible(By locator) {
         try {
-            wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            boolean present = !driver.findElements(locator).isEmpty() && driver.findElement(locator).isDisplayed();
+            boolean present = BatchProbe.await(driver, locator, BatchProbe.ElementState::isDisplayed, Duration.ofSeconds(10)).isDisplayed();
             logStep("Checked visibility for locator " + locator + " -> " + present);
             return present;
         } catch (Exception e) {
@@ -73,9 +80,9 @@ public class LoginPageUI {
 
     private boolean isClickable(By locator) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(locator));
-            logStep("Element clickable: " + locator);
-            return true;
+            boolean clickable = BatchProbe.await(driver, locator, BatchProbe.ElementState::isClickable, Duration.ofSeconds(10)).isClickable();
+            logStep(clickable ? "Element clickable: " + locator : "Element not clickable: " + locator);
+            return clickable;
         } catch (Exception e) {
             logStep("Element not clickable: " + locator + " -> " + e.getMessage());
             return false;
@@ -89,11 +96,11 @@ public class LoginPageUI {
             String cur = driver.getCurrentUrl() == null ? "" : driver.getCurrentUrl();
             if (!cur.contains("/login")) {
                 if (isClickable(signupLoginNavLink)) {
-                    driver.findElement(signupLoginNavLink).click();
+                    ElementFinder.await(driver, signupLoginNavLink).click();
                     logStep("Clicked top nav 'Signup / Login'");
                 } else {
                     // fallback: open direct URL
-                    driver.get("https://www.automationexercise.com/login");
+                    driver.get(ConfigReader.url("/login"));
                     logStep("Opened login page via direct URL fallback");
                 }
                 wait.until(ExpectedConditions.urlContains("/login"));
@@ -165,6 +172,38 @@ public class LoginPageUI {
         return res;
     }
 
+    // batch variant of 1-6: every form element in one round trip per poll (name -> result)
+    public Map<String, Boolean> checkLoginAndSignupForms() {
+        logStep("Check: checkLoginAndSignupForms()");
+        Map<String, By> fields = new LinkedHashMap<>();
+        fields.put("Login section", loginSection);
+        fields.put("Login email", loginEmailInput);
+        fields.put("Login password", loginPasswordInput);
+        fields.put("Login button", loginButton);
+        fields.put("Signup section", signupSection);
+        fields.put("Signup name", signupNameInput);
+        fields.put("Signup email", signupEmailInput);
+        fields.put("Signup button", signupButton);
+
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        try {
+            // buttons must also be clickable; everything else only visible
+            Predicate<Map.Entry<String, BatchProbe.ElementState>> ok = e -> e.getKey().endsWith("button")
+                    ? e.getValue().isClickable() : e.getValue().isDisplayed();
+            Map<String, BatchProbe.ElementState> states = BatchProbe.awaitAll(driver, fields,
+                    BatchProbe.ElementState::isDisplayed, Duration.ofSeconds(10));
+            for (Map.Entry<String, BatchProbe.ElementState> e : states.entrySet()) {
+                results.put(e.getKey(), ok.test(e));
+                logStep("Checked " + e.getKey() + " -> " + ok.test(e) + " (" + e.getValue() + ")");
+            }
+        } catch (Exception e) {
+            logStep("Exception in checkLoginAndSignupForms(): " + e.getMessage());
+            for (String key : fields.keySet()) results.put(key, false);
+        }
+        logStep("Result: checkLoginAndSignupForms -> " + results);
+        return results;
+    }
+
     // Navigation buttons from login page
     public boolean isHomeNavWorking() {
         logStep("Action: isHomeNavWorking()");
@@ -218,7 +257,7 @@ public class LoginPageUI {
                 logStep("Nav locator not clickable: " + navLocator);
                 // fallback: check href attribute
                 try {
-                    WebElement link = driver.findElement(navLocator);
+                    WebElement link = ElementFinder.await(driver, navLocator);
                     String href = link.getAttribute("href");
                     boolean hrefOk = href != null && href.contains(expectedPathFragment);
                     logStep("Fallback href check for " + navLocator + " -> " + href + " -> " + hrefOk);
@@ -229,7 +268,7 @@ public class LoginPageUI {
                 }
             }
 
-            driver.findElement(navLocator).click();
+            ElementFinder.await(driver, navLocator).click();
             logStep("Clicked nav locator: " + navLocator);
             // wait for either a URL change to expected fragment OR any URL change
             wait.until(d -> d.getCurrentUrl().contains(expectedPathFragment) || !d.getCurrentUrl().equals(original));
@@ -260,7 +299,7 @@ public class LoginPageUI {
             logStep("Entered subscription email");
             // click subscribe if visible
             if (isClickable(subscriptionBtn)) {
-                driver.findElement(subscriptionBtn).click();
+                ElementFinder.await(driver, subscriptionBtn).click();
                 logStep("Clicked subscription button");
             } else {
                 input.sendKeys(Keys.ENTER);
@@ -309,10 +348,8 @@ public class LoginPageUI {
     public boolean isScrollUpVisibleAfterScroll() {
         logStep("Action: isScrollUpVisibleAfterScroll()");
         try {
-            // scroll down
-            ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            // wait briefly for scroll-up button to appear
-            Thread.sleep(700); // small wait to allow UI to react
+            // scroll down; isVisible then waits for the button to fade in
+            AsyncWaits.scrollToBottom(driver, Duration.ofSeconds(5));
             boolean res = isVisible(scrollUpSelectors);
             logStep("Result: isScrollUpVisibleAfterScroll -> " + res);
             return res;
@@ -326,22 +363,18 @@ public class LoginPageUI {
         logStep("Action: clickScrollUpAndVerifyTop()");
         try {
             // ensure we are scrolled down
-            ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            Thread.sleep(700);
-            List<WebElement> els = driver.findElements(scrollUpSelectors);
+            AsyncWaits.scrollToBottom(driver, Duration.ofSeconds(5));
+            AsyncWaits.visible(driver, scrollUpSelectors, Duration.ofSeconds(3));
+            List<WebElement> els = ElementFinder.probe(driver, scrollUpSelectors);
             if (els.isEmpty()) {
                 logStep("No scroll-up button found");
                 return false;
             }
             WebElement btn = els.get(0);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
-            // wait for top
-            wait.until(d -> {
-                Object res = ((JavascriptExecutor) d).executeScript("return Math.round(window.pageYOffset);");
-                if (res instanceof Long) return ((Long) res) == 0L;
-                if (res instanceof Number) return ((Number) res).intValue() == 0;
+            if (!AsyncWaits.clickAndAwaitTop(driver, btn, 0, Duration.ofSeconds(10))) {
+                logStep("Result: clickScrollUpAndVerifyTop -> false (page did not reach top)");
                 return false;
-            });
+            }
             logStep("Result: clickScrollUpAndVerifyTop -> true (page scrolled to top)");
             return true;
         } catch (Exception e) {
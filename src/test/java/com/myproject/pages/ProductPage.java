@@ -1,20 +1,29 @@
 package com.myproject.pages;
 
+import com.myproject.base.AsyncWaits;
+import com.myproject.base.BatchProbe;
+import com.myproject.base.DomCheck;
+import com.myproject.base.ElementFinder;
+import com.myproject.base.StaticDom;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 public class ProductPage {
+    private static final String PATH = "/products";
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
     private final WebDriver driver;
-    private final WebDriverWait wait;
     private final Actions actions;
 
     // Top nav links
@@ -24,44 +33,44 @@ public class ProductPage {
     private final By signupLoginLink = By.linkText("Signup / Login");
     private final By testCasesLink = By.linkText("Test Cases");
 
-    // logos and UI
-    private final By siteLogo = By.cssSelector(".logo, .navbar-brand img");
-    private final By offersLogo = By.cssSelector(".offer-image, .offers, .promo, .campaign");
-    private final By searchInput = By.cssSelector("input#search_product, input[name='search'], input[type='search']");
-    private final By categoriesSection = By.cssSelector(".left-sidebar, #categories");
-    private final By brandsSection = By.cssSelector(".brands_products, .brands");
-    private final By allProductsSection = By.cssSelector(".features_items, .all-products, .product-list");
+    // logos and UI (static locators are shared with domChecks())
+    private static final By siteLogo = By.cssSelector(".logo, .navbar-brand img");
+    private static final By offersLogo = By.cssSelector(".offer-image, .offers, .promo, .campaign");
+    private static final By searchInput = By.cssSelector("input#search_product, input[name='search'], input[type='search']");
+    private static final By categoriesSection = By.cssSelector(".left-sidebar, #categories");
+    private static final By brandsSection = By.cssSelector(".brands_products, .brands");
+    private static final By allProductsSection = By.cssSelector(".features_items, .all-products, .product-list");
 
     // category links on product page (women/men/kids)
-    private final By womenCategory = By.xpath(
+    private static final By womenCategory = By.xpath(
     	    "//div[contains(@class,'left-sidebar') or contains(@id,'categories')]"
     	  + "//a[contains(translate(normalize-space(.),'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'women')]"
     	);
-    	private final By menCategory = By.xpath(
+    	private static final By menCategory = By.xpath(
     	    "//div[contains(@class,'left-sidebar') or contains(@id,'categories')]"
     	  + "//a[contains(translate(normalize-space(.),'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'men')]"
     	);
-    	private final By kidsCategory = By.xpath(
+    	private static final By kidsCategory = By.xpath(
     	    "//div[contains(@class,'left-sidebar') or contains(@id,'categories')]"
     	  + "//a[contains(translate(normalize-space(.),'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'kids')]"
     	);
     	
     // brands - specific brand names in brands section
-    private final By brandAllenSolly = By.xpath("//*[contains(@class,'brands') or contains(@class,'brand')]//a[contains(.,'Allen Solly') or contains(.,'Allen Solly Junior')]");
-    private final By brandKookieKids = By.xpath("//*[contains(@class,'brands') or contains(@class,'brand')]//a[contains(.,'Kookie Kids') or contains(.,'Kookie')]");
-    private final By brandBiba = By.xpath("//*[contains(@class,'brands') or contains(@class,'brand')]//a[contains(.,'Biba')]");
+    private static final By brandAllenSolly = By.xpath("//*[contains(@class,'brands') or contains(@class,'brand')]//a[contains(.,'Allen Solly') or contains(.,'Allen Solly Junior')]");
+    private static final By brandKookieKids = By.xpath("//*[contains(@class,'brands') or contains(@class,'brand')]//a[contains(.,'Kookie Kids') or contains(.,'Kookie')]");
+    private static final By brandBiba = By.xpath("//*[contains(@class,'brands') or contains(@class,'brand')]//a[contains(.,'Biba')]");
 
     // products and overlay
-    private final By productCard = By.cssSelector(".product-image-wrapper, .single-products, .product, .col-sm-4");
+    private static final By productCard = By.cssSelector(".product-image-wrapper, .single-products, .product, .col-sm-4");
     private final By addToCartOverlaySelector = By.cssSelector(".product-overlay .add-to-cart, .overlay-content .add-to-cart, .add-to-cart");
 
     // footer copyright
-    private final By footerCopyright = By.xpath("//*[contains(text(),'Copyright') and contains(text(),'All rights reserved')]");
+    private static final By footerCopyright = By.xpath("//*[contains(text(),'Copyright') and contains(text(),'All rights reserved')]");
     // scroll up
-    private final By scrollUp = By.cssSelector("#scrollUp, .scroll-up, .back-to-top");
+    private static final By scrollUp = By.cssSelector("#scrollUp, .scroll-up, .back-to-top");
 
     // product image modal or full screen viewer
-    private final By productImage = By.cssSelector(".product-image-wrapper img, .gallery img, .zoom, img");
+    private static final By productImage = By.cssSelector(".product-image-wrapper img, .gallery img, .zoom, img");
     private final By productModal = By.cssSelector(".fancybox-wrap, .modal, .product-overlay-modal, .zoomed");
 
     // special offer section
@@ -69,7 +78,6 @@ public class ProductPage {
 
     public ProductPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         this.actions = new Actions(driver);
     }
 
@@ -80,11 +88,10 @@ public class ProductPage {
     }
 
     // --- Generic helpers ---
+    // one executeScript per poll instead of wait + findElement + isDisplayed (+ isEnabled + findElements)
     private boolean isVisible(By locator) {
         try {
-            wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            WebElement el = driver.findElement(locator);
-            boolean displayed = el.isDisplayed();
+            boolean displayed = BatchProbe.await(driver, locator, BatchProbe.ElementState::isDisplayed, WAIT).isDisplayed();
             logStep("Checked visibility of locator " + locator + " -> " + displayed);
             return displayed;
         } catch (Exception e) {
@@ -95,16 +102,53 @@ public class ProductPage {
 
     private boolean isClickable(By locator) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(locator));
-            boolean exists = driver.findElements(locator).size() > 0;
-            logStep("Checked clickability of locator " + locator + " -> " + exists);
-            return exists;
+            boolean clickable = BatchProbe.await(driver, locator, BatchProbe.ElementState::isClickable, WAIT).isClickable();
+            logStep("Checked clickability of locator " + locator + " -> " + clickable);
+            return clickable;
         } catch (Exception e) {
             logStep("Clickability check failed for locator " + locator + " -> " + e.getMessage());
             return false;
         }
     }
 
+    // presence-only checks: from the served HTML snapshot in ui.static.mode, otherwise visibility in the browser
+    private boolean isPresent(By locator) {
+        if (!StaticDom.enabled()) return isVisible(locator);
+        try {
+            boolean present = StaticDom.exists(ConfigReader.url(PATH), locator);
+            logStep("Checked presence of locator " + locator + " in static DOM -> " + present);
+            return present;
+        } catch (Exception e) {
+            logStep("Static DOM check failed for locator " + locator + " -> " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Every check of this page: presence of sections, logos, search and footer needs only the served HTML (see
+     * StaticDom); clickability, hover, scrolling and the image viewer need a browser.
+     */
+    public static List<DomCheck> domChecks() {
+        String url = ConfigReader.url(PATH);
+        return List.of(
+                DomCheck.onServedHtml("Products: site logo", url, siteLogo),
+                DomCheck.onServedHtml("Products: search bar", url, searchInput),
+                DomCheck.onServedHtml("Products: categories section", url, categoriesSection),
+                DomCheck.onServedHtml("Products: brands section", url, brandsSection),
+                DomCheck.onServedHtml("Products: all products section", url, allProductsSection),
+                DomCheck.onServedHtml("Products: offers logo", url, offersLogo),
+                DomCheck.onServedHtml("Products: footer copyright", url, footerCopyright),
+                DomCheck.needsBrowser("Products: Women category clickable", url, womenCategory),
+                DomCheck.needsBrowser("Products: Men category clickable", url, menCategory),
+                DomCheck.needsBrowser("Products: Kids category clickable", url, kidsCategory),
+                DomCheck.needsBrowser("Products: Allen Solly brand clickable", url, brandAllenSolly),
+                DomCheck.needsBrowser("Products: Kookie Kids brand clickable", url, brandKookieKids),
+                DomCheck.needsBrowser("Products: Biba brand clickable", url, brandBiba),
+                DomCheck.needsBrowser("Products: hover overlay", url, productCard),
+                DomCheck.needsBrowser("Products: scroll up", url, scrollUp),
+                DomCheck.needsBrowser("Products: image viewer", url, productImage));
+    }
+
     // Top-nav presence & clickability checks (with step logs)
     public boolean isProductsLinkPresentAndClickable() {
         logStep("Step: Verify Products link is present and clickable");
@@ -144,42 +188,42 @@ public class ProductPage {
     // Logos / search / sections
     public boolean isSiteLogoPresent() {
         logStep("Step: Check site/app logo presence");
-        boolean result = isVisible(siteLogo);
+        boolean result = isPresent(siteLogo);
         logStep("Result: Site logo visible -> " + result);
         return result;
     }
 
     public boolean isOffersLogoPresent() {
         logStep("Step: Check offers/logo presence on product page");
-        boolean result = isVisible(offersLogo);
+        boolean result = isPresent(offersLogo);
         logStep("Result: Offers logo present -> " + result);
         return result;
     }
 
     public boolean isSearchBarPresent() {
         logStep("Step: Check search bar presence");
-        boolean result = isVisible(searchInput);
+        boolean result = isPresent(searchInput);
         logStep("Result: Search bar present -> " + result);
         return result;
     }
 
     public boolean isCategoriesSectionPresent() {
         logStep("Step: Check categories section presence");
-        boolean result = isVisible(categoriesSection);
+        boolean result = isPresent(categoriesSection);
         logStep("Result: Categories section present -> " + result);
         return result;
     }
 
     public boolean isBrandsSectionPresent() {
         logStep("Step: Check brands section presence");
-        boolean result = isVisible(brandsSection);
+        boolean result = isPresent(brandsSection);
         logStep("Result: Brands section present -> " + result);
         return result;
     }
 
     public boolean isAllProductsSectionPresent() {
         logStep("Step: Check all products section presence");
-        boolean result = isVisible(allProductsSection);
+        boolean result = isPresent(allProductsSection);
         logStep("Result: All products section present -> " + result);
         return result;
     }
@@ -243,11 +287,94 @@ public class ProductPage {
         }
     }
 
+    // --- batch checks: a whole family in one round trip per poll ---
+
+    private Map<String, By> navigationLinks() {
+        Map<String, By> links = new LinkedHashMap<>();
+        links.put("Products", productsLink);
+        links.put("Home", homeLink);
+        links.put("Cart", cartLink);
+        links.put("Signup / Login", signupLoginLink);
+        links.put("Test Cases", testCasesLink);
+        return links;
+    }
+
+    private Map<String, By> sections() {
+        Map<String, By> s = new LinkedHashMap<>();
+        s.put("Site logo", siteLogo);
+        s.put("Search bar", searchInput);
+        s.put("Categories", categoriesSection);
+        s.put("Brands", brandsSection);
+        s.put("All products", allProductsSection);
+        return s;
+    }
+
+    private Map<String, By> categories() {
+        Map<String, By> c = new LinkedHashMap<>();
+        c.put("Women", womenCategory);
+        c.put("Men", menCategory);
+        c.put("Kids", kidsCategory);
+        return c;
+    }
+
+    private Map<String, By> brands() {
+        Map<String, By> b = new LinkedHashMap<>();
+        b.put("Allen Solly", brandAllenSolly);
+        b.put("Kookie Kids", brandKookieKids);
+        b.put("Biba", brandBiba);
+        return b;
+    }
+
+    /**
+     * Presence & clickability of the top navigation links (name -> result), same checks as the
+     * is...PresentAndClickable methods.
+     */
+    public Map<String, Boolean> checkNavigationLinks() {
+        return check(navigationLinks(), BatchProbe.ElementState::isClickable, "present & clickable");
+    }
+
+    /**
+     * Visibility of the logo, search bar and the Categories / Brands / All products sections (name -> result).
+     */
+    public Map<String, Boolean> checkSections() {
+        return check(sections(), BatchProbe.ElementState::isDisplayed, "visible");
+    }
+
+    /**
+     * Presence & clickability of the Women / Men / Kids category links (name -> result).
+     */
+    public Map<String, Boolean> checkCategories() {
+        return check(categories(), BatchProbe.ElementState::isClickable, "present & clickable");
+    }
+
+    /**
+     * Presence & clickability of the Allen Solly / Kookie Kids / Biba brand links (name -> result).
+     */
+    public Map<String, Boolean> checkBrands() {
+        return check(brands(), BatchProbe.ElementState::isClickable, "present & clickable");
+    }
+
+    private Map<String, Boolean> check(Map<String, By> locators, Predicate<BatchProbe.ElementState> condition, String what) {
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        try {
+            Map<String, BatchProbe.ElementState> states = BatchProbe.awaitAll(driver, locators, condition, WAIT);
+            for (Map.Entry<String, BatchProbe.ElementState> e : states.entrySet()) {
+                boolean ok = condition.test(e.getValue());
+                results.put(e.getKey(), ok);
+                logStep("Result: " + e.getKey() + " " + what + " -> " + ok + " (" + e.getValue() + ")");
+            }
+        } catch (Exception e) {
+            logStep("Batch check failed -> " + e.getMessage());
+            for (String key : locators.keySet()) results.put(key, false);
+        }
+        return results;
+    }
+
     // Hover product -> overlay visible with price & add-to-cart
     public boolean isHoverOverlayShowingPriceAndAddToCart() {
         logStep("Step: Hover first product and check overlay with price & Add to Cart");
         try {
-            List<WebElement> cards = driver.findElements(productCard);
+            List<WebElement> cards = ElementFinder.probeAll(driver, productCard);
             if (cards.isEmpty()) {
                 logStep("No product cards found on the product page");
                 return false;
@@ -255,10 +382,10 @@ public class ProductPage {
             WebElement first = cards.get(0);
             actions.moveToElement(first).perform();
             logStep("Hovered over first product card");
-            // short sleep to allow overlay to appear
-            try { Thread.sleep(700); } catch (InterruptedException ignored) {}
-            boolean overlayPresent = !first.findElements(addToCartOverlaySelector).isEmpty()
-                    || !driver.findElements(addToCartOverlaySelector).isEmpty();
+            // overlay slides in with a CSS transition
+            AsyncWaits.transitionsDone(driver, first, Duration.ofSeconds(3));
+            boolean overlayPresent = !ElementFinder.probe(first, addToCartOverlaySelector).isEmpty()
+                    || !ElementFinder.probe(driver, addToCartOverlaySelector).isEmpty();
             logStep("Overlay + Add-to-Cart present after hover -> " + overlayPresent);
             return overlayPresent;
         } catch (Exception e) {
@@ -270,7 +397,7 @@ public class ProductPage {
     // Footer copyright text
     public boolean isFooterCopyrightTextPresent() {
         logStep("Step: Verify footer copyright text presence");
-        boolean result = isVisible(footerCopyright);
+        boolean result = isPresent(footerCopyright);
         logStep("Result: Footer copyright present -> " + result);
         return result;
     }
@@ -279,23 +406,20 @@ public class ProductPage {
     public boolean clickScrollUpAndVerifyTop() {
         logStep("Step: Scroll to bottom and click scroll-up button, then verify top");
         try {
-            ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            try { Thread.sleep(700); } catch (InterruptedException ignored) {}
-            List<WebElement> els = driver.findElements(scrollUp);
+            AsyncWaits.scrollToBottom(driver, Duration.ofSeconds(5));
+            // the button fades in once the page is scrolled
+            AsyncWaits.visible(driver, scrollUp, Duration.ofSeconds(3));
+            List<WebElement> els = ElementFinder.probe(driver, scrollUp);
             if (els.isEmpty()) {
                 logStep("Scroll-up button not present");
                 return false;
             }
             WebElement btn = els.get(0);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
-            logStep("Clicked scroll-up button");
-            // wait for top position approximately 0
-            wait.until(d -> {
-                Object res = ((JavascriptExecutor)d).executeScript("return Math.round(window.pageYOffset);");
-                if (res instanceof Long) return ((Long) res) == 0L;
-                if (res instanceof Number) return ((Number) res).intValue() == 0;
+            logStep("Clicking scroll-up button");
+            if (!AsyncWaits.clickAndAwaitTop(driver, btn, 0, Duration.ofSeconds(10))) {
+                logStep("Page did not scroll back to top");
                 return false;
-            });
+            }
             logStep("Verified page scrolled back to top");
             return true;
         } catch (Exception e) {
@@ -308,7 +432,7 @@ public class ProductPage {
     public boolean isProductImageFullScreenOnClick() {
         logStep("Step: Click first product image and verify full-screen/modal opens");
         try {
-            List<WebElement> imgs = driver.findElements(productImage);
+            List<WebElement> imgs = ElementFinder.probe(driver, productImage);
             if (imgs.isEmpty()) {
                 logStep("No product images found to click");
                 return false;
@@ -316,12 +440,11 @@ public class ProductPage {
             WebElement img = imgs.get(0);
             img.click();
             logStep("Clicked product image");
-            try { Thread.sleep(700); } catch (InterruptedException ignored) {}
-            boolean modalVisible = !driver.findElements(productModal).isEmpty() && driver.findElement(productModal).isDisplayed();
+            boolean modalVisible = AsyncWaits.visible(driver, productModal, Duration.ofSeconds(3));
             logStep("Product modal visible -> " + modalVisible);
             // close modal if present
             try {
-                List<WebElement> closeBtns = driver.findElements(By.cssSelector(".fancybox-close, .modal-close, .close"));
+                List<WebElement> closeBtns = ElementFinder.probe(driver, By.cssSelector(".fancybox-close, .modal-close, .close"));
                 if (!closeBtns.isEmpty()) {
                     closeBtns.get(0).click();
                     logStep("Closed product modal");
@@ -338,13 +461,13 @@ public class ProductPage {
     public boolean isSpecialOfferClickable() {
         logStep("Step: Verify special offer section is clickable or contains links");
         try {
-            List<WebElement> els = driver.findElements(specialOfferSection);
+            List<WebElement> els = ElementFinder.probe(driver, specialOfferSection);
             if (els.isEmpty()) {
                 logStep("No special offer section found");
                 return false;
             }
             WebElement el = els.get(0);
-            boolean hasLink = !el.findElements(By.tagName("a")).isEmpty();
+            boolean hasLink = !ElementFinder.probe(el, By.tagName("a")).isEmpty();
             if (hasLink) {
                 logStep("Special offer contains links (clickable) -> true");
                 return true;
@@ -352,7 +475,6 @@ public class ProductPage {
             try {
                 el.click();
                 logStep("Clicked on special offer section (no anchor link)");
-                try { Thread.sleep(700); } catch (InterruptedException ignored) {}
                 driver.navigate().back();
                 logStep("Navigated back after clicking special offer");
             } catch (Exception clickEx) {
@@ -1,5 +1,6 @@
 package com.myproject.pages;
 
+import com.myproject.base.ElementFinder;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
@@ -61,7 +62,7 @@ public class ProductPageFunctional {
     // --- Actions ---
     public void navigateToProductsPage() {
         logStep("Navigating to products page");
-        driver.findElement(productsNav).click();
+        ElementFinder.await(driver, productsNav).click();
         wait.until(ExpectedConditions.urlContains("/products"));
     }
 
@@ -70,19 +71,19 @@ public class ProductPageFunctional {
         WebElement box = wait.until(ExpectedConditions.visibilityOfElementLocated(searchBox));
         box.clear();
         box.sendKeys(query);
-        driver.findElement(searchBtn).click();
+        ElementFinder.await(driver, searchBtn).click();
         wait.until(ExpectedConditions.visibilityOfElementLocated(productCard));
     }
 
     public boolean isSearchResultVisible() {
-        boolean result = !driver.findElements(productCard).isEmpty();
+        boolean result = !ElementFinder.probe(driver, productCard).isEmpty();
         logStep("Search results visible -> " + result);
         return result;
     }
 
     public boolean addFirstProductToCart() {
         try {
-            List<WebElement> cards = driver.findElements(productCard);
+            List<WebElement> cards = ElementFinder.probe(driver, productCard);
             if (cards.isEmpty()) {
                 logStep("No product cards found");
                 return false;
@@ -176,7 +177,7 @@ public class ProductPageFunctional {
             WebElement input = wait.until(ExpectedConditions.visibilityOfElementLocated(subscriptionInput));
             input.clear();
             input.sendKeys(email);
-            driver.findElement(subscriptionBtn).click();
+            ElementFinder.await(driver, subscriptionBtn).click();
             wait.until(ExpectedConditions.visibilityOfElementLocated(subscriptionSuccess));
             logStep("Subscription success with " + email);
             return true;
@@ -189,7 +190,7 @@ public class ProductPageFunctional {
     // --- Scroll + footer ---
     public boolean scrollToBottomAndCheckFooter() {
         ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-        boolean result = driver.findElement(footer).isDisplayed();
+        boolean result = ElementFinder.await(driver, footer).isDisplayed();
         logStep("Footer visible after scroll -> " + result);
         return result;
     }
@@ -1,5 +1,7 @@
 package com.myproject.pages;
 
+import com.myproject.base.AsyncWaits;
+import com.myproject.base.ElementFinder;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -39,7 +41,10 @@ public class RegistrationPageFunctional {
 
     private final By successAlert = By.cssSelector(".alert-success, .status.alert.alert-success, .success-message");
     private final By logoutLink = By.xpath("//a[contains(translate(.,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'logout')]");
-    private final By accountArea = By.xpath("//*[contains(translate(.,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'my account') or contains(translate(.,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'account created')]");
+    // texts / URL of the page shown after a successful registration; texts are only looked for in the parts of
+    // the page that change, where an "any element containing 'account created'" XPath would rescan the document
+    private static final List<String> SUCCESS_TEXTS = List.of("account created", "my account");
+    private static final List<String> SUCCESS_URL_PARTS = List.of("account_created");
 
     public RegistrationPageFunctional(WebDriver driver) {
         this.driver = driver;
@@ -51,15 +56,15 @@ public class RegistrationPageFunctional {
             WebElement element = wait.until(d -> {
                 try {
                     // look for registration form container displayed
-                    List<WebElement> forms = d.findElements(registrationFormMarker);
+                    List<WebElement> forms = ElementFinder.probe(d, registrationFormMarker);
                     for (WebElement f : forms) if (f.isDisplayed()) return f;
 
                     // look for any visible password input (good indicator of registration)
-                    List<WebElement> pwds = d.findElements(insidePassword);
+                    List<WebElement> pwds = ElementFinder.probe(d, insidePassword);
                     for (WebElement p : pwds) if (p.isDisplayed()) return p;
 
                     // fallback: look for create-account button in page
-                    List<WebElement> cbtns = d.findElements(insideCreateAcctBtn);
+                    List<WebElement> cbtns = ElementFinder.probe(d, insideCreateAcctBtn);
                     for (WebElement b : cbtns) if (b.isDisplayed()) return b;
 
                 } catch (Exception ignored) {}
@@ -108,7 +113,7 @@ public class RegistrationPageFunctional {
         // attempt to find the registration form container if possible (to scope searches)
         WebElement form = null;
         try {
-            List<WebElement> forms = driver.findElements(registrationFormMarker);
+            List<WebElement> forms = ElementFinder.probe(driver, registrationFormMarker);
             for (WebElement f : forms) if (f.isDisplayed()) { form = f; break; }
         } catch (Exception ignored) {}
 
@@ -201,11 +206,11 @@ public class RegistrationPageFunctional {
                 submit = findVisibleWithin(form, insideCreateAcctBtn);
             }
             if (submit == null) {
-                List<WebElement> buttons = driver.findElements(insideCreateAcctBtn);
+                List<WebElement> buttons = ElementFinder.probe(driver, insideCreateAcctBtn);
                 for (WebElement b : buttons) if (b.isDisplayed() && b.isEnabled()) { submit = b; break; }
             }
             if (submit == null) {
-                List<WebElement> fallbackBtns = driver.findElements(By.cssSelector("button[type='submit'], input[type='submit']"));
+                List<WebElement> fallbackBtns = ElementFinder.probe(driver, By.cssSelector("button[type='submit'], input[type='submit']"));
                 for (WebElement b : fallbackBtns) if (b.isDisplayed() && b.isEnabled()) { submit = b; break; }
             }
 
@@ -214,18 +219,11 @@ public class RegistrationPageFunctional {
             try { submit.click(); } catch (Exception ex) { ((JavascriptExecutor) driver).executeScript("arguments[0].click();", submit); }
             TestListener.info("Clicked Create Account button.");
 
-            boolean ok = wait.until(d -> {
-                try {
-                    String cur = d.getCurrentUrl();
-                    if (cur != null && (!cur.contains("/register") && !cur.contains("/signup") && !cur.contains("/login"))) return true;
-                } catch (Exception ignored) {}
-                try { List<WebElement> succ = d.findElements(successAlert); for (WebElement s : succ) if (s.isDisplayed()) return true; } catch (Exception ignored) {}
-                try { List<WebElement> acct = d.findElements(accountArea); for (WebElement a : acct) if (a.isDisplayed()) return true; } catch (Exception ignored) {}
-                try { List<WebElement> out = d.findElements(logoutLink); for (WebElement o : out) if (o.isDisplayed()) return true; } catch (Exception ignored) {}
-                return false;
-            });
+            // the submit navigates; the wait carries on in the page that follows
+            String appeared = AsyncWaits.firstToAppear(driver, TIMEOUT, SUCCESS_TEXTS,
+                    List.of(successAlert, logoutLink), SUCCESS_URL_PARTS);
 
-            if (ok) { TestListener.pass("Registration success detected."); return true; }
+            if (appeared != null) { TestListener.pass("Registration success detected (" + appeared + ")."); return true; }
             else { TestListener.fail("Registration did not show success indicators."); return false; }
         } catch (TimeoutException te) {
             TestListener.fail("Timed out waiting for registration success: " + te.getMessage()); return false;
@@ -237,7 +235,7 @@ public class RegistrationPageFunctional {
     // helper: find first visible element for locator (global)
     private WebElement findFirstVisible(By locator) {
         try {
-            List<WebElement> els = driver.findElements(locator);
+            List<WebElement> els = ElementFinder.probe(driver, locator);
             if (els == null || els.isEmpty()) return null;
             for (WebElement e : els) if (e.isDisplayed()) return e;
             return els.get(0);
@@ -246,7 +244,7 @@ public class RegistrationPageFunctional {
 
     private WebElement findVisibleWithin(WebElement root, By locator) {
         try {
-            List<WebElement> els = root.findElements(locator);
+            List<WebElement> els = ElementFinder.probe(root, locator);
             if (els == null || els.isEmpty()) return null;
             for (WebElement e : els) if (e.isDisplayed()) return e;
             return els.get(0);
@@ -1,5 +1,8 @@
 package com.myproject.pages;
 
+import com.myproject.base.AsyncWaits;
+import com.myproject.base.ElementFinder;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
 import com.myproject.utils.ScreenshotUtil;
 import org.openqa.selenium.*;
@@ -33,6 +36,11 @@ public class SignupPageFunctional {
 
     // registration page indicator (after clicking signup)
     private final By registrationFormMarker = By.cssSelector("form#account-creation, form#register, .registration-form, #form-register");
+    private final By passwordInputs = By.cssSelector("input[type='password'], input[name='password'], input#password");
+    // any of these means the registration step is showing (texts are matched case-insensitively)
+    private static final List<String> REGISTRATION_TEXTS =
+            List.of("enter account information", "create account", "account created", "account information");
+    private static final List<String> REGISTRATION_URL_PARTS = List.of("/register", "/signup", "account", "create");
 
     public SignupPageFunctional(WebDriver driver) {
         this.driver = driver;
@@ -42,12 +50,12 @@ public class SignupPageFunctional {
     /** Open the signup page (direct URL) and wait for signup block to be present. */
     public void open() {
         try {
-            driver.get("https://www.automationexercise.com/signup");
+            driver.get(ConfigReader.url("/signup"));
             TestListener.info("Navigated to /signup");
             wait.until(d -> {
                 try {
-                    boolean blockPresent = !d.findElements(signupFormBlock).isEmpty();
-                    boolean inputPresent = !d.findElements(inFormEmail).isEmpty() || !d.findElements(inFormName).isEmpty();
+                    boolean blockPresent = !ElementFinder.probe(d, signupFormBlock).isEmpty();
+                    boolean inputPresent = !ElementFinder.probe(d, inFormEmail).isEmpty() || !ElementFinder.probe(d, inFormName).isEmpty();
                     return blockPresent || inputPresent;
                 } catch (Exception e) {
                     return false;
@@ -85,7 +93,7 @@ public class SignupPageFunctional {
 
             if (nameEl == null || emailEl == null) {
                 TestListener.info("Name/email inputs not found inside signup block; trying broader in-block search");
-                List<WebElement> inputs = block.findElements(By.tagName("input"));
+                List<WebElement> inputs = ElementFinder.probe(block, By.tagName("input"));
                 WebElement foundName = null, foundEmail = null;
                 for (WebElement inp : inputs) {
                     try {
@@ -146,41 +154,12 @@ public class SignupPageFunctional {
             btn.click();
             TestListener.info("Clicked Signup button");
 
-            boolean regReady = wait.until(d -> {
-                try {
-                    String url = d.getCurrentUrl();
-                    if (url != null) {
-                        String lu = url.toLowerCase();
-                        if (lu.contains("/register") || lu.contains("/signup") || lu.contains("account") || lu.contains("create")) return true;
-                    }
-                } catch (Exception ignored) {}
-
-                try {
-                    List<WebElement> regs = d.findElements(registrationFormMarker);
-                    for (WebElement r : regs) if (r.isDisplayed()) return true;
-                } catch (Exception ignored) {}
-
-                try {
-                    List<WebElement> pwds = d.findElements(By.cssSelector("input[type='password'], input[name='password'], input#password"));
-                    for (WebElement p : pwds) if (p.isDisplayed()) return true;
-                } catch (Exception ignored) {}
-
-                try {
-                    String src = d.getPageSource().toLowerCase();
-                    if (src.contains("enter account information") || src.contains("create account") || src.contains("account created") || src.contains("account information"))
-                        return true;
-                } catch (Exception ignored) {}
-
-                return false;
-            });
-
-            if (regReady) {
-                TestListener.info("Detected registration page/form after signup click");
-            } else {
-                TestListener.info("Did not detect registration page within wait after signup click");
+            String appeared = awaitRegistrationStep();
+            if (appeared == null) {
+                throw new TimeoutException("no registration URL, form, password field or text within " + TIMEOUT.getSeconds() + "s");
             }
-
-            return regReady;
+            TestListener.info("Detected registration page/form after signup click (" + appeared + ")");
+            return true;
         } catch (TimeoutException te) {
             TestListener.fail("Timed out waiting for signup click or registration page: " + te.getMessage());
             try {
@@ -201,35 +180,15 @@ public class SignupPageFunctional {
     /** Check whether registration form is present (call before filling registration). */
     public boolean isProceedToRegistration() {
         try {
-            boolean visible = wait.until(d -> {
+            String appeared = awaitRegistrationStep();
+            boolean visible = appeared != null;
+            TestListener.info("isProceedToRegistration -> " + visible + (visible ? " (" + appeared + ")" : ""));
+            if (!visible) {
                 try {
-                    List<WebElement> regs = d.findElements(registrationFormMarker);
-                    for (WebElement r : regs) if (r.isDisplayed()) return true;
+                    String ss = ScreenshotUtil.takeScreenshot(driver, "proceed_to_registration_debug");
+                    TestListener.info("Saved debug screenshot: " + ss);
                 } catch (Exception ignored) {}
-
-                try {
-                    List<WebElement> pwds = d.findElements(By.cssSelector("input[type='password'], input[name='password'], input#password"));
-                    for (WebElement p : pwds) if (p.isDisplayed()) return true;
-                } catch (Exception ignored) {}
-
-                try {
-                    String src = d.getPageSource().toLowerCase();
-                    if (src.contains("enter account information") || src.contains("create account") || src.contains("account created") || src.contains("account information"))
-                        return true;
-                } catch (Exception ignored) {}
-
-                try {
-                    String url = d.getCurrentUrl();
-                    if (url != null) {
-                        String lu = url.toLowerCase();
-                        if (lu.contains("/register") || lu.contains("/signup") || lu.contains("account") || lu.contains("create")) return true;
-                    }
-                } catch (Exception ignored) {}
-
-                return false;
-            });
-
-            TestListener.info("isProceedToRegistration -> " + visible);
+            }
             return visible;
         } catch (Exception e) {
             TestListener.info("isProceedToRegistration -> false (" + e.getMessage() + ")");
@@ -243,9 +202,15 @@ public class SignupPageFunctional {
 
     // ---------- Helper utilities ----------
 
+    // registration URL, visible form / password field or registration text, whichever shows first; null on timeout
+    private String awaitRegistrationStep() {
+        return AsyncWaits.firstToAppear(driver, TIMEOUT, REGISTRATION_TEXTS,
+                List.of(registrationFormMarker, passwordInputs), REGISTRATION_URL_PARTS);
+    }
+
     private WebElement findDisplayedElement(By locator) {
         try {
-            List<WebElement> els = driver.findElements(locator);
+            List<WebElement> els = ElementFinder.probe(driver, locator);
             if (els.isEmpty()) return null;
             for (WebElement e : els) if (e.isDisplayed()) return e;
             return els.get(0);
@@ -256,7 +221,7 @@ public class SignupPageFunctional {
 
     private WebElement findVisibleWithin(WebElement root, By locator) {
         try {
-            List<WebElement> els = root.findElements(locator);
+            List<WebElement> els = ElementFinder.probe(root, locator);
             if (els.isEmpty()) return null;
             for (WebElement e : els) if (e.isDisplayed()) return e;
             return els.get(0);
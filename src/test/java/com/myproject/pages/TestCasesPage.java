@@ -1,5 +1,9 @@
 package com.myproject.pages;
 
+import com.myproject.base.AsyncWaits;
+import com.myproject.base.ElementFinder;
+import com.myproject.base.PageReadiness;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -14,7 +18,7 @@ public class TestCasesPage {
     private final WebDriver driver;
     private final WebDriverWait wait;
 
-    private final String baseUrl = "https://www.automationexercise.com";
+    private final String baseUrl = ConfigReader.url("");
     private final String testCasesUrl = baseUrl + "/test_cases";
 
     // top-nav fallbacks
@@ -44,13 +48,12 @@ public class TestCasesPage {
     public void openTestCasesPage() {
         TestListener.info("Opening Test Cases page: " + testCasesUrl);
         driver.get(testCasesUrl);
-        waitForReady();
+        PageReadiness.await(driver, PageReadiness.Spec.defaults().selector(pageHeading), "TestCasesPage");
     }
 
+    // after clicks that may have left the page: the configured phases only
     private void waitForReady() {
-        try {
-            wait.until(d -> ((JavascriptExecutor) d).executeScript("return document.readyState").equals("complete"));
-        } catch (Exception ignored) {}
+        PageReadiness.await(driver, "TestCasesPage");
     }
 
     private void safeClick(WebElement el) {
@@ -68,17 +71,17 @@ public class TestCasesPage {
     private WebElement findNavRobust(String exactText) {
         if (exactText == null) return null;
         try {
-            List<WebElement> els = driver.findElements(By.linkText(exactText));
+            List<WebElement> els = ElementFinder.probe(driver, By.linkText(exactText));
             for (WebElement e : els) if (e.isDisplayed() && e.isEnabled()) return e;
         } catch (Exception ignored) {}
         try {
             String part = exactText.length() > 8 ? exactText.substring(0, Math.min(8, exactText.length())) : exactText;
-            List<WebElement> els2 = driver.findElements(By.partialLinkText(part));
+            List<WebElement> els2 = ElementFinder.probe(driver, By.partialLinkText(part));
             for (WebElement e : els2) if (e.isDisplayed() && e.isEnabled()) return e;
         } catch (Exception ignored) {}
         try {
             String xpath = String.format("//a[contains(translate(., 'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'), '%s')]", exactText.toLowerCase());
-            List<WebElement> els4 = driver.findElements(By.xpath(xpath));
+            List<WebElement> els4 = ElementFinder.probe(driver, By.xpath(xpath));
             for (WebElement e : els4) if (e.isDisplayed() && e.isEnabled()) return e;
         } catch (Exception ignored) {}
         return null;
@@ -109,8 +112,8 @@ public class TestCasesPage {
     }
 
     // top-nav methods
-    public boolean clickHomeAndVerifyThenBack() { openTestCasesPage(); return navigateAndVerify(findNavRobust("Home"), "automationexercise.com/"); }
-    public boolean clickProductsAndVerifyThenBack() { openTestCasesPage(); return navigateAndVerify(driver.findElement(navProducts), "/products"); }
+    public boolean clickHomeAndVerifyThenBack() { openTestCasesPage(); return navigateAndVerify(findNavRobust("Home"), ConfigReader.siteHost() + "/"); }
+    public boolean clickProductsAndVerifyThenBack() { openTestCasesPage(); return navigateAndVerify(ElementFinder.await(driver, navProducts), "/products"); }
     public boolean clickCartAndVerifyThenBack() { openTestCasesPage(); return navigateAndVerify(findNavRobust("Cart"), "/view_cart"); }
     public boolean clickSignupLoginAndVerifyThenBack() { openTestCasesPage(); return navigateAndVerify(findNavRobust("Signup / Login"), "/login"); }
     public boolean clickTestCasesAndVerifyThenBack() { openTestCasesPage(); return navigateAndVerify(findNavRobust("Test Cases"), "/test_cases"); }
@@ -119,12 +122,12 @@ public class TestCasesPage {
     public boolean clickContactUsAndVerifyThenBack() { openTestCasesPage(); WebElement e = findNavRobust("Contact us"); if (e == null) e = findNavRobust("Contact Us"); return navigateAndVerify(e, "/contact_us"); }
 
     // page checks
-    public boolean isLogoDisplayed() { openTestCasesPage(); boolean ok = !driver.findElements(siteLogo).isEmpty(); TestListener.info("Logo present: " + ok); return ok; }
+    public boolean isLogoDisplayed() { openTestCasesPage(); boolean ok = !ElementFinder.probe(driver, siteLogo).isEmpty(); TestListener.info("Logo present: " + ok); return ok; }
 
     public boolean isHeadingCenteredAndDisplayed() {
         openTestCasesPage();
         try {
-            WebElement h = driver.findElement(pageHeading);
+            WebElement h = ElementFinder.await(driver, pageHeading);
             boolean ok = h.isDisplayed();
             TestListener.info("Page heading displayed: " + ok);
             return ok;
@@ -136,7 +139,7 @@ public class TestCasesPage {
 
     public List<WebElement> getTestCaseTitleElements() {
         openTestCasesPage();
-        List<WebElement> els = driver.findElements(testcaseLinkCandidates);
+        List<WebElement> els = ElementFinder.probe(driver, testcaseLinkCandidates);
         List<WebElement> filtered = new ArrayList<>();
         for (WebElement e : els) {
             if (e.isDisplayed() && e.getAttribute("href") != null) filtered.add(e);
@@ -177,14 +180,14 @@ public class TestCasesPage {
 
     public boolean isFeedbackSectionDisplayed() {
         openTestCasesPage();
-        boolean ok = !driver.findElements(feedbackCandidates).isEmpty();
+        boolean ok = !ElementFinder.probe(driver, feedbackCandidates).isEmpty();
         TestListener.info("Feedback section present: " + ok);
         return ok;
     }
 
     public boolean isMailMentionedInFeedback() {
         openTestCasesPage();
-        boolean found = !driver.findElements(By.xpath("//a[contains(@href,'mailto:') or contains(text(),'@automationexercise.com')]")).isEmpty();
+        boolean found = !ElementFinder.probe(driver, By.xpath("//a[contains(@href,'mailto:') or contains(text(),'@automationexercise.com')]")).isEmpty();
         TestListener.info("Feedback email mentioned: " + found);
         return found;
     }
@@ -192,19 +195,13 @@ public class TestCasesPage {
     public boolean clickScrollUpAndVerifyTop() {
         openTestCasesPage();
         try {
-            ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            Thread.sleep(600);
-            List<WebElement> els = driver.findElements(scrollUpBtnCandidates);
+            AsyncWaits.scrollToBottom(driver, Duration.ofSeconds(5));
+            AsyncWaits.visible(driver, scrollUpBtnCandidates, Duration.ofSeconds(3));
+            List<WebElement> els = ElementFinder.probe(driver, scrollUpBtnCandidates);
             if (els.isEmpty()) return false;
-            safeClick(els.get(0));
-            long start = System.currentTimeMillis();
-            while (System.currentTimeMillis() - start < 5000) {
-                Object offset = ((JavascriptExecutor) driver).executeScript("return window.pageYOffset;");
-                if (offset instanceof Number && ((Number) offset).longValue() <= 5) {
-                    TestListener.pass("Scroll up verified to top.");
-                    return true;
-                }
-                Thread.sleep(150);
+            if (AsyncWaits.clickAndAwaitTop(driver, els.get(0), 5, Duration.ofSeconds(5))) {
+                TestListener.pass("Scroll up verified to top.");
+                return true;
             }
             TestListener.fail("Scroll up failed to reach top.");
             return false;
@@ -218,7 +215,7 @@ public class TestCasesPage {
 
     public boolean isFooterCopyrightPresent() {
         openTestCasesPage();
-        boolean ok = !driver.findElements(footerCopyright).isEmpty();
+        boolean ok = !ElementFinder.probe(driver, footerCopyright).isEmpty();
         TestListener.info("Footer copyright present: " + ok);
         return ok;
     }
@@ -226,7 +223,7 @@ public class TestCasesPage {
     // debug
     public void debugPrintHeaderAnchors() {
         openTestCasesPage();
-        List<WebElement> anchors = driver.findElements(By.cssSelector("header a, nav a, .navbar a"));
+        List<WebElement> anchors = ElementFinder.probeAll(driver, By.cssSelector("header a, nav a, .navbar a"));
         System.out.println("=== HEADER ANCHORS ===");
         for (WebElement a : anchors) {
             System.out.printf("text='%s' href='%s' displayed=%b%n", a.getText().trim(), a.getAttribute("href"), a.isDisplayed());
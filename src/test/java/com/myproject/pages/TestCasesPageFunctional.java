@@ -1,5 +1,9 @@
 package com.myproject.pages;
 
+import com.myproject.base.AsyncWaits;
+import com.myproject.base.ElementFinder;
+import com.myproject.base.PageReadiness;
+import com.myproject.config.ConfigReader;
 import com.myproject.listeners.TestListener;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -12,7 +16,7 @@ import java.util.List;
 public class TestCasesPageFunctional {
     private final WebDriver driver;
     private final WebDriverWait wait;
-    private final String testCasesUrl = "https://www.automationexercise.com/test_cases";
+    private final String testCasesUrl = ConfigReader.url("/test_cases");
 
     // --- Robust locators ---
     private final By pageTitle = By.cssSelector(".features_items h2, .page-title, .title.text-center");
@@ -40,20 +44,19 @@ public class TestCasesPageFunctional {
     public void open() {
         info("Opening Test Cases page: " + testCasesUrl);
         driver.get(testCasesUrl);
-        waitForReady();
+        PageReadiness.await(driver, PageReadiness.Spec.defaults().selector(pageTitle), "TestCasesPageFunctional");
         info("Page opened: " + driver.getCurrentUrl());
     }
 
+    // after clicks that may have left the page: the configured phases only
     private void waitForReady() {
-        try {
-            wait.until(d -> ((JavascriptExecutor) d).executeScript("return document.readyState").equals("complete"));
-        } catch (Exception ignored) {}
+        PageReadiness.await(driver, "TestCasesPageFunctional");
     }
 
     public boolean isPageLoaded() {
         info("Checking test cases page title presence");
         try {
-            boolean ok = !driver.findElements(pageTitle).isEmpty();
+            boolean ok = !ElementFinder.probe(driver, pageTitle).isEmpty();
             info("Page title present -> " + ok);
             return ok;
         } catch (Exception e) {
@@ -65,7 +68,7 @@ public class TestCasesPageFunctional {
     public boolean isLogoPresent() {
         info("Checking logo presence on Test Cases page");
         try {
-            boolean ok = !driver.findElements(logo).isEmpty();
+            boolean ok = !ElementFinder.probe(driver, logo).isEmpty();
             info("Logo present -> " + ok);
             return ok;
         } catch (Exception e) {
@@ -78,7 +81,7 @@ public class TestCasesPageFunctional {
         info("Counting testcase items on page");
         try {
             open();
-            List<WebElement> list = driver.findElements(testcaseItems);
+            List<WebElement> list = ElementFinder.probeAll(driver, testcaseItems);
             int count = list.size();
             info("Testcase items found: " + count);
             return count;
@@ -92,7 +95,7 @@ public class TestCasesPageFunctional {
         info("Collecting testcase anchors");
         try {
             open();
-            List<WebElement> anchors = driver.findElements(testcaseAnchors);
+            List<WebElement> anchors = ElementFinder.probeAll(driver, testcaseAnchors);
             info("Anchors found: " + anchors.size());
             return anchors;
         } catch (Exception e) {
@@ -153,7 +156,7 @@ public class TestCasesPageFunctional {
     private boolean clickNavAndVerify(By navLocator, String expectedFragment) {
         info("Click nav and verify for locator: " + navLocator + " expected fragment: " + expectedFragment);
         try {
-            List<WebElement> els = driver.findElements(navLocator);
+            List<WebElement> els = ElementFinder.probe(driver, navLocator);
             for (WebElement e : els) {
                 if (!e.isDisplayed()) continue;
                 try {
@@ -189,7 +192,7 @@ public class TestCasesPageFunctional {
     public boolean clickContactNav() {
         info("Click contact nav (multiple possible locators)");
         try {
-            List<WebElement> els = driver.findElements(contactLinks);
+            List<WebElement> els = ElementFinder.probe(driver, contactLinks);
             for (WebElement e : els) {
                 if (!e.isDisplayed()) continue;
                 try {
@@ -214,7 +217,7 @@ public class TestCasesPageFunctional {
     public boolean isFooterPresent() {
         info("Checking footer presence");
         try {
-            boolean ok = !driver.findElements(footer).isEmpty();
+            boolean ok = !ElementFinder.probe(driver, footer).isEmpty();
             info("Footer present -> " + ok);
             return ok;
         } catch (Exception e) {
@@ -226,24 +229,14 @@ public class TestCasesPageFunctional {
     public boolean clickScrollUpAndVerifyTop() {
         info("Attempting scroll-up and verify top");
         try {
-            ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            try { Thread.sleep(600); } catch (InterruptedException ignored) {}
-            List<WebElement> btns = driver.findElements(scrollUp);
-            if (!btns.isEmpty()) {
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btns.get(0));
-            } else {
+            AsyncWaits.scrollToBottom(driver, Duration.ofSeconds(5));
+            AsyncWaits.visible(driver, scrollUp, Duration.ofSeconds(3));
+            List<WebElement> btns = ElementFinder.probe(driver, scrollUp);
+            if (btns.isEmpty()) {
                 ((JavascriptExecutor) driver).executeScript("window.scrollTo(0,0);");
             }
             // wait until near top
-            long end = System.currentTimeMillis() + 8000;
-            while (System.currentTimeMillis() < end) {
-                Object off = ((JavascriptExecutor) driver).executeScript("return Math.round(window.pageYOffset);");
-                int y = 0;
-                if (off instanceof Number) y = ((Number) off).intValue();
-                if (y <= 5) return true;
-                try { Thread.sleep(200); } catch (InterruptedException ignored) {}
-            }
-            return false;
+            return AsyncWaits.clickAndAwaitTop(driver, btns.isEmpty() ? null : btns.get(0), 5, Duration.ofSeconds(8));
         } catch (Exception e) {
             fail("clickScrollUpAndVerifyTop exception: " + e.getMessage());
             return false;
@@ -0,0 +1,93 @@
+package com.myproject.tests;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Timing, fixture and temp-file helpers shared by the *BenchmarkTest classes. Each class keeps its temp files under
+ * one directory created in @BeforeClass and removed with deleteTree() in @AfterClass.
+ */
+final class Benchmarks {
+
+    private Benchmarks() { /* utility */ }
+
+    /**
+     * Median ns per run of {@code task}: 15 timed rounds after 5 warm-up runs; each round repeats the task until it
+     * has run for >= 20 ms.
+     */
+    static long median(Runnable task) {
+        for (int i = 0; i < 5; i++) task.run();
+        long[] rounds = new long[15];
+        for (int r = 0; r < rounds.length; r++) {
+            int n = 0;
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                task.run();
+                n++;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < 20_000_000L);
+            rounds[r] = elapsed / n;
+        }
+        Arrays.sort(rounds);
+        return rounds[rounds.length / 2];
+    }
+
+    /**
+     * Signup-like workbook at {@code file}: sheet "Sheet1" with a header and {@code rows} rows of 12 columns,
+     * strings through the shared-strings table plus numbers; the address holds a comma and quotes (CSV quoting).
+     */
+    static Path signupSheet(Path file, int rows) throws IOException {
+        SXSSFWorkbook wb = new SXSSFWorkbook(null, 100, true, true);
+        try {
+            Sheet sheet = wb.createSheet("Sheet1");
+            Row h = sheet.createRow(0);
+            String[] header = {"name", "email", "password", "day", "month", "year", "firstName", "lastName",
+                    "address", "country", "zipcode", "mobile"};
+            for (int c = 0; c < header.length; c++) h.createCell(c).setCellValue(header[c]);
+            for (int r = 1; r <= rows; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue("User " + r);
+                row.createCell(1).setCellValue("user" + r + "{unique}@example.com");
+                row.createCell(2).setCellValue("Pass@" + (r % 97));
+                row.createCell(3).setCellValue(1 + r % 28);
+                row.createCell(4).setCellValue(new String[]{"January", "June", "December"}[r % 3]);
+                row.createCell(5).setCellValue(1970 + r % 40);
+                row.createCell(6).setCellValue("First" + (r % 500));
+                row.createCell(7).setCellValue("Last" + (r % 700));
+                row.createCell(8).setCellValue(r + " Main Street, Apt \"" + (r % 50) + "\"");
+                row.createCell(9).setCellValue(new String[]{"India", "United States", "Canada"}[r % 3]);
+                row.createCell(10).setCellValue(100000 + r % 90000);
+                row.createCell(11).setCellValue(9000000000d + r);
+            }
+            try (OutputStream os = Files.newOutputStream(file)) {
+                wb.write(os);
+            }
+        } finally {
+            wb.dispose();
+            wb.close();
+        }
+        return file;
+    }
+
+    /**
+     * Delete {@code dir} and everything under it; null or missing is a no-op.
+     */
+    static void deleteTree(Path dir) {
+        if (dir == null || !Files.exists(dir)) return;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("[Benchmarks] Could not delete " + dir + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,69 +1,63 @@
 package com.myproject.tests;
 
+import com.myproject.base.BasePageTest;
 import com.myproject.pages.CartPageFunctional;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.testng.Assert;
 import org.testng.annotations.*;
 
-public class CartPageFunctionalTest {
-    private static WebDriver driver;
-    private static CartPageFunctional cartPage;
+public class CartPageFunctionalTest extends BasePageTest<CartPageFunctional> {
 
-    @BeforeClass(alwaysRun = true)
-    @Parameters({"browser"})
-    public void beforeClass(@Optional("chrome") String browser) {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions opts = new ChromeOptions();
-        opts.addArguments("--remote-allow-origins=*");
-        driver = new ChromeDriver(opts);
-        driver.manage().window().maximize();
-        cartPage = new CartPageFunctional(driver);
-        cartPage.openCartPage();
+    @Override
+    protected CartPageFunctional createPage(WebDriver driver) {
+        return new CartPageFunctional(driver);
+    }
+
+    @Override
+    protected void openPage(CartPageFunctional page) {
+        page.openCartPage();
     }
 
     // --- 15 Functional Test Cases ---
     @Test(priority = 1, description = "Verify cart page loads successfully")
     public void tc_cart_page_loads() {
-        Assert.assertTrue(cartPage.isCartPageDisplayed(), "Cart page should display");
+        Assert.assertTrue(page().isCartPageDisplayed(), "Cart page should display");
     }
 
     @Test(priority = 2, description = "Verify empty cart message when no items present")
     public void tc_empty_cart_message() {
-        Assert.assertTrue(cartPage.isEmptyCartMessageDisplayed() || cartPage.isProductListedInCart());
+        Assert.assertTrue(page().isEmptyCartMessageDisplayed() || page().isProductListedInCart());
     }
 
     @Test(priority = 3, description = "Verify product is listed in cart when added")
     public void tc_product_listed_in_cart() {
-        Assert.assertTrue(cartPage.isProductListedInCart() || cartPage.isEmptyCartMessageDisplayed());
+        Assert.assertTrue(page().isProductListedInCart() || page().isEmptyCartMessageDisplayed());
     }
 
     @Test(priority = 4, description = "Verify product name is visible")
     public void tc_product_name_visible() {
-        Assert.assertTrue(cartPage.verifyProductNameVisible() || cartPage.isEmptyCartMessageDisplayed());
+        Assert.assertTrue(page().verifyProductNameVisible() || page().isEmptyCartMessageDisplayed());
     }
 
     @Test(priority = 5, description = "Verify product quantity field is visible")
     public void tc_product_quantity_visible() {
-        Assert.assertTrue(cartPage.verifyProductQuantityVisible() || cartPage.isEmptyCartMessageDisplayed());
+        Assert.assertTrue(page().verifyProductQuantityVisible() || page().isEmptyCartMessageDisplayed());
     }
 
     @Test(priority = 6, description = "Verify product price is visible")
     public void tc_product_price_visible() {
-        Assert.assertTrue(cartPage.verifyProductPriceVisible() || cartPage.isEmptyCartMessageDisplayed());
+        Assert.assertTrue(page().verifyProductPriceVisible() || page().isEmptyCartMessageDisplayed());
     }
 
     @Test(priority = 7, description = "Verify total price is visible")
     public void tc_total_price_visible() {
-        Assert.assertTrue(cartPage.verifyTotalPriceVisible() || cartPage.isEmptyCartMessageDisplayed());
+        Assert.assertTrue(page().verifyTotalPriceVisible() || page().isEmptyCartMessageDisplayed());
     }
 
     @Test(priority = 8, description = "Remove item from cart (if present)", dependsOnMethods = {"tc_product_listed_in_cart"})
     public void tc_remove_item() {
-        if (cartPage.isProductListedInCart()) {
-            Assert.assertTrue(cartPage.removeFirstItemFromCart(), "Item should be removed");
+        if (page().isProductListedInCart()) {
+            Assert.assertTrue(page().removeFirstItemFromCart(), "Item should be removed");
         } else {
             Assert.assertTrue(true, "No items to remove");
         }
@@ -71,9 +65,9 @@ public class CartPageFunctionalTest {
 
     @Test(priority = 9, description = "Proceed to checkout button works")
     public void tc_proceed_to_checkout() {
-        if (cartPage.isProductListedInCart()) {
-            Assert.assertTrue(cartPage.clickProceedToCheckout(), "Should navigate to checkout");
-            cartPage.openCartPage(); // return to cart
+        if (page().isProductListedInCart()) {
+            Assert.assertTrue(page().clickProceedToCheckout(), "Should navigate to checkout");
+            page().openCartPage(); // return to cart
         } else {
             Assert.assertTrue(true, "Skipped - no products");
         }
@@ -81,44 +75,33 @@ public class CartPageFunctionalTest {
 
     @Test(priority = 10, description = "Continue shopping button works")
     public void tc_continue_shopping() {
-        Assert.assertTrue(cartPage.clickContinueShopping(), "Should navigate to products page");
-        cartPage.openCartPage();
+        Assert.assertTrue(page().clickContinueShopping(), "Should navigate to products page");
+        page().openCartPage();
     }
 
     @Test(priority = 11, description = "Apply invalid coupon code")
     public void tc_apply_invalid_coupon() {
-        Assert.assertTrue(cartPage.applyCouponCode("INVALIDCODE"), "Coupon attempt should show message");
+        Assert.assertTrue(page().applyCouponCode("INVALIDCODE"), "Coupon attempt should show message");
     }
 
     @Test(priority = 12, description = "Apply empty coupon code")
     public void tc_apply_empty_coupon() {
-        Assert.assertTrue(cartPage.applyCouponCode(""), "Empty coupon attempt should show message");
+        Assert.assertTrue(page().applyCouponCode(""), "Empty coupon attempt should show message");
     }
 
     @Test(priority = 13, description = "Verify cart rows exist when product added")
     public void tc_cart_rows_exist() {
-        Assert.assertTrue(cartPage.isProductListedInCart() || cartPage.isEmptyCartMessageDisplayed());
+        Assert.assertTrue(page().isProductListedInCart() || page().isEmptyCartMessageDisplayed());
     }
 
     @Test(priority = 14, description = "Verify scroll-up button functionality")
     public void tc_scroll_up() {
-        Assert.assertTrue(cartPage.clickScrollUpAndVerifyTop(), "Scroll-up button should return page to top");
+        Assert.assertTrue(page().clickScrollUpAndVerifyTop(), "Scroll-up button should return page to top");
     }
 
     @Test(priority = 15, description = "Verify cart page reloads correctly")
     public void tc_cart_page_reload() {
-        cartPage.openCartPage();
-        Assert.assertTrue(cartPage.isCartPageDisplayed(), "Cart page should reload successfully");
-    }
-
-    public WebDriver getDriver() {
-        return driver;
-    }
-
-    @AfterClass(alwaysRun = true)
-    public void afterClass() {
-        if (driver != null) {
-            try { driver.quit(); } catch (Exception ignored) {}
-        }
+        page().openCartPage();
+        Assert.assertTrue(page().isCartPageDisplayed(), "Cart page should reload successfully");
     }
 }
@@ -1,34 +1,38 @@
 package com.myproject.tests;
 
+import com.myproject.base.BasePageTest;
 import com.myproject.base.BaseTest;
+import com.myproject.base.ElementFinder;
 import com.myproject.listeners.TestListener;
 import com.myproject.pages.ContactUsPageFunctional;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
-public class ContactUsPageFunctionalTest extends BaseTest {
+public class ContactUsPageFunctionalTest extends BasePageTest<ContactUsPageFunctional> {
 
-    private ContactUsPageFunctional contactPage;
+    @Override
+    protected ContactUsPageFunctional createPage(WebDriver driver) {
+        return new ContactUsPageFunctional(driver);
+    }
 
-    @BeforeMethod(alwaysRun = true)
-    public void setUpPages() {
-        contactPage = new ContactUsPageFunctional(getDriver());
+    @Override
+    protected void openPage(ContactUsPageFunctional page) {
         TestListener.info("Navigating to Contact Us page.");
-        contactPage.open();
+        page.open();
         TestListener.info("On Contact Us page.");
-        contactPage.clearForm(); // reset for each test
+        page.clearForm(); // reset for each test
     }
 
     @Test(priority = 1, description = "Submit contact form successfully with valid data")
     public void testCase01_submitContactUsFormSuccessfully() {
         TestListener.info("Executing testCase01_submitContactUsFormSuccessfully.");
-        boolean filled = contactPage.fillContactUsForm("John Doe", "john.doe@test.com", "Test Subject", "This is a test message.");
+        boolean filled = page().fillContactUsForm("John Doe", "john.doe@test.com", "Test Subject", "This is a test message.");
         Assert.assertTrue(filled, "Form should be filled without errors");
-        contactPage.clickSubmit();
+        page().clickSubmit();
 
-        boolean isSuccess = contactPage.isSuccessMessageDisplayed();
+        boolean isSuccess = page().isSuccessMessageDisplayed();
         if (isSuccess) {
             TestListener.pass("Success message is displayed. Test passed.");
         } else {
@@ -40,10 +44,10 @@ public class ContactUsPageFunctionalTest extends BaseTest {
     @Test(priority = 2, description = "Contact form submission fails with an invalid email format")
     public void testCase02_submitWithInvalidEmailFormat() {
         TestListener.info("Executing testCase02_submitWithInvalidEmailFormat.");
-        contactPage.fillContactUsForm("Jane Doe", "invalid-email", "Invalid Email Test", "Testing invalid email.");
-        contactPage.clickSubmit();
+        page().fillContactUsForm("Jane Doe", "invalid-email", "Invalid Email Test", "Testing invalid email.");
+        page().clickSubmit();
 
-        boolean isSuccess = contactPage.isSuccessMessageDisplayed();
+        boolean isSuccess = page().isSuccessMessageDisplayed();
         if (isSuccess) {
             TestListener.fail("Success message shown for invalid email. Test failed.");
         } else {
@@ -55,10 +59,10 @@ public class ContactUsPageFunctionalTest extends BaseTest {
     @Test(priority = 3, description = "Contact form submission fails with empty name field")
     public void testCase03_submitWithEmptyName() {
         TestListener.info("Executing testCase03_submitWithEmptyName.");
-        contactPage.fillContactUsForm("", "test@test.com", "Empty Name Test", "Testing empty name.");
-        contactPage.clickSubmit();
+        page().fillContactUsForm("", "test@test.com", "Empty Name Test", "Testing empty name.");
+        page().clickSubmit();
 
-        boolean isSuccess = contactPage.isSuccessMessageDisplayed();
+        boolean isSuccess = page().isSuccessMessageDisplayed();
         if (isSuccess) {
             TestListener.fail("Success message displayed for empty name. Test failed.");
         } else {
@@ -70,10 +74,10 @@ public class ContactUsPageFunctionalTest extends BaseTest {
     @Test(priority = 4, description = "Contact form submission fails with empty message field")
     public void testCase04_submitWithEmptyMessage() {
         TestListener.info("Executing testCase04_submitWithEmptyMessage.");
-        contactPage.fillContactUsForm("Test User", "test@test.com", "Empty Message Test", "");
-        contactPage.clickSubmit();
+        page().fillContactUsForm("Test User", "test@test.com", "Empty Message Test", "");
+        page().clickSubmit();
 
-        boolean isSuccess = contactPage.isSuccessMessageDisplayed();
+        boolean isSuccess = page().isSuccessMessageDisplayed();
         if (isSuccess) {
             TestListener.fail("Success message displayed for empty message. Test failed.");
         } else {
@@ -86,12 +90,12 @@ public class ContactUsPageFunctionalTest extends BaseTest {
     public void testCase05_uploadFileToContactForm() {
         TestListener.info("Executing testCase05_uploadFileToContactForm.");
         String filePath = System.getProperty("user.dir") + "/src/test/resources/testfile.txt";
-        contactPage.fillContactUsForm("File Uploader", "file@upload.com", "File Upload Test", "Testing file upload.");
-        boolean uploaded = contactPage.uploadFile(filePath);
+        page().fillContactUsForm("File Uploader", "file@upload.com", "File Upload Test", "Testing file upload.");
+        boolean uploaded = page().uploadFile(filePath);
         TestListener.info("Upload attempted: " + uploaded);
-        contactPage.clickSubmit();
+        page().clickSubmit();
 
-        boolean isSuccess = contactPage.isSuccessMessageDisplayed();
+        boolean isSuccess = page().isSuccessMessageDisplayed();
         if (isSuccess) {
             TestListener.pass("File uploaded and success message is displayed. Test passed.");
         } else {
@@ -103,10 +107,10 @@ public class ContactUsPageFunctionalTest extends BaseTest {
     @Test(priority = 6, description = "Submit with only required fields")
     public void testCase06_submitWithOnlyRequiredFields() {
         TestListener.info("Executing testCase06_submitWithOnlyRequiredFields.");
-        contactPage.fillContactUsForm("Required User", "required@test.com", "Required Fields Test", "This is a message.");
-        contactPage.clickSubmit();
+        page().fillContactUsForm("Required User", "required@test.com", "Required Fields Test", "This is a message.");
+        page().clickSubmit();
 
-        boolean isSuccess = contactPage.isSuccessMessageDisplayed();
+        boolean isSuccess = page().isSuccessMessageDisplayed();
         if (isSuccess) {
             TestListener.pass("Form submitted successfully with only required fields. Test passed.");
         } else {
@@ -118,11 +122,11 @@ public class ContactUsPageFunctionalTest extends BaseTest {
     @Test(priority = 7, description = "Submit and then navigate to home page")
     public void testCase07_submitAndNavigateHome() {
         TestListener.info("Executing testCase07_submitAndNavigateHome.");
-        contactPage.fillContactUsForm("Navigate Home User", "home@test.com", "Navigation Test", "This is a navigation test.");
-        contactPage.clickSubmit();
+        page().fillContactUsForm("Navigate Home User", "home@test.com", "Navigation Test", "This is a navigation test.");
+        page().clickSubmit();
 
         // attempt to navigate home via POM
-        boolean clicked = contactPage.clickHome();
+        boolean clicked = page().clickHome();
         TestListener.info("Home link clicked => " + clicked);
 
         String currentTitle = getDriver().getTitle();
@@ -137,16 +141,15 @@ public class ContactUsPageFunctionalTest extends BaseTest {
     @Test(priority = 8, description = "Fields are cleared after a successful submission (verified by reload)")
     public void testCase08_fieldsAreClearedAfterSubmission() {
         TestListener.info("Executing testCase08_fieldsAreClearedAfterSubmission.");
-        contactPage.fillContactUsForm("Clear User", "clear@test.com", "Clear Test", "This should clear.");
-        contactPage.clickSubmit();
+        page().fillContactUsForm("Clear User", "clear@test.com", "Clear Test", "This should clear.");
+        page().clickSubmit();
 
         TestListener.info("Re-navigating to Contact Us page to verify fields are empty.");
         getDriver().get(getBaseURL() + "/contact_us"); // using helper getBaseURL() method if you have; else replace with ConfigReader or hardcoded
-        // small wait for page to load
-        try { Thread.sleep(800); } catch (InterruptedException ignored) {}
+        // get() returns after the load event; await() below waits for the fields themselves
 
-        String nameValue = getDriver().findElement(By.name("name")).getAttribute("value").trim();
-        String emailValue = getDriver().findElement(By.name("email")).getAttribute("value").trim();
+        String nameValue = ElementFinder.await(getDriver(), By.name("name")).getAttribute("value").trim();
+        String emailValue = ElementFinder.await(getDriver(), By.name("email")).getAttribute("value").trim();
 
         if (nameValue.isEmpty() && emailValue.isEmpty()) {
             TestListener.pass("Name and email fields are empty after reload. Test passed.");
@@ -173,7 +176,7 @@ public class ContactUsPageFunctionalTest extends BaseTest {
     @Test(priority = 10, description = "Verify 'GET IN TOUCH' heading is displayed")
     public void testCase10_verifyGetInTouchHeading() {
         TestListener.info("Executing testCase10_verifyGetInTouchHeading.");
-        boolean isDisplayed = getDriver().findElement(By.cssSelector(".contact-form > .title, .contact-form .title")).isDisplayed();
+        boolean isDisplayed = ElementFinder.await(getDriver(), By.cssSelector(".contact-form > .title, .contact-form .title")).isDisplayed();
         if (isDisplayed) {
             TestListener.pass("'GET IN TOUCH' heading is displayed. Test passed.");
         } else {
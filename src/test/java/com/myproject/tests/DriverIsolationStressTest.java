@@ -0,0 +1,59 @@
+package com.myproject.tests;
+
+import com.myproject.base.BaseTest;
+import com.myproject.base.CommandCounter;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stress run for the parallel driver lifecycle: many concurrent invocations, each of which claims its
+ * browser session exclusively for the whole method. If two threads ever hold the same session at the
+ * same time, the claim fails and the invocation fails.
+ * Run on its own: mvn test -Dtest=DriverIsolationStressTest
+ */
+public class DriverIsolationStressTest extends BaseTest {
+
+    // session currently in use -> thread using it
+    private static final Map<SessionId, Long> inUse = new ConcurrentHashMap<>();
+    private static final Set<SessionId> seenSessions = ConcurrentHashMap.newKeySet();
+    private static final Set<Long> seenThreads = ConcurrentHashMap.newKeySet();
+
+    @Test(invocationCount = 40, threadPoolSize = 8, description = "No browser session is shared between concurrently running tests")
+    public void tc_session_is_exclusive_to_thread() throws InterruptedException {
+        WebDriver driver = getDriver();
+        Assert.assertNotNull(driver, "Each thread should have its own driver");
+        SessionId session = ((RemoteWebDriver) CommandCounter.unwrap(driver)).getSessionId();
+        long thread = Thread.currentThread().threadId();
+
+        Long holder = inUse.putIfAbsent(session, thread);
+        Assert.assertNull(holder, "Session " + session + " already in use by thread " + holder + " while thread " + thread + " got it");
+        seenSessions.add(session);
+        seenThreads.add(thread);
+        try {
+            // do some real work with the session and make sure nobody swaps it underneath us
+            String marker = "t" + thread + "_" + System.nanoTime();
+            ((JavascriptExecutor) driver).executeScript("window.__stressMarker = arguments[0];", marker);
+            Thread.sleep(150);
+            Assert.assertSame(getDriver(), driver, "Driver changed during the test on thread " + thread);
+            Object read = ((JavascriptExecutor) driver).executeScript("return window.__stressMarker;");
+            Assert.assertEquals(read, marker, "Another thread touched this browser session");
+        } finally {
+            inUse.remove(session, thread);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void summary() {
+        System.out.println("[DriverIsolationStressTest] " + seenThreads.size() + " threads used "
+                + seenSessions.size() + " distinct sessions; no session was shared concurrently");
+    }
+}
@@ -5,6 +5,8 @@ import com.myproject.pages.HomePage;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Map;
+
 public class HomePageUITest extends BaseTest {
 
     @Test(description = "Verify homepage loads and Home icon is present")
@@ -89,6 +91,20 @@ public class HomePageUITest extends BaseTest {
         Assert.assertTrue(page.isCarouselWorking(), "Carousel should have slides or next control");
     }
 
+    @Test(description = "Verify all header navigation links in one batch check")
+    public void verifyNavigationLinksBatch() {
+        HomePage page = new HomePage(getDriver());
+        Map<String, Boolean> links = page.checkNavigationLinks();
+        Assert.assertFalse(links.containsValue(false), "Navigation links should be available and clickable: " + links);
+    }
+
+    @Test(description = "Verify Home icon and homepage sections in one batch check")
+    public void verifySectionsBatch() {
+        HomePage page = new HomePage(getDriver());
+        Map<String, Boolean> sections = page.checkSections();
+        Assert.assertFalse(sections.containsValue(false), "Homepage sections should be visible: " + sections);
+    }
+
     @Test(description = "Verify Test Case button/icon is clickable")
     public void verifyTestCaseButtonClickable() {
         HomePage page = new HomePage(getDriver());
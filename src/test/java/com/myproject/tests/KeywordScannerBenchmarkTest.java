@@ -0,0 +1,100 @@
+package com.myproject.tests;
+
+import com.myproject.utils.KeywordScanner;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * KeywordScanner against the page-source heuristics it replaced (lowercase copy + contains chains + a
+ * (?s).*\b(...)\b.* regex): same answers on real and edge-case inputs, then time per scan for both.
+ * No browser needed. Run on its own: mvn test -Dtest=KeywordScannerBenchmarkTest
+ */
+public class KeywordScannerBenchmarkTest {
+
+    private static final Path SITE = Paths.get("src/test/resources/site");
+
+    private static final KeywordScanner SCANNER = KeywordScanner.builder()
+            .any("apiUrl", "http", "/api", "endpoint")
+            .any("method", "get", "post", "put", "delete", "patch")
+            .word("code", "200", "201", "204", "400", "401", "403", "404", "500")
+            .any("version", "v1", "v2", "version")
+            .build();
+
+    // the ApiListPageFunctional heuristics before KeywordScanner
+    private static boolean[] legacy(String source) {
+        String src = source.toLowerCase();
+        return new boolean[]{
+                src.contains("http") || src.contains("/api") || src.contains("endpoint"),
+                src.contains("get") || src.contains("post") || src.contains("put") || src.contains("delete") || src.contains("patch"),
+                src.matches("(?s).*\\b(200|201|204|400|401|403|404|500)\\b.*"),
+                src.contains("v1") || src.contains("v2") || src.contains("version")};
+    }
+
+    private static boolean[] scanned(String source) {
+        KeywordScanner.Result r = SCANNER.scan(source);
+        return new boolean[]{r.has("apiUrl"), r.has("method"), r.has("code"), r.has("version")};
+    }
+
+    @Test(description = "Scanner answers match the contains/regex heuristics")
+    public void sameAnswersAsLegacyHeuristics() throws IOException {
+        List<String> inputs = new ArrayList<>(List.of(
+                "", "HTTP/1.1 200 OK", "x200y", "status_404", "(404)", "404", "A2004", "ENDPOINT", "Gét",
+                "line1\nline2 500\n", "API v2 PATCH", "versioné", "ÉTAT 403.", "aaaa/apiaaa",
+                "é404", "404é"));
+        inputs.addAll(sitePages().values());
+        inputs.add(noMatchDocument(50_000));
+        for (String in : inputs) {
+            Assert.assertEquals(scanned(in), legacy(in),
+                    "Different answer for input starting '" + in.substring(0, Math.min(40, in.length())) + "'");
+        }
+    }
+
+    @Test(description = "Time per page-source scan: legacy heuristics vs KeywordScanner")
+    public void benchmark() throws IOException {
+        Map<String, String> docs = new LinkedHashMap<>(sitePages());
+        // worst case for both: nothing matches, so every scan reads the whole document
+        docs.put("no-match 500 KB", noMatchDocument(500_000));
+
+        System.out.println("[KeywordScannerBenchmark] document, size, legacy us/scan, scanner us/scan, speed-up");
+        for (Map.Entry<String, String> doc : docs.entrySet()) {
+            String src = doc.getValue();
+            long legacyNs = Benchmarks.median(() -> legacy(src));
+            long scannerNs = Benchmarks.median(() -> scanned(src));
+            System.out.printf("[KeywordScannerBenchmark] %-22s %7d KB %10d %10d %8.1fx%n", doc.getKey(),
+                    src.length() / 1024, legacyNs / 1000, scannerNs / 1000, (double) legacyNs / Math.max(1, scannerNs));
+            Assert.assertEquals(scanned(src), legacy(src));
+        }
+    }
+
+    private static Map<String, String> sitePages() throws IOException {
+        Map<String, String> pages = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.list(SITE)) {
+            for (Path p : files.filter(f -> f.toString().endsWith(".html")).sorted().toList()) {
+                pages.put(p.getFileName().toString(), Files.readString(p));
+            }
+        }
+        return pages;
+    }
+
+    // markup-like text with digits glued to letters and none of the keywords
+    private static String noMatchDocument(int size) {
+        StringBuilder sb = new StringBuilder(size + 64);
+        int i = 0;
+        while (sb.length() < size) {
+            sb.append("<div class=\"row\"><span>Lorem ipsum dolor sit amet item").append(i % 1000)
+                    .append("x consectetur adipiscing elit</span></div>\n");
+            i++;
+        }
+        return sb.toString();
+    }
+}
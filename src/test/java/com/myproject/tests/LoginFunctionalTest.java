@@ -8,8 +8,8 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 public class LoginFunctionalTest extends BaseTest {
 
@@ -18,48 +18,58 @@ public class LoginFunctionalTest extends BaseTest {
     private static final String SHEET2 = "Sheet2";
 
     @DataProvider(name = "loginRows")
-    public Object[][] loginRows() {
-        // use simple reader that does not mutate emails
-        Object[][] raw = ExcelUtil.readSheetSimple(INPUT_FILE, SHEET2);
-        List<Object[]> rows = new ArrayList<>();
-        if (raw == null || raw.length == 0) {
-            TestListener.info("Sheet2 empty or not found: " + INPUT_FILE);
-            return new Object[0][];
-        }
+    public Iterator<Object[]> loginRows() {
+        // use simple reader that does not mutate emails; rows are read as TestNG asks for them
+        Iterator<Object[]> raw = ExcelUtil.iterateSheet(INPUT_FILE, SHEET2);
+
+        return new Iterator<Object[]>() {
+            private int r = 0;
+            private int usable = 0;
+            private boolean reported;
+            private Object[] next;
 
-        // detect header row: if first row contains 'email' or 'password' treat as header
-        boolean header = false;
-        Object[] first = raw[0];
-        if (first != null) {
-            for (Object o : first) {
-                if (o == null) continue;
-                String s = String.valueOf(o).trim().toLowerCase();
-                if (s.contains("email") || s.contains("password")) { header = true; break; }
+            @Override
+            public boolean hasNext() {
+                while (next == null && raw.hasNext()) {
+                    Object[] row = raw.next();
+                    int current = r++;
+                    // detect header row: if first row contains 'email' or 'password' treat as header
+                    if (current == 0 && isHeader(row)) continue;
+                    String email = row.length > 0 && row[0] != null ? String.valueOf(row[0]).trim() : "";
+                    String password = row.length > 1 && row[1] != null ? String.valueOf(row[1]).trim() : "";
+                    TestListener.info("[Sheet2 row " + current + "] email=" + email + " pwdPresent=" + (!password.isEmpty()));
+                    if (!email.isEmpty() && !password.isEmpty()) {
+                        next = new Object[]{email, password};
+                        usable++;
+                    } else {
+                        TestListener.info("Skipping row " + current + " due to missing email/password");
+                    }
+                }
+                if (next == null && usable == 0 && !reported) {
+                    reported = true;
+                    TestListener.info(r == 0 ? "Sheet2 empty or not found: " + INPUT_FILE
+                            : "No usable credentials found in Sheet2 (" + INPUT_FILE + ")");
+                }
+                return next != null;
             }
-        }
 
-        int start = header ? 1 : 0;
-        for (int r = start; r < raw.length; r++) {
-            Object[] row = raw[r];
-            if (row == null) continue;
-            String email = row.length > 0 && row[0] != null ? String.valueOf(row[0]).trim() : "";
-            String password = row.length > 1 && row[1] != null ? String.valueOf(row[1]).trim() : "";
-            TestListener.info("[Sheet2 row " + r + "] email=" + email + " pwdPresent=" + (!password.isEmpty()));
-            if (!email.isEmpty() && !password.isEmpty()) {
-                rows.add(new Object[]{email, password});
-            } else {
-                TestListener.info("Skipping row " + r + " due to missing email/password");
+            @Override
+            public Object[] next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Object[] row = next;
+                next = null;
+                return row;
             }
-        }
+        };
+    }
 
-        if (rows.isEmpty()) {
-            TestListener.info("No usable credentials found in Sheet2 (" + INPUT_FILE + ")");
-            return new Object[0][];
+    private static boolean isHeader(Object[] first) {
+        for (Object o : first) {
+            if (o == null) continue;
+            String s = String.valueOf(o).trim().toLowerCase();
+            if (s.contains("email") || s.contains("password")) return true;
         }
-
-        Object[][] out = new Object[rows.size()][];
-        for (int i = 0; i < rows.size(); i++) out[i] = rows.get(i);
-        return out;
+        return false;
     }
 
     @Test(dataProvider = "loginRows", description = "Login using credentials in Sheet2 (col1=email, col2=password)")
@@ -1,97 +1,100 @@
 package com.myproject.tests;
 
-import com.myproject.base.BaseTest;
+import com.myproject.base.BasePageTest;
+import com.myproject.config.ConfigReader;
 import com.myproject.pages.ProductPageFunctional;
+import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
-public class ProductPageFunctionalTest extends BaseTest {
-    private ProductPageFunctional page;
+public class ProductPageFunctionalTest extends BasePageTest<ProductPageFunctional> {
+    @Override
+    protected ProductPageFunctional createPage(WebDriver driver) {
+        return new ProductPageFunctional(driver);
+    }
 
-    @BeforeMethod
-    public void setupPage() {
-        page = new ProductPageFunctional(getDriver());
-        getDriver().get("https://www.automationexercise.com/products");
+    @Override
+    protected void openPage(ProductPageFunctional page) {
+        getDriver().get(ConfigReader.url("/products"));
     }
 
     @Test(priority = 1)
     public void verifyNavigationToProductsPage() {
-        page.navigateToProductsPage();
+        page().navigateToProductsPage();
         Assert.assertTrue(getDriver().getCurrentUrl().contains("/products"));
     }
 
     @Test(priority = 2)
     public void verifySearchFunctionality() {
-        page.searchProduct("Blue Top");
-        Assert.assertTrue(page.isSearchResultVisible());
+        page().searchProduct("Blue Top");
+        Assert.assertTrue(page().isSearchResultVisible());
     }
 
     @Test(priority = 3)
     public void verifyAddToCartAndContinueShopping() {
-        Assert.assertTrue(page.addFirstProductToCart());
-        Assert.assertTrue(page.clickContinueShopping(), "Continue shopping should work");
+        Assert.assertTrue(page().addFirstProductToCart());
+        Assert.assertTrue(page().clickContinueShopping(), "Continue shopping should work");
     }
 
     @Test(priority = 4)
     public void verifyAddToCartAndViewCart() {
-        Assert.assertTrue(page.addFirstProductToCart());
-        Assert.assertTrue(page.clickViewCart(), "View cart should redirect");
+        Assert.assertTrue(page().addFirstProductToCart());
+        Assert.assertTrue(page().clickViewCart(), "View cart should redirect");
     }
 
     @Test(priority = 5)
     public void verifyWomenCategoryFilter() {
-        Assert.assertTrue(page.clickWomenCategory());
+        Assert.assertTrue(page().clickWomenCategory());
     }
 
     @Test(priority = 6)
     public void verifyMenCategoryFilter() {
-        Assert.assertTrue(page.clickMenCategory());
+        Assert.assertTrue(page().clickMenCategory());
     }
 
     @Test(priority = 7)
     public void verifyKidsCategoryFilter() {
-        Assert.assertTrue(page.clickKidsCategory());
+        Assert.assertTrue(page().clickKidsCategory());
     }
 
     @Test(priority = 8)
     public void verifyPoloBrandFilter() {
-        Assert.assertTrue(page.clickPoloBrand());
+        Assert.assertTrue(page().clickPoloBrand());
     }
 
     @Test(priority = 9)
     public void verifyHMBrandFilter() {
-        Assert.assertTrue(page.clickHMBrand());
+        Assert.assertTrue(page().clickHMBrand());
     }
 
     @Test(priority = 10)
     public void verifyMadameBrandFilter() {
-        Assert.assertTrue(page.clickMadameBrand());
+        Assert.assertTrue(page().clickMadameBrand());
     }
 
     @Test(priority = 11)
     public void verifySubscriptionWithValidEmail() {
-        Assert.assertTrue(page.subscribeWithEmail("testuser@example.com"));
+        Assert.assertTrue(page().subscribeWithEmail("testuser@example.com"));
     }
 
     @Test(priority = 12)
     public void verifyFooterPresenceAfterScroll() {
-        Assert.assertTrue(page.scrollToBottomAndCheckFooter());
+        Assert.assertTrue(page().scrollToBottomAndCheckFooter());
     }
 
     @Test(priority = 13)
     public void verifyScrollUpButtonWorks() {
-        Assert.assertTrue(page.scrollUpToTop());
+        Assert.assertTrue(page().scrollUpToTop());
     }
 
     @Test(priority = 14)
     public void verifyMultipleProductSearch() {
-        page.searchProduct("Dress");
-        Assert.assertTrue(page.isSearchResultVisible());
+        page().searchProduct("Dress");
+        Assert.assertTrue(page().isSearchResultVisible());
     }
 
     @Test(priority = 15)
     public void verifyProductGridVisibleOnPageLoad() {
-        Assert.assertTrue(page.isSearchResultVisible(), "Products should be visible on page load");
+        Assert.assertTrue(page().isSearchResultVisible(), "Products should be visible on page load");
     }
 }
@@ -1,48 +1,77 @@
 package com.myproject.tests;
 
-import com.myproject.base.BaseTest;
+import com.myproject.base.BasePageTest;
+import com.myproject.config.ConfigReader;
 import com.myproject.pages.ProductPage;
+import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
-public class ProductPageUITest extends BaseTest {
+import java.util.Map;
 
-    private ProductPage page;
+public class ProductPageUITest extends BasePageTest<ProductPage> {
 
-    @BeforeMethod
-    public void beforeEach() {
-        page = new ProductPage(getDriver());
+    @Override
+    protected ProductPage createPage(WebDriver driver) {
+        return new ProductPage(driver);
+    }
+
+    @Override
+    protected void openPage(ProductPage page) {
         // navigate to product page explicitly
-        getDriver().get("https://www.automationexercise.com/products");
+        getDriver().get(ConfigReader.url("/products"));
     }
 
-    @Test public void verifyProductsIcon() { Assert.assertTrue(page.isProductsLinkPresentAndClickable(), "Products icon should be present & clickable"); }
-    @Test public void verifyHomeIcon() { Assert.assertTrue(page.isHomeLinkPresentAndClickable(), "Home icon should be present & clickable"); }
-    @Test public void verifyCartIcon() { Assert.assertTrue(page.isCartLinkPresentAndClickable(), "Cart icon should be present & clickable"); }
-    @Test public void verifySignupLoginIcon() { Assert.assertTrue(page.isSignupLoginPresentAndClickable(), "Signup/Login icon should be present & clickable"); }
-    @Test public void verifyTestCasesIcon() { Assert.assertTrue(page.isTestCasesPresentAndClickable(), "Test Cases icon should be present & clickable"); }
+    @Test public void verifyProductsIcon() { Assert.assertTrue(page().isProductsLinkPresentAndClickable(), "Products icon should be present & clickable"); }
+    @Test public void verifyHomeIcon() { Assert.assertTrue(page().isHomeLinkPresentAndClickable(), "Home icon should be present & clickable"); }
+    @Test public void verifyCartIcon() { Assert.assertTrue(page().isCartLinkPresentAndClickable(), "Cart icon should be present & clickable"); }
+    @Test public void verifySignupLoginIcon() { Assert.assertTrue(page().isSignupLoginPresentAndClickable(), "Signup/Login icon should be present & clickable"); }
+    @Test public void verifyTestCasesIcon() { Assert.assertTrue(page().isTestCasesPresentAndClickable(), "Test Cases icon should be present & clickable"); }
+
+    @Test public void verifyAppLogoPresence() { Assert.assertTrue(page().isSiteLogoPresent(), "Application logo should be visible on product page"); }
+    @Test public void verifyOffersLogoPresence() { Assert.assertTrue(page().isOffersLogoPresent(), "Offers logo should be present"); }
+    @Test public void verifySearchBarPresence() { Assert.assertTrue(page().isSearchBarPresent(), "Search bar should be present"); }
+    @Test public void verifyCategoriesSection() { Assert.assertTrue(page().isCategoriesSectionPresent(), "Categories section should be visible"); }
+    @Test public void verifyBrandsSection() { Assert.assertTrue(page().isBrandsSectionPresent(), "Brands section should be visible"); }
+    @Test public void verifyAllProductsSection() { Assert.assertTrue(page().isAllProductsSectionPresent(), "All products section should be visible"); }
+
+    @Test public void verifyWomenCategory() { Assert.assertTrue(page().isWomenCategoryPresentAndClickable(), "Women category should display & be clickable"); }
+    @Test public void verifyMenCategory() { Assert.assertTrue(page().isMenCategoryPresentAndClickable(), "Men category should display & be clickable"); }
+    @Test public void verifyKidsCategory() { Assert.assertTrue(page().isKidsCategoryPresentAndClickable(), "Kids category should display & be clickable"); }
+
+    @Test public void verifyBrandAllenSolly() { Assert.assertTrue(page().isBrandAllenSollyPresentAndClickable(), "Allen Solly Junior brand should be present & clickable"); }
+    @Test public void verifyBrandKookieKids() { Assert.assertTrue(page().isBrandKookieKidsPresentAndClickable(), "Kookie Kids brand should be present & clickable"); }
+    @Test public void verifyBrandBiba() { Assert.assertTrue(page().isBrandBibaPresentAndClickable(), "Biba brand should be present & clickable"); }
 
-    @Test public void verifyAppLogoPresence() { Assert.assertTrue(page.isSiteLogoPresent(), "Application logo should be visible on product page"); }
-    @Test public void verifyOffersLogoPresence() { Assert.assertTrue(page.isOffersLogoPresent(), "Offers logo should be present"); }
-    @Test public void verifySearchBarPresence() { Assert.assertTrue(page.isSearchBarPresent(), "Search bar should be present"); }
-    @Test public void verifyCategoriesSection() { Assert.assertTrue(page.isCategoriesSectionPresent(), "Categories section should be visible"); }
-    @Test public void verifyBrandsSection() { Assert.assertTrue(page.isBrandsSectionPresent(), "Brands section should be visible"); }
-    @Test public void verifyAllProductsSection() { Assert.assertTrue(page.isAllProductsSectionPresent(), "All products section should be visible"); }
+    @Test(description = "Verify the top navigation links in one batch check")
+    public void verifyNavigationLinksBatch() {
+        Map<String, Boolean> links = page().checkNavigationLinks();
+        Assert.assertFalse(links.containsValue(false), "Navigation links should be present & clickable: " + links);
+    }
 
-    @Test public void verifyWomenCategory() { Assert.assertTrue(page.isWomenCategoryPresentAndClickable(), "Women category should display & be clickable"); }
-    @Test public void verifyMenCategory() { Assert.assertTrue(page.isMenCategoryPresentAndClickable(), "Men category should display & be clickable"); }
-    @Test public void verifyKidsCategory() { Assert.assertTrue(page.isKidsCategoryPresentAndClickable(), "Kids category should display & be clickable"); }
+    @Test(description = "Verify logo, search bar and product page sections in one batch check")
+    public void verifySectionsBatch() {
+        Map<String, Boolean> sections = page().checkSections();
+        Assert.assertFalse(sections.containsValue(false), "Product page sections should be visible: " + sections);
+    }
 
-    @Test public void verifyBrandAllenSolly() { Assert.assertTrue(page.isBrandAllenSollyPresentAndClickable(), "Allen Solly Junior brand should be present & clickable"); }
-    @Test public void verifyBrandKookieKids() { Assert.assertTrue(page.isBrandKookieKidsPresentAndClickable(), "Kookie Kids brand should be present & clickable"); }
-    @Test public void verifyBrandBiba() { Assert.assertTrue(page.isBrandBibaPresentAndClickable(), "Biba brand should be present & clickable"); }
+    @Test(description = "Verify the category links in one batch check")
+    public void verifyCategoriesBatch() {
+        Map<String, Boolean> categories = page().checkCategories();
+        Assert.assertFalse(categories.containsValue(false), "Categories should display & be clickable: " + categories);
+    }
+
+    @Test(description = "Verify the brand links in one batch check")
+    public void verifyBrandsBatch() {
+        Map<String, Boolean> brands = page().checkBrands();
+        Assert.assertFalse(brands.containsValue(false), "Brands should be present & clickable: " + brands);
+    }
 
-    @Test public void verifyHoverOverlayShowsPriceAndAddToCart() { Assert.assertTrue(page.isHoverOverlayShowingPriceAndAddToCart(), "Hovering product should show overlay with price & Add to Cart"); }
+    @Test public void verifyHoverOverlayShowsPriceAndAddToCart() { Assert.assertTrue(page().isHoverOverlayShowingPriceAndAddToCart(), "Hovering product should show overlay with price & Add to Cart"); }
 
-    @Test public void verifyFooterCopyrightText() { Assert.assertTrue(page.isFooterCopyrightTextPresent(), "Footer copyright should show correct text"); }
-    @Test public void verifyScrollUpButton() { Assert.assertTrue(page.clickScrollUpAndVerifyTop(), "Clicking scroll-up should return to top"); }
+    @Test public void verifyFooterCopyrightText() { Assert.assertTrue(page().isFooterCopyrightTextPresent(), "Footer copyright should show correct text"); }
+    @Test public void verifyScrollUpButton() { Assert.assertTrue(page().clickScrollUpAndVerifyTop(), "Clicking scroll-up should return to top"); }
 
-    @Test public void verifyProductImageFullScreen() { Assert.assertTrue(page.isProductImageFullScreenOnClick(), "Clicking product image should open full screen/modal"); }
-    @Test public void verifySpecialOfferClickable() { Assert.assertTrue(page.isSpecialOfferClickable(), "Special offer section should be clickable"); }
+    @Test public void verifyProductImageFullScreen() { Assert.assertTrue(page().isProductImageFullScreenOnClick(), "Clicking product image should open full screen/modal"); }
+    @Test public void verifySpecialOfferClickable() { Assert.assertTrue(page().isSpecialOfferClickable(), "Special offer section should be clickable"); }
 }
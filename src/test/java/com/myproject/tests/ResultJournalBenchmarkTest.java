@@ -0,0 +1,150 @@
+package com.myproject.tests;
+
+import com.myproject.utils.ExcelUtil;
+import com.myproject.utils.ResultJournal;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * ResultJournal against ExcelUtil.appendRowToSheet (one workbook rewrite per row): same sheet content, recovery
+ * of a journal torn by a crash, then time to record 10k result rows. Each per-row rewrite gets slower as the sheet
+ * grows, so it is timed on smaller row counts and its last per-row cost times 10k is printed as a lower bound.
+ * No browser needed.
+ * Run on its own: mvn test -Dtest=ResultJournalBenchmarkTest
+ */
+public class ResultJournalBenchmarkTest {
+
+    private static final String SHEET = "Sheet2";
+    private static final String[] HEADER = {"email", "password"};
+
+    private Path tmp;
+
+    @BeforeClass(alwaysRun = true)
+    public void createTempRoot() throws IOException {
+        tmp = Files.createTempDirectory("result-journal");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteTempRoot() {
+        Benchmarks.deleteTree(tmp);
+    }
+
+    @Test(description = "Journal + publish gives the per-row appends' sheet without duplicate rows")
+    public void sameSheetAsPerRowAppends() throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "result-journal");
+        String legacy = dir.resolve("legacy.xlsx").toString();
+        String journaled = dir.resolve("journaled.xlsx").toString();
+        ResultJournal journal = ResultJournal.forSheet(journaled, SHEET, HEADER);
+
+        // like SignupRegistrationTest before: failing rows were appended twice (failure branch + finally)
+        for (int i = 0; i < 60; i++) {
+            String[] row = row(i);
+            ExcelUtil.appendRowToSheet(legacy, SHEET, HEADER, row);
+            journal.append(row);
+            if (i % 3 == 0) {
+                ExcelUtil.appendRowToSheet(legacy, SHEET, HEADER, row);
+                journal.append(row);
+            }
+        }
+        journal.append("tab\there", "new\nline \\ back");
+        ExcelUtil.appendRowToSheet(legacy, SHEET, HEADER, "tab\there", "new\nline \\ back");
+
+        Assert.assertEquals(journal.publish(), 61);
+        Assert.assertFalse(Files.exists(journal.getFile()), "Journal should be removed after publish");
+        List<List<String>> expected = new ArrayList<>(new LinkedHashSet<>(readSheet(legacy)));
+        Assert.assertEquals(readSheet(journaled), expected);
+
+        // publishing the same rows again adds nothing
+        journal.append(row(1));
+        Assert.assertEquals(journal.publish(), 0);
+        Assert.assertEquals(readSheet(journaled), expected);
+    }
+
+    @Test(description = "A journal left by a crashed run is published without its torn last line")
+    public void recoversJournalOfCrashedRun() throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "result-journal");
+        String workbook = dir.resolve("crashed.xlsx").toString();
+        Path file = Path.of(workbook + "." + SHEET + ".journal");
+        Files.writeString(file, "a@x.com\tpw1\nb@x.com\tpw2\nc@x.c", StandardCharsets.UTF_8);
+
+        ResultJournal journal = ResultJournal.forSheet(workbook, SHEET, HEADER);
+        journal.append("d@x.com", "pw4");
+        Assert.assertEquals(journal.publish(), 3);
+        Assert.assertEquals(readSheet(workbook), List.of(
+                List.of("email", "password"), List.of("a@x.com", "pw1"), List.of("b@x.com", "pw2"), List.of("d@x.com", "pw4")));
+    }
+
+    @Test(description = "Time to record 10k result rows: per-row workbook rewrite vs journal + one publish")
+    public void benchmark() throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "result-journal");
+        int rows = 10_000;
+
+        // warm up POI and the JIT so the first size is not mostly class loading
+        String warmup = dir.resolve("warmup.xlsx").toString();
+        for (int i = 0; i < 100; i++) ExcelUtil.appendRowToSheet(warmup, SHEET, HEADER, row(i));
+        journal(dir.resolve("warmup-journal.xlsx").toString(), 100);
+
+        System.out.println("[ResultJournalBenchmark] rows, per-row rewrite ms, journal append ms, publish ms");
+        double perRowMs = 0;
+        for (int n : new int[]{500, 1000, 2000}) {
+            String legacy = dir.resolve("legacy" + n + ".xlsx").toString();
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) ExcelUtil.appendRowToSheet(legacy, SHEET, HEADER, row(i));
+            long legacyMs = (System.nanoTime() - start) / 1_000_000;
+            long[] journalMs = journal(dir.resolve("journal" + n + ".xlsx").toString(), n);
+            System.out.printf("[ResultJournalBenchmark] %6d %12d %12d %10d%n", n, legacyMs, journalMs[0], journalMs[1]);
+            perRowMs = (double) legacyMs / n;
+        }
+
+        long[] journalMs = journal(dir.resolve("journal" + rows + ".xlsx").toString(), rows);
+        long estimate = Math.round(perRowMs * rows);
+        System.out.printf("[ResultJournalBenchmark] %6d %12s %12d %10d  (per-row rewrite: more than %d ms)%n",
+                rows, "-", journalMs[0], journalMs[1], estimate);
+        Assert.assertEquals(readSheet(dir.resolve("journal" + rows + ".xlsx").toString()).size(), rows + 1);
+    }
+
+    // append n rows to a fresh journal, then publish; returns {append ms, publish ms}
+    private static long[] journal(String workbook, int n) {
+        ResultJournal journal = ResultJournal.forSheet(workbook, SHEET, HEADER);
+        long start = System.nanoTime();
+        for (int i = 0; i < n; i++) journal.append(row(i));
+        long appendMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        Assert.assertEquals(journal.publish(), n);
+        return new long[]{appendMs, (System.nanoTime() - start) / 1_000_000};
+    }
+
+    private static String[] row(int i) {
+        return new String[]{"user" + i + "+1700000000000@example.com", "Pass@" + (i % 97)};
+    }
+
+    private static List<List<String>> readSheet(String path) throws IOException {
+        List<List<String>> out = new ArrayList<>();
+        DataFormatter fmt = new DataFormatter();
+        try (InputStream is = Files.newInputStream(Path.of(path)); Workbook wb = new XSSFWorkbook(is)) {
+            Sheet sheet = wb.getSheet(SHEET);
+            for (Row r : sheet) {
+                List<String> values = new ArrayList<>();
+                for (int c = 0; c < r.getLastCellNum(); c++) values.add(fmt.formatCellValue(r.getCell(c)));
+                out.add(values);
+            }
+        }
+        return out;
+    }
+}
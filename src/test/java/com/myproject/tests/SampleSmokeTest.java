@@ -1,6 +1,7 @@
 package com.myproject.tests;
 
 import com.myproject.base.BaseTest;
+import com.myproject.base.ElementFinder;
 import org.openqa.selenium.By;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -15,7 +16,7 @@ public class SampleSmokeTest extends BaseTest {
         Assert.assertTrue(title != null && title.length() > 0, "Expected non-empty page title");
 
         // Basic element check - site layout may change; this is a soft check
-        boolean logoPresent = getDriver().findElements(By.cssSelector(".logo")).size() > 0;
+        boolean logoPresent = ElementFinder.probe(getDriver(), By.cssSelector(".logo")).size() > 0;
         System.out.println("Logo present? " + logoPresent);
     }
 }
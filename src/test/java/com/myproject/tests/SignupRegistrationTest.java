@@ -5,13 +5,16 @@ import com.myproject.listeners.TestListener;
 import com.myproject.pages.RegistrationPageFunctional;
 import com.myproject.pages.SignupPageFunctional;
 import com.myproject.utils.ExcelUtil;
+import com.myproject.utils.ResultJournal;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
+
 /**
  * Signup -> Registration test.
- * Writes only email + password into GENERATED_COPY Sheet2 for each row (attempted).
+ * Writes only email + password into GENERATED_COPY Sheet2 for each row (attempted), once per row.
  */
 public class SignupRegistrationTest extends BaseTest {
 
@@ -20,11 +23,14 @@ public class SignupRegistrationTest extends BaseTest {
     private static final String GENERATED_COPY = TESTDATA_DIR + "signup_data_generated.xlsx";
     private static final String INPUT_SHEET = "Sheet1";
     private static final String OUTPUT_SHEET = "Sheet2";
+    private static final ResultJournal RESULTS =
+            ResultJournal.forSheet(GENERATED_COPY, OUTPUT_SHEET, new String[]{"email", "password"});
 
     @DataProvider(name = "signupData")
-    public Object[][] signupData() {
-        // Reads Sheet1, optionally writes generated emails into GENERATED_COPY and returns rows for TestNG
-        return ExcelUtil.readSheetAndWriteGeneratedEmails(INPUT_FILE, INPUT_SHEET, GENERATED_COPY, true);
+    public Iterator<Object[]> signupData() {
+        // Streams Sheet1 row by row (the first test starts before the sheet is fully read); generated emails are
+        // written into GENERATED_COPY as rows are handed out, the copy is complete once the last row is taken
+        return ExcelUtil.iterateSheetWithGeneratedEmails(INPUT_FILE, INPUT_SHEET, GENERATED_COPY);
     }
 
     @Test(dataProvider = "signupData", description = "Signup -> Registration; append only email+password into Sheet2 (generated copy)")
@@ -67,7 +73,6 @@ public class SignupRegistrationTest extends BaseTest {
             if (!filled) {
                 message = "Signup fill failed";
                 TestListener.fail(message);
-                appendResult(email, password);
                 Assert.fail(message);
                 return;
             }
@@ -77,7 +82,6 @@ public class SignupRegistrationTest extends BaseTest {
             if (!clicked) {
                 message = "Signup click failed";
                 TestListener.fail(message);
-                appendResult(email, password);
                 Assert.fail(message);
                 return;
             }
@@ -87,7 +91,6 @@ public class SignupRegistrationTest extends BaseTest {
             if (!proceed) {
                 message = "Signup did not proceed to registration (validation)";
                 TestListener.fail(message);
-                appendResult(email, password);
                 Assert.fail(message);
                 return;
             }
@@ -99,7 +102,6 @@ public class SignupRegistrationTest extends BaseTest {
             if (!regFilled) {
                 message = "Registration fields not filled";
                 TestListener.fail(message);
-                appendResult(email, password);
                 Assert.fail(message);
                 return;
             }
@@ -109,7 +111,6 @@ public class SignupRegistrationTest extends BaseTest {
             if (!regSubmitted) {
                 message = "Registration submit did not detect success";
                 TestListener.fail(message);
-                appendResult(email, password);
                 Assert.fail(message);
                 return;
             }
@@ -122,8 +123,6 @@ public class SignupRegistrationTest extends BaseTest {
             overallSuccess = false;
             message = "Exception: " + e.getMessage();
             TestListener.fail(message);
-            // ensure we append attempted credentials
-            try { appendResult(email, password); } catch (Exception ex) { TestListener.fail("Failed to append credentials: " + ex.getMessage()); }
             throw new RuntimeException(message, e);
         } finally {
             // Always append email+password whether PASS or FAIL so Sheet2 contains creds for login phase.
@@ -134,16 +133,13 @@ public class SignupRegistrationTest extends BaseTest {
     }
 
     /**
-     * Append only email & password into GENERATED_COPY sheet OUTPUT_SHEET.
+     * Append only email & password for GENERATED_COPY sheet OUTPUT_SHEET. Rows go to a journal and are written
+     * into the workbook once, at suite end (see ResultJournal).
      */
     private void appendResult(String email, String password) {
-        String[] header = new String[]{"email", "password"};
         try {
-            ExcelUtil.appendRowToSheet(GENERATED_COPY, OUTPUT_SHEET, header,
-                    email == null ? "" : email,
-                    password == null ? "" : password
-            );
-            TestListener.info("Appended result (email+password only) to " + GENERATED_COPY + " Sheet \"" + OUTPUT_SHEET + "\" for " + email);
+            RESULTS.append(email == null ? "" : email, password == null ? "" : password);
+            TestListener.info("Journaled result (email+password only) for " + GENERATED_COPY + " Sheet \"" + OUTPUT_SHEET + "\" for " + email);
         } catch (Exception ex) {
             // log and rethrow so caller is aware if you want tests to stop on append errors:
             TestListener.fail("Failed to append result to Sheet2: " + ex.getMessage());
@@ -0,0 +1,62 @@
+package com.myproject.tests;
+
+import com.myproject.base.DomCheck;
+import com.myproject.base.LocalSite;
+import com.myproject.base.StaticDom;
+import com.myproject.listeners.RunSummary;
+import com.myproject.pages.ContactUsPage;
+import com.myproject.pages.ProductPage;
+import org.testng.Assert;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only page checks answered from the served HTML, without a browser: each page is fetched once and every
+ * check runs against the parsed snapshot on the data provider's threads. Checks that need a browser are listed
+ * and left to the UI test classes.
+ *
+ * Not a BaseTest, so it starts the local site itself (site.mode=local) before the pages are fetched; when it runs
+ * next to BaseTest classes it gets the same running instance.
+ */
+public class StaticDomCheckTest {
+
+    @BeforeClass(alwaysRun = true)
+    public void register() {
+        if (LocalSite.startIfConfigured() != null) {
+            RunSummary.register("Local site", LocalSite::stats);
+        }
+        RunSummary.register("Static DOM checks", StaticDom::stats);
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void stopLocalSite() {
+        LocalSite.stop();
+    }
+
+    @DataProvider(name = "staticChecks", parallel = true)
+    public Object[][] staticChecks() {
+        List<DomCheck> all = new ArrayList<>();
+        all.addAll(ProductPage.domChecks());
+        all.addAll(ContactUsPage.domChecks());
+
+        List<Object[]> rows = new ArrayList<>();
+        for (DomCheck c : all) {
+            if (c.needsBrowser()) {
+                System.out.println("[StaticDomCheckTest] Needs a live browser, not run here: " + c);
+            } else {
+                rows.add(new Object[]{c});
+            }
+        }
+        return rows.toArray(new Object[0][]);
+    }
+
+    @Test(dataProvider = "staticChecks", description = "Element is present in the served HTML")
+    public void elementPresentInServedHtml(DomCheck check) {
+        Assert.assertTrue(check.evaluate(), check + " should be present in the served HTML");
+    }
+}
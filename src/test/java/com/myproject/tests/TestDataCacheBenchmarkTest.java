@@ -0,0 +1,149 @@
+package com.myproject.tests;
+
+import com.myproject.utils.TestDataCache;
+import com.myproject.utils.TestDataSource;
+import com.myproject.utils.XlsxStreamReader;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TestDataCache against parsing the workbook every time: same rows from memory, disk and parse, invalidation when
+ * the workbook changes (but not when only its mtime does), then time per sheet read for each source.
+ * No browser needed. Run on its own: mvn test -Dtest=TestDataCacheBenchmarkTest
+ */
+public class TestDataCacheBenchmarkTest {
+
+    private static final Path TESTDATA = Paths.get("src/test/resources/testdata");
+
+    private Path tmp;
+
+    @BeforeClass(alwaysRun = true)
+    public void createTempRoot() throws IOException {
+        tmp = Files.createTempDirectory("testdata-cache");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteTempRoot() {
+        Benchmarks.deleteTree(tmp);
+    }
+
+    @Test(description = "Parsed, disk and memory reads give the streaming reader's rows")
+    public void sameRowsFromEverySource() throws IOException {
+        Path workbook = copyOf("signup_data.xlsx");
+        for (String sheet : new String[]{"Sheet1", "Sheet2"}) {
+            List<List<String>> expected = streamed(workbook, sheet);
+            Assert.assertEquals(read(workbook, sheet, "parsed"), expected);
+            Assert.assertEquals(read(workbook, sheet, "memory"), expected);
+            TestDataCache.clearMemory();
+            Assert.assertEquals(read(workbook, sheet, "disk"), expected);
+            Assert.assertEquals(read(workbook, sheet, "memory"), expected);
+        }
+    }
+
+    @Test(description = "A changed workbook is parsed again; a new mtime over the same bytes is not")
+    public void invalidatesWhenWorkbookChanges() throws IOException {
+        Path workbook = copyOf("UserFunctionalityData_generated.xlsx");
+        List<List<String>> original = read(workbook, "Sheet1", "parsed");
+
+        // touched only (checkout, copy): the content hash still matches
+        Files.setLastModifiedTime(workbook, FileTime.fromMillis(Files.getLastModifiedTime(workbook).toMillis() + 3_600_000));
+        Assert.assertEquals(read(workbook, "Sheet1", "disk"), original);
+
+        // edited: memory and disk copies are both stale
+        try (InputStream is = Files.newInputStream(workbook); Workbook wb = new XSSFWorkbook(is)) {
+            wb.getSheet("Sheet1").getRow(1).getCell(0).setCellValue("Changed Name");
+            try (OutputStream os = Files.newOutputStream(workbook)) {
+                wb.write(os);
+            }
+        }
+        List<List<String>> changed = read(workbook, "Sheet1", "parsed");
+        Assert.assertEquals(changed.get(0).get(0), "Changed Name");
+        Assert.assertEquals(changed.size(), original.size());
+
+        // a parse that is not read to the end leaves no cache behind
+        Path other = copyOf("signup_data.xlsx");
+        try (TestDataSource.Rows rows = TestDataCache.open(other.toString(), "Sheet1")) {
+            rows.next();
+        }
+        TestDataCache.clearMemory();
+        Assert.assertEquals(read(other, "Sheet1", "parsed"), streamed(other, "Sheet1"));
+
+        // nor does a disk read that stops early fill the memo
+        TestDataCache.clearMemory();
+        try (TestDataSource.Rows rows = TestDataCache.open(other.toString(), "Sheet1")) {
+            Assert.assertEquals(rows.source(), "disk");
+            rows.next();
+        }
+        Assert.assertEquals(read(other, "Sheet1", "disk"), streamed(other, "Sheet1"));
+    }
+
+    @Test(description = "Time per sheet read: parse every time vs disk cache vs memory")
+    public void benchmark() throws IOException {
+        Map<String, Path> sheets = new LinkedHashMap<>();
+        sheets.put("signup_data Sheet1", copyOf("signup_data.xlsx"));
+        sheets.put("UserFunctionality Sheet1", copyOf("UserFunctionalityData_generated.xlsx"));
+        sheets.put("generated 20k rows",
+                Benchmarks.signupSheet(Files.createTempDirectory(tmp, "testdata-cache").resolve("rows.xlsx"), 20_000));
+
+        System.out.println("[TestDataCacheBenchmark] sheet, rows, parse us, disk us, memory us, parse/disk");
+        for (Map.Entry<String, Path> e : sheets.entrySet()) {
+            String path = e.getValue().toString();
+            int rows = streamed(e.getValue(), "Sheet1").size();
+            read(e.getValue(), "Sheet1", "parsed");
+            long parseNs = Benchmarks.median(() -> drain(XlsxStreamReader.open(path, "Sheet1")));
+            long diskNs = Benchmarks.median(() -> {
+                TestDataCache.clearMemory();
+                drain(TestDataCache.open(path, "Sheet1"));
+            });
+            long memoryNs = Benchmarks.median(() -> drain(TestDataCache.open(path, "Sheet1")));
+            System.out.printf("[TestDataCacheBenchmark] %-26s %6d %10d %10d %10d %8.1fx%n", e.getKey(), rows,
+                    parseNs / 1000, diskNs / 1000, memoryNs / 1000, (double) parseNs / Math.max(1, diskNs));
+        }
+    }
+
+    private static List<List<String>> read(Path workbook, String sheet, String expectedSource) {
+        List<List<String>> rows = new ArrayList<>();
+        try (TestDataSource.Rows it = TestDataCache.open(workbook.toString(), sheet)) {
+            Assert.assertEquals(it.source(), expectedSource, workbook.getFileName() + " " + sheet);
+            while (it.hasNext()) rows.add(Arrays.asList(it.next()));
+        }
+        return rows;
+    }
+
+    private static List<List<String>> streamed(Path workbook, String sheet) {
+        List<List<String>> rows = new ArrayList<>();
+        try (XlsxStreamReader it = XlsxStreamReader.open(workbook.toString(), sheet)) {
+            while (it.hasNext()) rows.add(Arrays.asList(it.next()));
+        }
+        return rows;
+    }
+
+    private static void drain(Iterator<String[]> rows) {
+        while (rows.hasNext()) rows.next();
+    }
+
+    // a fresh path per test, so cache entries of other tests (and runs) do not interfere
+    private Path copyOf(String name) throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "testdata-cache");
+        return Files.copy(TESTDATA.resolve(name), dir.resolve(name), StandardCopyOption.COPY_ATTRIBUTES);
+    }
+}
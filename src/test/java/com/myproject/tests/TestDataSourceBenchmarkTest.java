@@ -0,0 +1,252 @@
+package com.myproject.tests;
+
+import com.myproject.utils.ExcelUtil;
+import com.myproject.utils.TestDataSource;
+import com.myproject.utils.XlsxStreamReader;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.RFC4180ParserBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * TestDataSource backends: the test data sheets converted to CSV and JSON lines read back as the same rows, quoting
+ * and escaping round trips, a provider switched to CSV / JSON lines by testdata.format alone, then rows/s and bytes
+ * allocated per row for xlsx, CSV (also opencsv's RFC 4180 reader, for reference) and JSON lines.
+ * No browser needed. Run on its own: mvn test -Dtest=TestDataSourceBenchmarkTest
+ */
+public class TestDataSourceBenchmarkTest {
+
+    private static final Path TESTDATA = Paths.get("src/test/resources/testdata");
+
+    private Path tmp;
+
+    @BeforeClass(alwaysRun = true)
+    public void createTempRoot() throws IOException {
+        tmp = Files.createTempDirectory("testdata-source");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteTempRoot() {
+        Benchmarks.deleteTree(tmp);
+    }
+
+    @Test(description = "Test data sheets converted to CSV and JSON lines read back as the same header and rows")
+    public void sameRowsInEveryFormat() throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "testdata-source");
+        for (String[] sheet : new String[][]{
+                {"signup_data.xlsx", "Sheet1"}, {"signup_data.xlsx", "Sheet2"}, {"UserFunctionalityData_generated.xlsx", "Sheet1"}}) {
+            String xlsx = TESTDATA.resolve(sheet[0]).toString();
+            List<List<String>> expected = read(xlsx, sheet[1]);
+            for (String ext : new String[]{"csv", "jsonl"}) {
+                String converted = dir.resolve(sheet[0] + "." + sheet[1] + "." + ext).toString();
+                TestDataSource.convert(xlsx, sheet[1], converted);
+                Assert.assertEquals(read(converted, null), expected, sheet[0] + " " + sheet[1] + " as " + ext);
+            }
+        }
+    }
+
+    @Test(description = "Separators, quotes, line breaks, unicode and short rows survive a write and read")
+    public void roundTripsAwkwardValues() throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "testdata-source");
+        String[] header = {"name", "note", "email"};
+        List<String[]> rows = List.of(
+                new String[]{"Smith, John", "said \"hi\"", "a@x.com"},
+                new String[]{"Multi", "line one\nline two\r\nline three", ""},
+                new String[]{"Zo\u00eb \u5c71\u7530", "tab\there \\ back", "b@x.com"},
+                new String[]{"Short row"},
+                new String[]{"", "", "c@x.com"});
+        List<List<String>> expected = new ArrayList<>();
+        expected.add(Arrays.asList(header));
+        for (String[] row : rows) expected.add(padded(row, 3));
+
+        for (String ext : new String[]{"csv", "jsonl", "xlsx"}) {
+            String file = dir.resolve("awkward." + ext).toString();
+            TestDataSource.forPath(file).write(file, "Sheet1", header, rows.iterator());
+            Assert.assertEquals(read(file, "Sheet1"), expected, ext);
+        }
+        // what we write is what other RFC 4180 readers read (opencsv reads line by line: a quoted CRLF comes back as LF)
+        try (CSVReader csv = rfc4180(Files.newBufferedReader(dir.resolve("awkward.csv")))) {
+            List<List<String>> other = new ArrayList<>();
+            for (String[] row : csv.readAll()) other.add(padded(row, 3));
+            Assert.assertEquals(other.toString(), expected.toString().replace("\r\n", "\n"));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test(description = "Hand-written files: BOM, CRLF, blank lines, reordered / missing keys, literals, bad input")
+    public void readsHandWrittenFiles() throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "testdata-source");
+        Path csv = dir.resolve("hand.csv");
+        Files.writeString(csv, "\uFEFFemail,password\r\n\r\n a@x.com , pw1\r\n\"b@x.com\",\"p,w\"\"2\"\r\nc@x.com\r\n",
+                StandardCharsets.UTF_8);
+        Assert.assertEquals(read(csv.toString(), null), List.of(
+                List.of("email", "password"), List.of("a@x.com", "pw1"), List.of("b@x.com", "p,w\"2"), List.of("c@x.com", "")));
+
+        Path jsonl = dir.resolve("hand.jsonl");
+        Files.writeString(jsonl, "{\"email\": \"a@x.com\", \"password\": \"pw1\", \"zip\": 400001}\n\n"
+                + "{\"password\":\"caf\\u00e9\",\"email\":\"b@x.com\"}\r\n"
+                + "  { \"email\" : null , \"zip\" : 12.5, \"password\": true }  \n", StandardCharsets.UTF_8);
+        Assert.assertEquals(read(jsonl.toString(), null), List.of(
+                List.of("email", "password", "zip"), List.of("a@x.com", "pw1", "400001"), List.of("b@x.com", "caf\u00e9", ""),
+                List.of("", "true", "12.5")));
+
+        for (String[] bad : new String[][]{
+                {"bad.csv", "email\n\"never closed\n"},
+                {"bad.jsonl", "{\"email\":\"a\"}\n{\"phone\":\"1\"}\n"},
+                {"nested.jsonl", "{\"email\":{\"a\":1}}\n"},
+                {"bad.txt", "email\n"}}) {
+            Path file = Files.writeString(dir.resolve(bad[0]), bad[1], StandardCharsets.UTF_8);
+            Assert.assertThrows(bad[0], RuntimeException.class, () -> read(file.toString(), null));
+        }
+    }
+
+    @Test(description = "testdata.format switches an unchanged provider call to the CSV / JSON-lines copy")
+    public void switchesBackendWithoutCodeChanges() throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "testdata-source");
+        Path xlsx = Files.copy(TESTDATA.resolve("signup_data.xlsx"), dir.resolve("signup_data.xlsx"), StandardCopyOption.REPLACE_EXISTING);
+        List<List<String>> sheet1 = read(xlsx.toString(), "Sheet1");
+        List<List<String>> sheet2 = read(xlsx.toString(), "Sheet2");
+        String base = dir.resolve("signup_data").toString();
+
+        try {
+            for (String ext : new String[]{"csv", "jsonl"}) {
+                TestDataSource.convert(xlsx.toString(), "Sheet1", base + ".Sheet1." + ext);
+                TestDataSource.convert(xlsx.toString(), "Sheet2", base + "." + ext); // no per-sheet file: the plain one
+                System.setProperty("testdata.format", ext);
+
+                try (TestDataSource.Rows rows = TestDataSource.open(xlsx.toString(), "Sheet2")) {
+                    Assert.assertEquals(rows.source(), ext);
+                }
+                Assert.assertEquals(rowsOf(ExcelUtil.readSheetSimple(xlsx.toString(), "Sheet2")), sheet2.subList(1, sheet2.size()));
+
+                // signupData: emails generated, copy written as a one-sheet workbook
+                Path copy = dir.resolve("generated_" + ext + ".xlsx");
+                Iterator<Object[]> rows = ExcelUtil.iterateSheetWithGeneratedEmails(xlsx.toString(), "Sheet1", copy.toString());
+                int n = 0;
+                while (rows.hasNext()) {
+                    String[] row = (String[]) rows.next();
+                    Assert.assertEquals(row[0], sheet1.get(++n).get(0));
+                }
+                Assert.assertEquals(n, sheet1.size() - 1);
+                Assert.assertEquals(XlsxStreamReader.sheetNames(copy.toString()), List.of("Sheet1"));
+            }
+            System.setProperty("testdata.format", "yaml");
+            Assert.assertThrows(RuntimeException.class, () -> ExcelUtil.readSheetSimple(xlsx.toString(), "Sheet1"));
+        } finally {
+            System.clearProperty("testdata.format");
+        }
+    }
+
+    @Test(description = "Rows/s and bytes allocated per row: xlsx vs CSV vs JSON lines")
+    public void benchmark() throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "testdata-source");
+        int rows = 50_000;
+        String xlsx = Benchmarks.signupSheet(dir.resolve("rows.xlsx"), rows).toString();
+        String csv = dir.resolve("rows.csv").toString();
+        String jsonl = dir.resolve("rows.jsonl").toString();
+        TestDataSource.convert(xlsx, "Sheet1", csv);
+        TestDataSource.convert(xlsx, "Sheet1", jsonl);
+
+        System.out.println("[TestDataSourceBenchmark] " + rows + " rows x 12 columns: format, file KB, ms, rows/s, bytes allocated per row");
+        report(rows, "xlsx (XlsxStreamReader)", xlsx, () -> {
+            try (XlsxStreamReader it = XlsxStreamReader.open(xlsx, "Sheet1")) {
+                return drain(it);
+            }
+        });
+        report(rows, "csv (TestDataSource)", csv, () -> {
+            try (TestDataSource.Rows it = TestDataSource.CSV.read(csv, null)) {
+                return drain(it);
+            }
+        });
+        report(rows, "csv (opencsv RFC 4180)", csv, () -> {
+            try (CSVReader it = rfc4180(Files.newBufferedReader(Paths.get(csv)))) {
+                it.readNext();
+                int n = 0;
+                while (it.readNext() != null) n++;
+                return n;
+            } catch (IOException | CsvValidationException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        report(rows, "jsonl (TestDataSource)", jsonl, () -> {
+            try (TestDataSource.Rows it = TestDataSource.JSONL.read(jsonl, null)) {
+                return drain(it);
+            }
+        });
+    }
+
+    // median of 7 timed reads after 3 warm-up reads; allocation is counted on this thread (xlsx parses on its own)
+    private static void report(int rows, String format, String file, Supplier<Integer> read) throws IOException {
+        for (int i = 0; i < 3; i++) Assert.assertEquals((int) read.get(), rows);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] ns = new long[7];
+        long allocated = 0;
+        for (int r = 0; r < ns.length; r++) {
+            long bytes = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            read.get();
+            ns[r] = System.nanoTime() - start;
+            allocated = threads.getCurrentThreadAllocatedBytes() - bytes;
+        }
+        Arrays.sort(ns);
+        long ms = Math.max(1, ns[ns.length / 2] / 1_000_000);
+        String perRow = format.startsWith("xlsx") ? "(parser thread)" : String.valueOf(allocated / rows);
+        System.out.printf(Locale.ROOT, "[TestDataSourceBenchmark] %-24s %8d %7d %9d %16s%n",
+                format, Files.size(Paths.get(file)) / 1024, ms, rows * 1000L / ms, perRow);
+    }
+
+    private static List<List<String>> read(String file, String sheet) {
+        List<List<String>> rows = new ArrayList<>();
+        try (TestDataSource.Rows it = TestDataSource.forPath(file).read(file, sheet)) {
+            if (it.header() == null) return rows;
+            rows.add(Arrays.asList(it.header()));
+            while (it.hasNext()) rows.add(Arrays.asList(it.next()));
+        }
+        return rows;
+    }
+
+    private static List<List<String>> rowsOf(Object[][] rows) {
+        List<List<String>> out = new ArrayList<>();
+        for (Object[] row : rows) out.add(Arrays.asList((String[]) row));
+        return out;
+    }
+
+    private static List<String> padded(String[] row, int width) {
+        String[] out = Arrays.copyOf(row, Math.max(width, row.length));
+        for (int c = 0; c < out.length; c++) if (out[c] == null) out[c] = "";
+        return Arrays.asList(out);
+    }
+
+    private static int drain(Iterator<String[]> rows) {
+        int n = 0;
+        while (rows.hasNext()) {
+            rows.next();
+            n++;
+        }
+        return n;
+    }
+
+    private static CSVReader rfc4180(Reader reader) {
+        return new CSVReaderBuilder(reader).withCSVParser(new RFC4180ParserBuilder().build()).build();
+    }
+}
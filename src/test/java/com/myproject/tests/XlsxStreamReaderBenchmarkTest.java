@@ -0,0 +1,246 @@
+package com.myproject.tests;
+
+import com.myproject.utils.ExcelUtil;
+import com.myproject.utils.XlsxStreamReader;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * XlsxStreamReader against the XSSFWorkbook readers it replaced (whole workbook in memory, setCellType(STRING) on
+ * every cell): same rows on the test data, Excel's display text on numbers and dates, then peak heap and rows/s on
+ * generated sheets. No browser needed. Run on its own: mvn test -Dtest=XlsxStreamReaderBenchmarkTest
+ */
+public class XlsxStreamReaderBenchmarkTest {
+
+    private static final Path TESTDATA = Paths.get("src/test/resources/testdata");
+
+    private Path tmp;
+
+    @BeforeClass(alwaysRun = true)
+    public void createTempRoot() throws IOException {
+        tmp = Files.createTempDirectory("xlsx-stream");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteTempRoot() {
+        Benchmarks.deleteTree(tmp);
+    }
+
+    // the ExcelUtil.readSheetSimple body before XlsxStreamReader
+    @SuppressWarnings("deprecation")
+    private static List<String[]> legacy(Path file, String sheetName) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (InputStream is = Files.newInputStream(file); Workbook wb = new XSSFWorkbook(is)) {
+            Sheet sheet = wb.getSheet(sheetName);
+            Iterator<Row> it = sheet.iterator();
+            if (!it.hasNext()) return rows;
+            it.next();
+            while (it.hasNext()) {
+                Row r = it.next();
+                String[] data = new String[r.getLastCellNum()];
+                for (int c = 0; c < data.length; c++) {
+                    Cell cell = r.getCell(c, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
+                    if (cell == null) {
+                        data[c] = "";
+                    } else {
+                        cell.setCellType(CellType.STRING);
+                        data[c] = cell.getStringCellValue().trim();
+                    }
+                }
+                rows.add(data);
+            }
+        }
+        return rows;
+    }
+
+    private static List<String[]> streamed(Path file, String sheetName) {
+        List<String[]> rows = new ArrayList<>();
+        try (XlsxStreamReader it = XlsxStreamReader.open(file.toString(), sheetName)) {
+            while (it.hasNext()) rows.add(it.next());
+        }
+        return rows;
+    }
+
+    @Test(description = "Streaming reader returns the workbook reader's rows for the test data sheets")
+    public void sameRowsAsWorkbookReader() throws IOException {
+        for (String[] sheet : new String[][]{
+                {"signup_data.xlsx", "Sheet1"}, {"signup_data.xlsx", "Sheet2"}, {"UserFunctionalityData_generated.xlsx", "Sheet1"}}) {
+            List<String[]> expected = legacy(TESTDATA.resolve(sheet[0]), sheet[1]);
+            List<String[]> actual = streamed(TESTDATA.resolve(sheet[0]), sheet[1]);
+            Assert.assertEquals(actual.size(), expected.size(), sheet[0] + " " + sheet[1]);
+            for (int r = 0; r < expected.size(); r++) {
+                // streamed rows are padded to the header width
+                Assert.assertEquals(Arrays.copyOf(actual.get(r), expected.get(r).length), expected.get(r),
+                        sheet[0] + " " + sheet[1] + " row " + (r + 1));
+            }
+        }
+    }
+
+    @Test(description = "A missing workbook or sheet fails on open; an empty sheet has no header and no rows")
+    public void missingIsNotEmpty() throws IOException {
+        Assert.assertThrows(RuntimeException.class, () -> XlsxStreamReader.open("/nonexistent.xlsx", "Sheet1"));
+        Assert.assertThrows(RuntimeException.class,
+                () -> XlsxStreamReader.open(TESTDATA.resolve("signup_data.xlsx").toString(), "NoSuchSheet"));
+        Assert.assertThrows(RuntimeException.class, () -> ExcelUtil.readSheetSimple("/nonexistent.xlsx", "Sheet1"));
+
+        Path file = Files.createTempDirectory(tmp, "xlsx-stream").resolve("empty.xlsx");
+        try (XSSFWorkbook wb = new XSSFWorkbook(); OutputStream os = Files.newOutputStream(file)) {
+            wb.createSheet("Empty");
+            wb.write(os);
+        }
+        try (XlsxStreamReader rows = XlsxStreamReader.open(file.toString(), "Empty")) {
+            Assert.assertNull(rows.header());
+            Assert.assertFalse(rows.hasNext());
+        }
+    }
+
+    @Test(description = "Numbers, dates, blanks and formulas read as the text Excel shows")
+    public void formatsLikeExcel() throws IOException {
+        Path file = Files.createTempDirectory(tmp, "xlsx-stream").resolve("types.xlsx");
+        try (XSSFWorkbook wb = new XSSFWorkbook()) {
+            Sheet sheet = wb.createSheet("Data");
+            CellStyle date = wb.createCellStyle();
+            date.setDataFormat(wb.createDataFormat().getFormat("yyyy-mm-dd"));
+            Row h = sheet.createRow(0);
+            for (int c = 0; c < 6; c++) h.createCell(c).setCellValue("col" + c);
+            Row r = sheet.createRow(1);
+            r.createCell(0).setCellValue(9876543210d);
+            r.createCell(1).setCellValue(400001);
+            r.createCell(2).setCellValue(12.5);
+            Cell d = r.createCell(3);
+            d.setCellValue(45000);
+            d.setCellStyle(date);
+            r.createCell(5).setCellFormula("B2+1");
+            wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            try (OutputStream os = Files.newOutputStream(file)) {
+                wb.write(os);
+            }
+        }
+        List<String[]> rows = streamed(file, "Data");
+        Assert.assertEquals(rows.size(), 1);
+        Assert.assertEquals(rows.get(0), new String[]{"9876543210", "400001", "12.5", "2023-03-15", "", "400002"});
+    }
+
+    @Test(description = "The generated-emails copy keeps every sheet and only changes the email column")
+    public void writesGeneratedCopy() throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "xlsx-stream");
+        Path input = Files.copy(TESTDATA.resolve("signup_data.xlsx"), dir.resolve("signup_data.xlsx"), StandardCopyOption.REPLACE_EXISTING);
+        Path copy = dir.resolve("signup_data_generated.xlsx");
+
+        Object[][] rows = ExcelUtil.readSheetAndWriteGeneratedEmails(input.toString(), "Sheet1", copy.toString(), true);
+        Assert.assertEquals(XlsxStreamReader.sheetNames(copy.toString()), List.of("Sheet1", "Sheet2"));
+        List<String[]> original = streamed(input, "Sheet1");
+        List<String[]> written = streamed(copy, "Sheet1");
+        Assert.assertEquals(written.size(), rows.length);
+        for (int r = 0; r < rows.length; r++) {
+            String[] row = (String[]) rows[r];
+            Assert.assertEquals(written.get(r), row);
+            Assert.assertNotEquals(row[1], original.get(r)[1], "email should be regenerated");
+            Assert.assertEquals(Arrays.copyOfRange(row, 2, row.length), Arrays.copyOfRange(original.get(r), 2, row.length));
+        }
+        Assert.assertEquals(streamed(copy, "Sheet2").size(), streamed(input, "Sheet2").size());
+    }
+
+    @Test(description = "Iterator DataProvider rows: the first row is available long before the sheet is read")
+    public void firstRowBeforeSheetIsRead() throws IOException {
+        Path file = Benchmarks.signupSheet(Files.createTempDirectory(tmp, "xlsx-stream").resolve("rows50000.xlsx"), 50_000);
+        Path copy = file.resolveSibling("rows50000_generated.xlsx");
+        ExcelUtil.readSheetSimple(file.toString(), "Sheet1"); // warm-up
+
+        long start = System.nanoTime();
+        Iterator<Object[]> rows = ExcelUtil.iterateSheetWithGeneratedEmails(file.toString(), "Sheet1", copy.toString());
+        Assert.assertTrue(rows.hasNext());
+        Object[] first = rows.next();
+        long firstMs = (System.nanoTime() - start) / 1_000_000;
+        int n = 1;
+        while (rows.hasNext()) {
+            rows.next();
+            n++;
+        }
+        long allMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("[XlsxStreamReaderBenchmark] 50000 rows: first row after %d ms, last row (and copy written) after %d ms%n",
+                firstMs, allMs);
+        Assert.assertEquals(n, 50_000);
+        Assert.assertTrue(firstMs < allMs / 2, "first row should not wait for the whole sheet");
+        Assert.assertEquals(streamed(copy, "Sheet1").get(0), first);
+    }
+
+    @Test(description = "Peak heap and rows/s: workbook reader vs streaming reader")
+    public void benchmark() throws IOException {
+        Path dir = Files.createTempDirectory(tmp, "xlsx-stream");
+        System.out.println("[XlsxStreamReaderBenchmark] rows, reader, ms, rows/s, peak heap MB (garbage included)");
+        for (int rows : new int[]{10_000, 100_000}) {
+            Path file = Benchmarks.signupSheet(dir.resolve("rows" + rows + ".xlsx"), rows);
+            report(rows, "workbook (legacy)", () -> {
+                try {
+                    return legacy(file, "Sheet1").size();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            report(rows, "stream, collected", () -> streamed(file, "Sheet1").size());
+            report(rows, "stream, row by row", () -> {
+                int n = 0;
+                try (XlsxStreamReader it = XlsxStreamReader.open(file.toString(), "Sheet1")) {
+                    while (it.hasNext()) {
+                        it.next();
+                        n++;
+                    }
+                }
+                return n;
+            });
+        }
+    }
+
+    private static void report(int rows, String reader, Supplier<Integer> read) {
+        read.get(); // warm-up
+        System.gc();
+        List<MemoryPoolMXBean> heap = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                heap.add(pool);
+            }
+        }
+        long start = System.nanoTime();
+        int n;
+        try {
+            n = read.get();
+        } catch (OutOfMemoryError e) {
+            System.out.printf("[XlsxStreamReaderBenchmark] %7d %-20s out of memory%n", rows, reader);
+            return;
+        }
+        long ms = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long peak = 0;
+        for (MemoryPoolMXBean pool : heap) peak += pool.getPeakUsage().getUsed();
+        Assert.assertEquals(n, rows);
+        System.out.printf(Locale.ROOT, "[XlsxStreamReaderBenchmark] %7d %-20s %7d %9d %8d%n",
+                rows, reader, ms, rows * 1000L / ms, peak / (1024 * 1024));
+    }
+}
@@ -0,0 +1,116 @@
+package com.myproject.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+
+/**
+ * CSV backend of TestDataSource (RFC 4180: comma separated, "..." quotes with "" for a quote, line breaks allowed
+ * inside quotes, CRLF or LF). The first record is the header; blank lines are skipped.
+ */
+final class CsvDataSource implements TestDataSource {
+
+    @Override
+    public Rows read(String path, String sheetName) {
+        return new CsvRows(path);
+    }
+
+    @Override
+    public void write(String path, String sheetName, String[] header, Iterator<String[]> rows) {
+        try (Writer out = Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8)) {
+            if (header == null) return;
+            writeRecord(out, header);
+            while (rows.hasNext()) writeRecord(out, rows.next());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write CSV: " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeRecord(Writer out, String[] values) throws IOException {
+        for (int c = 0; c < values.length; c++) {
+            if (c > 0) out.write(',');
+            String value = values[c] == null ? "" : values[c];
+            if (needsQuotes(value)) {
+                out.write('"');
+                out.write(value.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(value);
+            }
+        }
+        out.write('\n');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == ',' || ch == '"' || ch == '\n' || ch == '\r') return true;
+        }
+        return false;
+    }
+
+    private static final class CsvRows extends TextRows {
+
+        CsvRows(String path) {
+            super(path);
+        }
+
+        @Override
+        public String source() {
+            return "csv";
+        }
+
+        @Override
+        protected void readHeader() throws IOException {
+            header = record();
+        }
+
+        @Override
+        protected String[] record() throws IOException {
+            int c = read();
+            while (c == '\n' || c == '\r') {
+                if (c == '\n') line++;
+                c = read();
+            }
+            if (c == -1) return null;
+
+            cells.clear();
+            while (true) {
+                // c is the first character of a field
+                if (c == '"') {
+                    int opened = line;
+                    while (true) {
+                        c = read();
+                        if (c == -1) {
+                            line = opened;
+                            throw error("quoted field is not closed");
+                        }
+                        if (c == '"') {
+                            c = read();
+                            if (c != '"') break;
+                        } else if (c == '\n') {
+                            line++;
+                        }
+                        cell.append((char) c);
+                    }
+                }
+                // unquoted field, or anything after a closing quote up to the separator
+                while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+                    cell.append((char) c);
+                    c = read();
+                }
+                cells.add(takeCell());
+                if (c == ',') {
+                    c = read();
+                    continue;
+                }
+                if (c == '\r' && peek() == '\n') read();
+                if (c != -1) line++;
+                return row();
+            }
+        }
+    }
+}
@@ -1,14 +1,13 @@
 package com.myproject.utils;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.testng.annotations.DataProvider;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 public class ExcelDataProvider {
 
@@ -19,32 +18,29 @@ public class ExcelDataProvider {
         return readExcelData(FILE_PATH, "Sheet1");
     }
 
-    private static Object[][] readExcelData(String filePath, String sheetName) throws IOException {
-        FileInputStream fis = new FileInputStream(filePath);
-        Workbook workbook = new XSSFWorkbook(fis);
-        Sheet sheet = workbook.getSheet(sheetName);
-
-        int rows = sheet.getPhysicalNumberOfRows();
-        int cols = sheet.getRow(0).getPhysicalNumberOfCells();
-
-        Object[][] data = new Object[rows - 1][cols];
-
-        for (int i = 1; i < rows; i++) {
-            Row row = sheet.getRow(i);
-            for (int j = 0; j < cols; j++) {
-                Cell cell = row.getCell(j);
-                String value = (cell == null) ? "" : cell.toString();
-
-                // Replace {unique} with timestamp for email uniqueness
-                if (value.contains("{unique}")) {
-                    String timestamp = new SimpleDateFormat("yyyyMMddHHmmss").format(new Date());
-                    value = value.replace("{unique}", timestamp);
+    private static Object[][] readExcelData(String filePath, String sheetName) {
+        List<Object[]> data = new ArrayList<>();
+        // xlsx is parsed once per workbook version (TestDataCache); testdata.format can point this at CSV / JSON lines
+        try (TestDataSource.Rows rows = TestDataSource.open(filePath, sheetName)) {
+            if (rows.header() == null) return new Object[0][];
+            int cols = rows.header().length;
+
+            while (rows.hasNext()) {
+                String[] row = rows.next();
+                Object[] values = new Object[cols];
+                for (int j = 0; j < cols; j++) {
+                    String value = j < row.length ? row[j] : "";
+
+                    // Replace {unique} with timestamp for email uniqueness
+                    if (value.contains("{unique}")) {
+                        String timestamp = new SimpleDateFormat("yyyyMMddHHmmss").format(new Date());
+                        value = value.replace("{unique}", timestamp);
+                    }
+                    values[j] = value;
                 }
-                data[i - 1][j] = value;
+                data.add(values);
             }
         }
-        workbook.close();
-        fis.close();
-        return data;
+        return data.toArray(new Object[0][]);
     }
 }
@@ -1,19 +1,31 @@
 package com.myproject.utils;
 
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * ExcelUtils - reading/writing helpers for TestNG data-driven tests.
  *
  * - readSheetAndWriteGeneratedEmails(...) : reads sheet and optionally writes a copy with generated emails.
  * - appendRowToSheet(...) : append a row to an existing sheet (creates sheet/header if missing).
+ * - appendRowsToSheet(...) : append many rows in one read/write of the workbook, optionally skipping duplicates.
  * - readSheetAsDataProvider(...) : convenience to return Object[][] for TestNG DataProvider.
+ * - iterateSheet(...) / iterateSheetWithGeneratedEmails(...) : the same rows lazily, for Iterator DataProviders.
+ *
+ * Sheets are read through TestDataSource: xlsx with XlsxStreamReader (SAX, no workbook in memory) behind
+ * TestDataCache, so an unchanged workbook is parsed once and then served from the cache; cell values are the text
+ * Excel shows. With testdata.format=csv or jsonl the same calls read the CSV / JSON-lines file next to the workbook.
+ * The append methods still load the workbook (POI cannot append to an xlsx in place).
  *
  * Requires Apache POI on classpath (poi + poi-ooxml).
  */
@@ -35,109 +47,180 @@ public final class ExcelUtil {
      * @return Object[][] rows (each row is String[])
      */
     public static Object[][] readSheetAndWriteGeneratedEmails(String inputPath, String sheetName, String outputPath, boolean writeBackGeneratedEmails) {
-        List<String[]> rows = new ArrayList<>();
-        try (InputStream is = new FileInputStream(inputPath); Workbook wb = new XSSFWorkbook(is)) {
-            Sheet sheet = (sheetName == null || sheetName.isEmpty()) ? wb.getSheetAt(0) : wb.getSheet(sheetName);
-            if (sheet == null) throw new RuntimeException("Sheet not found: " + sheetName);
+        boolean write = writeBackGeneratedEmails && outputPath != null && !outputPath.trim().isEmpty();
+        return drain(new SheetRows(inputPath, sheetName, true, write ? outputPath : null));
+    }
 
-            Iterator<Row> it = sheet.iterator();
-            if (!it.hasNext()) return new Object[0][];
-            Row header = it.next();
-            int headerCols = header.getLastCellNum() > 0 ? header.getLastCellNum() : 1;
+    /**
+     * Convenience wrapper to call readSheetAndWriteGeneratedEmails with no write-back
+     */
+    public static Object[][] readSheetAsDataProvider(String inputPath, String sheetName) {
+        return readSheetAndWriteGeneratedEmails(inputPath, sheetName, null, false);
+    }
 
-            // identify email column index from header
-            int emailCol = -1;
-            for (int c = 0; c < headerCols; c++) {
-                Cell hc = header.getCell(c, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-                if (hc != null) {
-                    String hv = hc.toString().trim().toLowerCase();
-                    if (hv.contains("email")) { emailCol = c; break; }
-                }
-            }
+    /**
+     * Read the data rows (header skipped) of a sheet as-is, streaming (see TestDataSource).
+     */
+    public static Object[][] readSheetSimple(String inputPath, String sheetName) {
+        return drain(iterateSheet(inputPath, sheetName));
+    }
 
-            while (it.hasNext()) {
-                Row r = it.next();
-                int last = Math.max(headerCols, r.getLastCellNum() > 0 ? r.getLastCellNum() : headerCols);
-                String[] data = new String[last];
-                for (int c = 0; c < last; c++) {
-                    Cell cell = r.getCell(c, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-                    if (cell == null) data[c] = "";
-                    else {
-                        cell.setCellType(CellType.STRING);
-                        data[c] = cell.getStringCellValue().trim();
-                    }
-                }
+    /**
+     * Data rows (header skipped) of an xlsx sheet, parsed as they are consumed; for DataProviders returning
+     * Iterator&lt;Object[]&gt;, so the first test runs while later rows are still being read. Each row is a String[].
+     */
+    public static Iterator<Object[]> iterateSheet(String inputPath, String sheetName) {
+        return new SheetRows(inputPath, sheetName, false, null);
+    }
 
-                // maybe generate/modify email
-                if (emailCol >= 0) {
-                    String rawEmail = data.length > emailCol ? (data[emailCol] == null ? "" : data[emailCol]) : "";
-                    String newEmail = generateUniqueEmailIfNeeded(rawEmail);
-                    if (!newEmail.equals(rawEmail)) {
-                        data[emailCol] = newEmail;
-                        Cell emailCell = r.getCell(emailCol, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-                        emailCell.setCellValue(newEmail);
-                    }
+    /**
+     * Like iterateSheet, with emails generated as in readSheetAndWriteGeneratedEmails. The copy at outputPath
+     * (null: none) is written row by row as rows are consumed and completed once the iterator is exhausted.
+     */
+    public static Iterator<Object[]> iterateSheetWithGeneratedEmails(String inputPath, String sheetName, String outputPath) {
+        return new SheetRows(inputPath, sheetName, true, outputPath);
+    }
+
+    private static Object[][] drain(Iterator<Object[]> rows) {
+        List<Object[]> out = new ArrayList<>();
+        while (rows.hasNext()) out.add(rows.next());
+        return out.toArray(new Object[0][]);
+    }
+
+    /**
+     * Lazy data rows of one sheet: optional email generation and an optional copy written alongside (SXSSF,
+     * a window of 100 rows in memory). Reader and copy are closed when the last row has been handed out.
+     */
+    private static final class SheetRows implements Iterator<Object[]> {
+        private final TestDataSource.Rows reader;
+        private final int emailCol;
+        private GeneratedCopy copy;
+        private boolean done;
+
+        SheetRows(String inputPath, String sheetName, boolean generateEmails, String outputPath) {
+            String file = TestDataSource.resolve(inputPath, sheetName);
+            reader = TestDataSource.forPath(file).read(file, sheetName);
+            String[] header = reader.header();
+
+            // identify email column index from header
+            int col = -1;
+            if (generateEmails && header != null) {
+                for (int c = 0; c < header.length; c++) {
+                    if (header[c].toLowerCase().contains("email")) { col = c; break; }
                 }
+            }
+            emailCol = col;
+            // an empty sheet gives no rows and no copy
+            try {
+                if (outputPath != null && header != null) copy = new GeneratedCopy(file, sheetName, header, outputPath);
+            } catch (RuntimeException e) {
+                reader.close();
+                throw e;
+            }
+        }
 
-                rows.add(data);
+        @Override
+        public boolean hasNext() {
+            if (done) return false;
+            boolean more;
+            try {
+                more = reader.hasNext();
+            } catch (RuntimeException e) {
+                finish(false);
+                throw e;
             }
+            if (!more) finish(true);
+            return more;
+        }
 
-            // write back if requested and outputPath provided
-            if (writeBackGeneratedEmails && outputPath != null && !outputPath.trim().isEmpty()) {
-                try (OutputStream os = new FileOutputStream(outputPath)) {
-                    wb.write(os);
-                }
+        @Override
+        public Object[] next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            String[] data = reader.next();
+
+            // maybe generate/modify email
+            if (emailCol >= 0) {
+                String rawEmail = data.length > emailCol ? data[emailCol] : "";
+                data[emailCol] = generateUniqueEmailIfNeeded(rawEmail);
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to read/write Excel: " + e.getMessage(), e);
+            if (copy != null) copy.add(data);
+            return data;
         }
 
-        Object[][] out = new Object[rows.size()][];
-        for (int i = 0; i < rows.size(); i++) out[i] = rows.get(i);
-        return out;
+        private void finish(boolean complete) {
+            done = true;
+            reader.close();
+            if (copy == null) return;
+            if (complete) copy.write();
+            else copy.discard();
+        }
     }
 
     /**
-     * Convenience wrapper to call readSheetAndWriteGeneratedEmails with no write-back
+     * A copy of every sheet of inputPath with one sheet's rows replaced: those rows are added as they are read,
+     * the other sheets are copied at write(). The copy keeps cell text, not styles or cell types. A CSV / JSON-lines
+     * input has one table, so its copy is a workbook with that one sheet.
      */
-    public static Object[][] readSheetAsDataProvider(String inputPath, String sheetName) {
-        return readSheetAndWriteGeneratedEmails(inputPath, sheetName, null, false);
-    }
-    public static Object[][] readSheetSimple(String inputPath, String sheetName) {
-        List<String[]> rows = new ArrayList<>();
-        try (InputStream is = new FileInputStream(inputPath); Workbook wb = new XSSFWorkbook(is)) {
-            Sheet sheet = (sheetName == null || sheetName.isEmpty()) ? wb.getSheetAt(0) : wb.getSheet(sheetName);
-            if (sheet == null) throw new RuntimeException("Sheet not found: " + sheetName);
-
-            Iterator<Row> it = sheet.iterator();
-            if (!it.hasNext()) return new Object[0][];
-            it.next(); // skip header row
-
-            while (it.hasNext()) {
-                Row r = it.next();
-                int last = r.getLastCellNum();
-                String[] data = new String[last];
-                for (int c = 0; c < last; c++) {
-                    Cell cell = r.getCell(c, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-                    if (cell == null) {
-                        data[c] = "";
-                    } else {
-                        cell.setCellType(CellType.STRING);
-                        data[c] = cell.getStringCellValue().trim();
+    private static final class GeneratedCopy {
+        private final String inputPath;
+        private final String outputPath;
+        private final String target;
+        private final List<String> names;
+        private final SXSSFWorkbook wb = new SXSSFWorkbook(100);
+        private int nextRow = 1;
+
+        GeneratedCopy(String inputPath, String sheetName, String[] header, String outputPath) {
+            this.inputPath = inputPath;
+            this.outputPath = outputPath;
+            if (TestDataSource.forPath(inputPath) == TestDataSource.XLSX) {
+                this.names = XlsxStreamReader.sheetNames(inputPath);
+            } else {
+                this.names = List.of(sheetName == null || sheetName.isEmpty() ? "Sheet1" : sheetName);
+            }
+            this.target = (sheetName == null || sheetName.isEmpty()) ? names.get(0) : sheetName;
+            // sheets are created up front to keep the input's order
+            for (String name : names) wb.createSheet(name);
+            writeRow(wb.getSheet(target), 0, header);
+        }
+
+        void add(String[] row) {
+            writeRow(wb.getSheet(target), nextRow++, row);
+        }
+
+        void write() {
+            try {
+                for (String name : names) {
+                    if (name.equals(target)) continue;
+                    Sheet sheet = wb.getSheet(name);
+                    try (TestDataSource.Rows it = TestDataCache.open(inputPath, name)) {
+                        if (it.header() == null) continue;
+                        writeRow(sheet, 0, it.header());
+                        int r = 1;
+                        while (it.hasNext()) writeRow(sheet, r++, it.next());
                     }
                 }
-                rows.add(data);
+                try (OutputStream os = new FileOutputStream(outputPath)) {
+                    wb.write(os);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read/write Excel: " + e.getMessage(), e);
+            } finally {
+                discard();
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to read Excel: " + e.getMessage(), e);
         }
 
-        // convert to Object[][]
-        Object[][] out = new Object[rows.size()][];
-        for (int i = 0; i < rows.size(); i++) {
-            out[i] = rows.get(i);
+        void discard() {
+            wb.dispose();
+            try { wb.close(); } catch (IOException ignored) {}
+        }
+
+        private static void writeRow(Sheet sheet, int index, String[] values) {
+            Row row = sheet.createRow(index);
+            for (int c = 0; c < values.length; c++) {
+                // "" cells are left out, as they were missing in the source
+                if (values[c] != null && !values[c].isEmpty()) row.createCell(c).setCellValue(values[c]);
+            }
         }
-        return out;
     }
 
     /**
@@ -145,14 +228,29 @@ public final class ExcelUtil {
      * If sheet is newly created and header != null, the header row will be created as first row.
      *
      * This method reads the workbook into memory, appends, and writes it back. Caller should avoid concurrent
-     * appends from multiple processes.
+     * appends from multiple processes. For many rows use ResultJournal (or appendRowsToSheet) instead: every call
+     * here rewrites the whole workbook.
      *
      * @param path existing xlsx file path (will be created if missing)
      * @param sheetName sheet to append to
      * @param header optional header row (String[]) to add if creating sheet
      * @param values values to append (String...)
      */
-    public static synchronized void appendRowToSheet(String path, String sheetName, String[] header, String... values) {
+    public static void appendRowToSheet(String path, String sheetName, String[] header, String... values) {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(values);
+        appendRowsToSheet(path, sheetName, header, rows, false);
+    }
+
+    /**
+     * Append rows to a sheet with a single read and write of the workbook (same temp-file + move and retries as
+     * appendRowToSheet).
+     *
+     * @param skipDuplicates when true, rows equal to a data row already in the sheet (or to an earlier row of
+     *                       {@code rows}) are not added; values are compared as trimmed strings
+     * @return number of rows added
+     */
+    public static synchronized int appendRowsToSheet(String path, String sheetName, String[] header, List<String[]> rows, boolean skipDuplicates) {
         final int MAX_RETRIES = 5;
         final long RETRY_WAIT_MS = 500L;
         int attempt = 0;
@@ -188,10 +286,29 @@ public final class ExcelUtil {
                 int appendIndex = lastRow + 1;
                 if (sheet.getPhysicalNumberOfRows() == 0) appendIndex = 0;
 
-                Row newRow = sheet.createRow(appendIndex);
-                for (int i = 0; i < values.length; i++) {
-                    Cell cell = newRow.createCell(i);
-                    cell.setCellValue(values[i] == null ? "" : values[i]);
+                Set<List<String>> seen = new HashSet<>();
+                if (skipDuplicates) {
+                    DataFormatter fmt = new DataFormatter();
+                    for (Row r : sheet) {
+                        if (r.getRowNum() == 0 && header != null) continue;
+                        List<String> key = new ArrayList<>();
+                        for (int c = 0; c < r.getLastCellNum(); c++) {
+                            Cell cell = r.getCell(c, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
+                            key.add(cell == null ? "" : fmt.formatCellValue(cell));
+                        }
+                        seen.add(rowKey(key));
+                    }
+                }
+
+                int added = 0;
+                for (String[] values : rows) {
+                    if (skipDuplicates && !seen.add(rowKey(Arrays.asList(values)))) continue;
+                    Row newRow = sheet.createRow(appendIndex++);
+                    for (int i = 0; i < values.length; i++) {
+                        Cell cell = newRow.createCell(i);
+                        cell.setCellValue(values[i] == null ? "" : values[i]);
+                    }
+                    added++;
                 }
 
                 // write to temporary file first
@@ -214,7 +331,7 @@ public final class ExcelUtil {
                     java.nio.file.Files.move(tmp.toPath(), dest.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
                 }
                 // success
-                return;
+                return added;
             } catch (Exception e) {
                 lastEx = e;
                 try { if (tmp != null && tmp.exists()) tmp.delete(); } catch (Exception ignored) {}
@@ -226,6 +343,14 @@ public final class ExcelUtil {
         throw new RuntimeException("Failed to append to Excel file after " + MAX_RETRIES + " attempts: " + (lastEx == null ? "" : lastEx.getMessage()), lastEx);
     }
 
+    // trimmed values without trailing blanks, so "a","b","" and a two-cell row compare equal
+    private static List<String> rowKey(List<String> values) {
+        List<String> key = new ArrayList<>(values.size());
+        for (String v : values) key.add(v == null ? "" : v.trim());
+        while (!key.isEmpty() && key.get(key.size() - 1).isEmpty()) key.remove(key.size() - 1);
+        return key;
+    }
+
     /**
      * Internal helper — generate unique email if raw requires it.
      */
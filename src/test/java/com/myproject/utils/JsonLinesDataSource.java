@@ -0,0 +1,227 @@
+package com.myproject.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON-lines backend of TestDataSource: one flat object per line, e.g. {"email":"a@x.com","password":"pw"}.
+ *
+ * The keys of the first line are the header, in order; later lines may leave keys out ("") or reorder them, but
+ * not add new ones. Values are strings, numbers, true/false (read as their text) or null (""); nested objects and
+ * arrays are rejected. Blank lines are skipped.
+ */
+final class JsonLinesDataSource implements TestDataSource {
+
+    @Override
+    public Rows read(String path, String sheetName) {
+        return new JsonLinesRows(path);
+    }
+
+    @Override
+    public void write(String path, String sheetName, String[] header, Iterator<String[]> rows) {
+        try (Writer out = Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8)) {
+            // the header travels as the keys of every line: a table without data rows gives an empty file
+            if (header == null) return;
+            while (rows.hasNext()) writeObject(out, header, rows.next());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write JSON lines: " + e.getMessage(), e);
+        }
+    }
+
+    // every header key is written, so the first line carries the whole header; extra cells have no key and are dropped
+    private static void writeObject(Writer out, String[] header, String[] values) throws IOException {
+        out.write('{');
+        for (int c = 0; c < header.length; c++) {
+            if (c > 0) out.write(',');
+            writeString(out, header[c]);
+            out.write(':');
+            writeString(out, c < values.length ? values[c] : "");
+        }
+        out.write("}\n");
+    }
+
+    private static void writeString(Writer out, String value) throws IOException {
+        out.write('"');
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                switch (ch) {
+                    case '"': out.write("\\\""); break;
+                    case '\\': out.write("\\\\"); break;
+                    case '\n': out.write("\\n"); break;
+                    case '\r': out.write("\\r"); break;
+                    case '\t': out.write("\\t"); break;
+                    default:
+                        if (ch < 0x20) out.write(String.format("\\u%04x", (int) ch));
+                        else out.write(ch);
+                }
+            }
+        }
+        out.write('"');
+    }
+
+    private static final class JsonLinesRows extends TextRows {
+        private final Map<String, Integer> columns = new HashMap<>();
+        private String[] first;
+
+        JsonLinesRows(String path) {
+            super(path);
+        }
+
+        @Override
+        public String source() {
+            return "jsonl";
+        }
+
+        // the first object is both the header (its keys) and the first data row (its values)
+        @Override
+        protected void readHeader() throws IOException {
+            List<String> keys = new ArrayList<>();
+            first = object(keys);
+            if (first == null) return;
+            header = keys.toArray(new String[0]);
+            for (int c = 0; c < header.length; c++) columns.putIfAbsent(header[c], c);
+        }
+
+        @Override
+        protected String[] record() throws IOException {
+            if (first != null) {
+                String[] row = first;
+                first = null;
+                return row;
+            }
+            return object(null);
+        }
+
+        // one line; keys != null: the header line, keys are collected in order instead of looked up
+        private String[] object(List<String> keys) throws IOException {
+            int c = skipSpace(read());
+            while (c == '\n') {
+                line++;
+                c = skipSpace(read());
+            }
+            if (c == -1) return null;
+            if (c != '{') throw error("expected '{'");
+
+            String[] row = keys == null ? new String[header.length] : null;
+            cells.clear();
+            c = skipSpace(read());
+            int index = 0;
+            if (c != '}') {
+                while (true) {
+                    if (c != '"') throw error("expected a key");
+                    string();
+                    int col;
+                    if (keys != null) {
+                        keys.add(takeKey());
+                        col = index;
+                    } else {
+                        col = column(index);
+                    }
+                    if (skipSpace(read()) != ':') throw error("expected ':'");
+                    c = skipSpace(read());
+                    if (c == '"') {
+                        string();
+                        c = skipSpace(read());
+                    } else {
+                        c = literal(c);
+                    }
+                    String value = takeCell();
+                    if (keys != null) cells.add(value);
+                    else row[col] = value;
+                    index++;
+
+                    if (c == '}') break;
+                    if (c != ',') throw error("expected ',' or '}'");
+                    c = skipSpace(read());
+                }
+            }
+            c = skipSpace(read());
+            if (c != '\n' && c != -1) throw error("one object per line expected");
+            if (c == '\n') line++;
+
+            if (keys != null) return cells.toArray(new String[0]);
+            for (int i = 0; i < row.length; i++) {
+                if (row[i] == null) row[i] = "";
+            }
+            return row;
+        }
+
+        // header column of the key in cell; the header position is tried first, so lines written in header order
+        // need no lookup (and no String for the key)
+        private int column(int index) {
+            if (index < header.length && header[index].contentEquals(cell)) {
+                cell.setLength(0);
+                return index;
+            }
+            String key = takeKey();
+            Integer col = columns.get(key);
+            if (col == null) throw error("key \"" + key + "\" is not in the first line");
+            return col;
+        }
+
+        private String takeKey() {
+            String key = cell.toString();
+            cell.setLength(0);
+            return key;
+        }
+
+        // string contents (opening quote already read) into cell
+        private void string() throws IOException {
+            while (true) {
+                int c = read();
+                if (c == '"') return;
+                if (c == -1 || c == '\n') throw error("string is not closed");
+                if (c != '\\') {
+                    cell.append((char) c);
+                    continue;
+                }
+                c = read();
+                switch (c) {
+                    case '"': case '\\': case '/': cell.append((char) c); break;
+                    case 'b': cell.append('\b'); break;
+                    case 'f': cell.append('\f'); break;
+                    case 'n': cell.append('\n'); break;
+                    case 'r': cell.append('\r'); break;
+                    case 't': cell.append('\t'); break;
+                    case 'u':
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(read(), 16);
+                            if (digit < 0) throw error("bad \\u escape");
+                            code = code * 16 + digit;
+                        }
+                        cell.append((char) code);
+                        break;
+                    default:
+                        throw error("bad escape");
+                }
+            }
+        }
+
+        // number, true, false or null into cell (null: nothing); returns the character after it
+        private int literal(int c) throws IOException {
+            if (c == '{' || c == '[') throw error("nested objects and arrays are not supported");
+            while (c != ',' && c != '}' && c != '\n' && c != -1 && c != ' ' && c != '\t' && c != '\r') {
+                cell.append((char) c);
+                c = read();
+            }
+            if (cell.length() == 0) throw error("expected a value");
+            if ("null".contentEquals(cell)) cell.setLength(0);
+            return skipSpace(c);
+        }
+
+        private int skipSpace(int c) throws IOException {
+            while (c == ' ' || c == '\t' || c == '\r') c = read();
+            return c;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.myproject.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Answers several "does the text contain any of these keywords?" questions in one pass over a CharSequence,
+ * case-insensitively and without a lowercased copy of the text.
+ *
+ * Keywords are grouped by question (e.g. "method" = get, post, put, ...). All keywords are compiled once into an
+ * Aho-Corasick automaton, so a scan reads every character once whatever the number of keywords, and stops as soon
+ * as every group has matched. word(...) keywords only match on word boundaries, like \bkeyword\b in a regex.
+ *
+ * <pre>
+ * KeywordScanner scanner = KeywordScanner.builder()
+ *         .any("method", "get", "post")
+ *         .word("code", "200", "404")
+ *         .build();
+ * KeywordScanner.Result r = scanner.scan(pageSource);
+ * r.has("method");
+ * </pre>
+ */
+public final class KeywordScanner {
+
+    private static final int ASCII = 128;
+
+    private final String[] groups;
+    // per keyword: group index, length, word-boundary flag
+    private final int[] keywordGroup;
+    private final int[] keywordLength;
+    private final boolean[] keywordWord;
+    // automaton: dense transitions for ASCII, child maps + failure links for anything else
+    private final int[][] asciiNext;
+    private final List<Map<Character, Integer>> children;
+    private final int[] fail;
+    // keywords ending at each state (own and inherited through failure links)
+    private final int[][] output;
+
+    private KeywordScanner(Builder b) {
+        this.groups = b.groupNames.toArray(new String[0]);
+        int n = b.keywords.size();
+        this.keywordGroup = new int[n];
+        this.keywordLength = new int[n];
+        this.keywordWord = new boolean[n];
+
+        children = new ArrayList<>();
+        List<List<Integer>> out = new ArrayList<>();
+        children.add(new HashMap<>());
+        out.add(new ArrayList<>());
+        for (int k = 0; k < n; k++) {
+            String keyword = b.keywords.get(k);
+            keywordGroup[k] = b.keywordGroups.get(k);
+            keywordLength[k] = keyword.length();
+            keywordWord[k] = b.keywordWords.get(k);
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = fold(keyword.charAt(i));
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    out.add(new ArrayList<>());
+                    children.get(state).put(c, next);
+                }
+                state = next;
+            }
+            out.get(state).add(k);
+        }
+
+        int states = children.size();
+        fail = new int[states];
+        asciiNext = new int[states][];
+        output = new int[states][];
+        // breadth-first, so a state's failure target is complete before the state itself
+        Queue<Integer> queue = new ArrayDeque<>();
+        asciiNext[0] = new int[ASCII];
+        for (Map.Entry<Character, Integer> e : children.get(0).entrySet()) {
+            if (e.getKey() < ASCII) asciiNext[0][e.getKey()] = e.getValue();
+            queue.add(e.getValue());
+        }
+        output[0] = new int[0];
+        while (!queue.isEmpty()) {
+            int s = queue.remove();
+            List<Integer> own = out.get(s);
+            int[] inherited = output[fail[s]];
+            int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+            for (int i = 0; i < own.size(); i++) merged[inherited.length + i] = own.get(i);
+            output[s] = merged;
+            asciiNext[s] = asciiNext[fail[s]].clone();
+            for (Map.Entry<Character, Integer> e : children.get(s).entrySet()) {
+                char c = e.getKey();
+                int child = e.getValue();
+                fail[child] = s == 0 ? 0 : step(fail[s], c);
+                if (c < ASCII) asciiNext[s][c] = child;
+                queue.add(child);
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Keywords grouped by the question they answer.
+     */
+    public static final class Builder {
+        private final List<String> groupNames = new ArrayList<>();
+        private final List<String> keywords = new ArrayList<>();
+        private final List<Integer> keywordGroups = new ArrayList<>();
+        private final List<Boolean> keywordWords = new ArrayList<>();
+
+        private Builder() { }
+
+        /** {@code group} matches when any keyword occurs anywhere (like contains). */
+        public Builder any(String group, String... words) {
+            return add(group, false, words);
+        }
+
+        /** {@code group} matches when any keyword occurs as a whole word (like \bword\b). */
+        public Builder word(String group, String... words) {
+            return add(group, true, words);
+        }
+
+        private Builder add(String group, boolean wholeWord, String... words) {
+            int g = groupNames.indexOf(group);
+            if (g < 0) {
+                g = groupNames.size();
+                groupNames.add(group);
+            }
+            for (String w : words) {
+                if (w == null || w.isEmpty()) throw new IllegalArgumentException("Empty keyword in group " + group);
+                keywords.add(w);
+                keywordGroups.add(g);
+                keywordWords.add(wholeWord);
+            }
+            return this;
+        }
+
+        public KeywordScanner build() {
+            return new KeywordScanner(this);
+        }
+    }
+
+    /**
+     * Groups found by one scan.
+     */
+    public static final class Result {
+        private final String[] groups;
+        private final int[] firstIndex;
+
+        private Result(String[] groups) {
+            this.groups = groups;
+            this.firstIndex = new int[groups.length];
+            Arrays.fill(firstIndex, -1);
+        }
+
+        public boolean has(String group) {
+            return firstIndex(group) >= 0;
+        }
+
+        /** Start of the first match of the group, or -1. */
+        public int firstIndex(String group) {
+            for (int i = 0; i < groups.length; i++) {
+                if (groups[i].equals(group)) return firstIndex[i];
+            }
+            throw new IllegalArgumentException("Unknown keyword group: " + group);
+        }
+
+        public boolean any() {
+            for (int i : firstIndex) if (i >= 0) return true;
+            return false;
+        }
+
+        /** Number of groups that matched. */
+        public int count() {
+            int n = 0;
+            for (int i : firstIndex) if (i >= 0) n++;
+            return n;
+        }
+
+        public Map<String, Boolean> asMap() {
+            Map<String, Boolean> m = new LinkedHashMap<>();
+            for (int i = 0; i < groups.length; i++) m.put(groups[i], firstIndex[i] >= 0);
+            return m;
+        }
+
+        @Override
+        public String toString() {
+            return asMap().toString();
+        }
+    }
+
+    /**
+     * One pass over {@code text}; stops early once every group has matched. A null text matches nothing.
+     */
+    public Result scan(CharSequence text) {
+        return scan(text, groups.length);
+    }
+
+    /**
+     * True when any keyword of any group occurs; stops at the first match.
+     */
+    public boolean matchesAny(CharSequence text) {
+        return scan(text, 1).any();
+    }
+
+    private Result scan(CharSequence text, int stopAfter) {
+        Result result = new Result(groups);
+        if (text == null) return result;
+        int remaining = stopAfter;
+        int state = 0;
+        int len = text.length();
+        for (int i = 0; i < len && remaining > 0; i++) {
+            char c = fold(text.charAt(i));
+            state = c < ASCII ? asciiNext[state][c] : step(state, c);
+            for (int k : output[state]) {
+                int g = keywordGroup[k];
+                if (result.firstIndex[g] >= 0) continue;
+                int start = i - keywordLength[k] + 1;
+                if (keywordWord[k] && !(boundary(text, start - 1) && boundary(text, i + 1))) continue;
+                result.firstIndex[g] = start;
+                remaining--;
+            }
+        }
+        return result;
+    }
+
+    private int step(int state, char c) {
+        int s = state;
+        while (true) {
+            Integer next = children.get(s).get(c);
+            if (next != null) return next;
+            if (s == 0) return 0;
+            s = fail[s];
+        }
+    }
+
+    // outside the text or not a word character; like java.util.regex \b (without UNICODE_CHARACTER_CLASS) only
+    // [A-Za-z0-9_] count, so "\u00e9404" has a boundary before the 4
+    private static boolean boundary(CharSequence text, int i) {
+        if (i < 0 || i >= text.length()) return true;
+        char c = text.charAt(i);
+        return !((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_');
+    }
+
+    private static char fold(char c) {
+        if (c < ASCII) return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+        return Character.toLowerCase(c);
+    }
+}
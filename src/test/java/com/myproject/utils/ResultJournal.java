@@ -0,0 +1,239 @@
+package com.myproject.utils;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ResultJournal - result rows for an xlsx sheet, written to the workbook once instead of once per row.
+ *
+ * - forSheet(...) : the journal of one workbook sheet (one per path + sheet, shared by all threads).
+ * - append(...) : add a row; one line appended to a journal file next to the workbook, flushed to the OS.
+ * - publish() / publishAll() : move the journaled rows into the sheet in a single workbook write, dropping rows
+ *   the sheet already has, then delete the journal. publishAll() runs at suite end (TestListener) and from a
+ *   shutdown hook.
+ *
+ * Journal file: "{workbook}.{sheet}.journal", one tab-separated row per line (\t, \n, \r and \\ escaped).
+ * Every line is written with a single write call, so a crash loses at most the line being written; a journal left
+ * behind by a crashed run is picked up by the next run and published with its rows.
+ */
+public final class ResultJournal {
+
+    private static final Map<String, ResultJournal> journals = new ConcurrentHashMap<>();
+    private static final AtomicInteger appended = new AtomicInteger();
+    private static final AtomicInteger published = new AtomicInteger();
+    private static final AtomicLong appendNanos = new AtomicLong();
+    private static final AtomicLong publishMillis = new AtomicLong();
+    private static volatile boolean hookInstalled;
+
+    private final String workbook;
+    private final String sheetName;
+    private final String[] header;
+    private final Path file;
+    private OutputStream out;
+
+    private ResultJournal(String workbook, String sheetName, String[] header) {
+        this.workbook = workbook;
+        this.sheetName = sheetName;
+        this.header = header;
+        this.file = Paths.get(workbook + "." + sheetName + ".journal");
+    }
+
+    /**
+     * The journal of {@code sheetName} in {@code workbook}; header is used if publish has to create the sheet.
+     */
+    public static ResultJournal forSheet(String workbook, String sheetName, String[] header) {
+        String key = Paths.get(workbook).toAbsolutePath().normalize() + "|" + sheetName;
+        return journals.computeIfAbsent(key, k -> {
+            installHook();
+            return new ResultJournal(workbook, sheetName, header);
+        });
+    }
+
+    private static synchronized void installHook() {
+        if (hookInstalled) return;
+        hookInstalled = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(ResultJournal::publishAll, "result-journal-publish"));
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Append one row (null values are written as ""). Rows reach the workbook on publish().
+     */
+    public synchronized void append(String... values) {
+        long start = System.nanoTime();
+        StringBuilder line = new StringBuilder(64);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) line.append('\t');
+            escape(values[i] == null ? "" : values[i], line);
+        }
+        line.append('\n');
+        try {
+            if (out == null) out = openForAppend();
+            out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to append to result journal " + file + ": " + e.getMessage(), e);
+        }
+        appended.incrementAndGet();
+        appendNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    // a journal left by a crashed run may end in a torn line; cut it off so the next row starts on its own line
+    private OutputStream openForAppend() throws IOException {
+        if (Files.exists(file)) {
+            byte[] bytes = Files.readAllBytes(file);
+            int end = bytes.length;
+            while (end > 0 && bytes[end - 1] != '\n') end--;
+            if (end < bytes.length) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(end);
+                }
+            }
+            if (end > 0) System.out.println("[ResultJournal] Recovered rows from a previous run in " + file);
+        }
+        return new FileOutputStream(file.toFile(), true);
+    }
+
+    /**
+     * Rows currently in the journal file, in append order (a torn last line from a crash is dropped).
+     */
+    public synchronized List<String[]> rows() {
+        List<String[]> rows = new ArrayList<>();
+        if (!Files.exists(file)) return rows;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String content = readAll(reader);
+            int start = 0;
+            int nl;
+            // only complete lines count; text after the last \n was cut off mid-write
+            while ((nl = content.indexOf('\n', start)) >= 0) {
+                rows.add(split(content.substring(start, nl)));
+                start = nl + 1;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read result journal " + file + ": " + e.getMessage(), e);
+        }
+        return rows;
+    }
+
+    /**
+     * Write the journaled rows into the sheet (one workbook write, duplicates skipped) and delete the journal.
+     * Returns the number of rows added to the sheet.
+     */
+    public synchronized int publish() {
+        closeStream();
+        List<String[]> rows = rows();
+        if (rows.isEmpty()) {
+            deleteJournal();
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        int added = ExcelUtil.appendRowsToSheet(workbook, sheetName, header, rows, true);
+        deleteJournal();
+        long ms = System.currentTimeMillis() - start;
+        published.addAndGet(added);
+        publishMillis.addAndGet(ms);
+        System.out.println("[ResultJournal] " + added + " of " + rows.size() + " journaled row(s) written to "
+                + workbook + " sheet \"" + sheetName + "\" in " + ms + "ms");
+        return added;
+    }
+
+    /**
+     * Publish every journal opened in this JVM. Failures are logged; the journal is kept for the next run.
+     */
+    public static void publishAll() {
+        Collection<ResultJournal> all = new ArrayList<>(journals.values());
+        for (ResultJournal j : all) {
+            try {
+                j.publish();
+            } catch (RuntimeException e) {
+                System.err.println("[ResultJournal] Could not publish " + j.file + " (kept for the next run): " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Rows journaled and written to workbooks, for RunSummary.
+     */
+    public static String stats() {
+        int n = appended.get();
+        if (n == 0 && published.get() == 0) return "";
+        return "appended=" + n + " (avg " + (n == 0 ? 0 : appendNanos.get() / n / 1000) + "us), written to sheets="
+                + published.get() + " in " + publishMillis.get() + "ms";
+    }
+
+    private void closeStream() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        } finally {
+            out = null;
+        }
+    }
+
+    private void deleteJournal() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to delete result journal " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String readAll(BufferedReader reader) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buf = new char[8192];
+        int n;
+        while ((n = reader.read(buf)) > 0) sb.append(buf, 0, n);
+        return sb.toString();
+    }
+
+    private static void escape(String value, StringBuilder sb) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\\': sb.append("\\\\"); break;
+                default: sb.append(c);
+            }
+        }
+    }
+
+    private static String[] split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\t') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\' && i + 1 < line.length()) {
+                char e = line.charAt(++i);
+                field.append(e == 't' ? '\t' : e == 'n' ? '\n' : e == 'r' ? '\r' : e);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+}
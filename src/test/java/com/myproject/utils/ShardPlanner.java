@@ -0,0 +1,257 @@
+package com.myproject.utils;
+
+import com.myproject.config.ConfigReader;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Splits a suite into shard.total shards balanced by historical duration (longest-processing-time first).
+ *
+ * Durations come from TestHistoryStore (see loadHistory()).
+ * Work units are whole test classes (so dependsOnMethods and class-level state stay together) and, for
+ * data-driven methods, individual data-provider rows. Every shard JVM builds the same plan from the same
+ * inputs, so the shards never overlap and together cover the whole suite.
+ */
+public class ShardPlanner {
+
+    // "com.x.FooTest#method" -> observed timings
+    private final Map<String, Timing> history;
+    private final int total;
+    private final long defaultMs;
+
+    private final Map<String, Integer> classShard = new HashMap<>();
+    private final Map<String, int[]> rowShards = new HashMap<>();
+    private final long[] load;
+
+    public ShardPlanner(Map<String, Timing> history, int total, long defaultMs) {
+        this.history = history;
+        this.total = Math.max(1, total);
+        this.defaultMs = defaultMs;
+        this.load = new long[this.total];
+    }
+
+    /**
+     * Sharding settings: -Dshard.index (0-based) and -Dshard.total; disabled when shard.total &lt;= 1.
+     */
+    public static int configuredTotal() {
+        return ConfigReader.getInt("shard.total", 1);
+    }
+
+    public static int configuredIndex() {
+        return ConfigReader.getInt("shard.index", 0);
+    }
+
+    /**
+     * Build the plan.
+     *
+     * @param classMethods  test class -&gt; its non-data-driven test methods
+     * @param dataDriven    data-driven method keys ("class#method")
+     */
+    public ShardPlanner plan(Map<String, List<String>> classMethods, List<String> dataDriven) {
+        List<Unit> units = new ArrayList<>();
+        for (Map.Entry<String, List<String>> e : classMethods.entrySet()) {
+            long est = 0;
+            for (String method : e.getValue()) {
+                est += estimate(e.getKey() + "#" + method);
+            }
+            units.add(new Unit(e.getKey(), -1, est));
+        }
+        for (String key : dataDriven) {
+            Timing t = history.get(key);
+            int rows = t == null ? 0 : t.count;
+            rowShards.put(key, new int[rows]);
+            for (int i = 0; i < rows; i++) {
+                units.add(new Unit(key, i, t.average()));
+            }
+        }
+
+        // LPT: biggest unit first onto the currently lightest shard; key order breaks ties deterministically
+        units.sort(Comparator.comparingLong((Unit u) -> u.ms).reversed()
+                .thenComparing(u -> u.key).thenComparingInt(u -> u.row));
+        for (Unit u : units) {
+            int target = 0;
+            for (int s = 1; s < total; s++) {
+                if (load[s] < load[target]) target = s;
+            }
+            load[target] += u.ms;
+            if (u.row < 0) classShard.put(u.key, target);
+            else rowShards.get(u.key)[u.row] = target;
+        }
+        return this;
+    }
+
+    public int shardOfClass(String className) {
+        Integer s = classShard.get(className);
+        return s != null ? s : Math.floorMod(className.hashCode(), total);
+    }
+
+    /**
+     * Shard owning row {@code row} of a data-driven method. Rows the history has never seen are spread round-robin.
+     */
+    public int shardOfRow(String methodKey, int row) {
+        int[] rows = rowShards.get(methodKey);
+        if (rows != null && row < rows.length) return rows[row];
+        return Math.floorMod(row, total);
+    }
+
+    public long[] estimatedLoad() {
+        return load.clone();
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    private long estimate(String key) {
+        Timing t = history.get(key);
+        return t == null ? defaultMs : t.total;
+    }
+
+    /* -------------------------
+       History
+       ------------------------- */
+
+    /**
+     * Per-method timings for planning: the median over the recent runs in TestHistoryStore, falling back to
+     * testng-results.xml files when no history has been recorded yet.
+     */
+    public static Map<String, Timing> loadHistory() {
+        TestHistoryStore.History history = TestHistoryStore.load(ConfigReader.getInt("history.runs", 10));
+        if (history.isEmpty()) return loadTestNGResults();
+
+        Map<String, Timing> timings = new TreeMap<>();
+        for (String key : history.keys()) {
+            long p50 = history.p50(key);
+            int rows = history.rowCount(key);
+            Timing t = new Timing();
+            // data-driven: one unit per row at that row's median (the method's when the row has none); plain: one
+            if (rows == 0) t.add(p50);
+            for (int row = 0; row < rows; row++) {
+                long rowP50 = history.p50(key, row);
+                t.add(rowP50 >= 0 ? rowP50 : p50);
+            }
+            timings.put(key, t);
+        }
+        System.out.println("[ShardPlanner] Loaded timings for " + timings.size() + " test methods from "
+                + history.runCount() + " recorded run(s)");
+        return timings;
+    }
+
+    /**
+     * Load per-method timings from testng-results.xml files. Every shard writes its own results, so all files
+     * under target/surefire-reports are merged; test-output/ (IDE runs) is used only when there are none.
+     */
+    public static Map<String, Timing> loadTestNGResults() {
+        String configured = ConfigReader.get("shard.history");
+        List<Path> files;
+        if (configured != null && !configured.trim().isEmpty()) {
+            files = new ArrayList<>();
+            for (String p : configured.split(",")) files.addAll(findResults(Paths.get(p.trim())));
+        } else {
+            files = findResults(Paths.get("target", "surefire-reports"));
+            if (files.isEmpty()) files = findResults(Paths.get("test-output"));
+        }
+
+        Map<String, Timing> timings = new TreeMap<>();
+        for (Path f : files) {
+            try {
+                readResults(f.toFile(), timings);
+            } catch (Exception e) {
+                System.err.println("[ShardPlanner] Could not read " + f + ": " + e.getMessage());
+            }
+        }
+        System.out.println("[ShardPlanner] Loaded timings for " + timings.size() + " test methods from " + files.size() + " result file(s)");
+        return timings;
+    }
+
+    private static List<Path> findResults(Path root) {
+        if (Files.isRegularFile(root)) return List.of(root);
+        if (!Files.isDirectory(root)) return List.of();
+        try (Stream<Path> s = Files.walk(root, 4)) {
+            return s.filter(p -> p.getFileName().toString().equals("testng-results.xml")).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private static void readResults(File file, Map<String, Timing> into) throws Exception {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        DocumentBuilder db = dbf.newDocumentBuilder();
+        Document doc = db.parse(file);
+
+        NodeList classes = doc.getElementsByTagName("class");
+        for (int i = 0; i < classes.getLength(); i++) {
+            Element cls = (Element) classes.item(i);
+            String className = cls.getAttribute("name");
+            NodeList methods = cls.getElementsByTagName("test-method");
+            for (int j = 0; j < methods.getLength(); j++) {
+                Element m = (Element) methods.item(j);
+                if ("true".equals(m.getAttribute("is-config"))) continue;
+                long ms;
+                try {
+                    ms = Long.parseLong(m.getAttribute("duration-ms"));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                into.computeIfAbsent(className + "#" + m.getAttribute("name"), k -> new Timing()).add(ms);
+            }
+        }
+    }
+
+    /**
+     * Summary of the plan for the console: estimated milliseconds per shard.
+     */
+    public String describe() {
+        Map<String, Long> perShard = new LinkedHashMap<>();
+        for (int s = 0; s < total; s++) perShard.put("shard " + s, load[s]);
+        return perShard.toString();
+    }
+
+    /**
+     * Count and total duration of the recorded invocations of one test method (one per data row when data-driven).
+     */
+    public static class Timing {
+        int count;
+        long total;
+
+        public void add(long ms) {
+            count++;
+            total += ms;
+        }
+
+        public long average() {
+            return count == 0 ? 0 : total / count;
+        }
+    }
+
+    private static class Unit {
+        final String key;
+        final int row;
+        final long ms;
+
+        Unit(String key, int row, long ms) {
+            this.key = key;
+            this.row = row;
+            this.ms = ms;
+        }
+    }
+}
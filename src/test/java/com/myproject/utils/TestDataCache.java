@@ -0,0 +1,477 @@
+package com.myproject.utils;
+
+import com.myproject.config.ConfigReader;
+import com.myproject.utils.TestDataSource.Rows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TestDataCache - parsed xlsx sheets kept between runs, so unchanged workbooks are not parsed with POI again.
+ *
+ * - open(path, sheet) : the rows of a sheet, from (in order) the in-JVM memo, the disk cache or XlsxStreamReader.
+ *
+ * Each sheet has one binary cache file under testdata.cache.dir (default target/testdata-cache) holding the
+ * workbook's size, mtime and SHA-256 followed by the rows. Size + mtime unchanged: the file is used as-is. Otherwise
+ * the workbook is hashed; same content (e.g. a fresh checkout) refreshes the stamp, different content parses the
+ * sheet again. A parse writes the cache file while the rows are being consumed, and it only replaces the old file
+ * once every row has been read. Disk hits are read as the rows are consumed. A sheet of up to
+ * testdata.cache.memo.max.rows rows (default 50000) that has been read to the end is also kept in memory for the
+ * rest of the run.
+ *
+ * testdata.cache.enabled=false reads every sheet with XlsxStreamReader.
+ */
+public final class TestDataCache {
+
+    private static final int MAGIC = 0x54444331; // "TDC1"
+    private static final int END = -1;
+
+    private static final Map<String, Memo> memo = new ConcurrentHashMap<>();
+    private static final AtomicInteger memoHits = new AtomicInteger();
+    private static final AtomicInteger diskHits = new AtomicInteger();
+    private static final AtomicInteger parses = new AtomicInteger();
+    private static final AtomicLong parseMillis = new AtomicLong();
+
+    private TestDataCache() { /* utility */ }
+
+    /**
+     * Rows of {@code sheetName} (null or empty: first sheet) of the workbook at {@code path}. Rows handed out are
+     * copies, callers may change them.
+     */
+    public static Rows open(String path, String sheetName) {
+        if (!enabled()) return stream(path, sheetName);
+        Path workbook = Paths.get(path).toAbsolutePath().normalize();
+        String key = workbook + "|" + (sheetName == null ? "" : sheetName);
+        try {
+            long size = Files.size(workbook);
+            long mtime = Files.getLastModifiedTime(workbook).toMillis();
+
+            Memo m = memo.get(key);
+            if (m != null && m.size == size && m.mtime == mtime) {
+                memoHits.incrementAndGet();
+                return m.rows("memory");
+            }
+
+            Path file = cacheFile(key);
+            Stamp stamp = Stamp.read(file);
+            String hash = null;
+            if (stamp != null && !(stamp.size == size && stamp.mtime == mtime)) {
+                hash = sha256(workbook);
+                if (hash.equals(stamp.hash)) {
+                    // same bytes under a new mtime (checkout, copy): keep the rows, refresh the stamp
+                    restamp(file, size, mtime, hash);
+                } else {
+                    stamp = null;
+                }
+            }
+            if (stamp != null) {
+                diskHits.incrementAndGet();
+                return fromDisk(file, key, size, mtime);
+            }
+
+            if (hash == null) hash = sha256(workbook);
+            return parse(path, sheetName, file, key, size, mtime, hash);
+        } catch (IOException e) {
+            System.err.println("[TestDataCache] Cache not used for " + key + ": " + e.getMessage());
+            return stream(path, sheetName);
+        }
+    }
+
+    public static boolean enabled() {
+        return !"false".equalsIgnoreCase(ConfigReader.get("testdata.cache.enabled"));
+    }
+
+    /**
+     * Forget the sheets kept in memory; the disk cache stays (e.g. to time disk hits).
+     */
+    public static void clearMemory() {
+        memo.clear();
+    }
+
+    /**
+     * Where the cached rows of a sheet are stored.
+     */
+    static Path cacheFile(String key) {
+        String dir = ConfigReader.get("testdata.cache.dir");
+        Path base = Paths.get(dir == null || dir.trim().isEmpty() ? "target/testdata-cache" : dir.trim());
+        return base.resolve(sha256(key.getBytes(StandardCharsets.UTF_8)).substring(0, 32) + ".bin");
+    }
+
+    /**
+     * Memo, disk and parse counts for RunSummary.
+     */
+    public static String stats() {
+        int total = memoHits.get() + diskHits.get() + parses.get();
+        if (total == 0) return "";
+        return "sheets opened=" + total + " (memory=" + memoHits.get() + ", disk=" + diskHits.get() + ", parsed="
+                + parses.get() + " in " + parseMillis.get() + "ms)";
+    }
+
+    /* -------------------------
+       Sources
+       ------------------------- */
+
+    private static Rows stream(String path, String sheetName) {
+        XlsxStreamReader reader = XlsxStreamReader.open(path, sheetName);
+        return new Rows() {
+            @Override public String[] header() { return reader.header(); }
+            @Override public String source() { return "stream"; }
+            @Override public boolean hasNext() { return reader.hasNext(); }
+            @Override public String[] next() { return reader.next(); }
+            @Override public void close() { reader.close(); }
+        };
+    }
+
+    // XlsxStreamReader, with every row also written to a temp file that becomes the cache file at the end
+    private static Rows parse(String path, String sheetName, Path file, String key, long size, long mtime, String hash)
+            throws IOException {
+        long start = System.currentTimeMillis();
+        Files.createDirectories(file.getParent());
+        Path tmp = Files.createTempFile(file.getParent(), "parse_", ".tmp");
+        XlsxStreamReader reader;
+        try {
+            reader = XlsxStreamReader.open(path, sheetName);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        DataOutputStream out;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)));
+            new Stamp(size, mtime, hash).write(out);
+            writeRow(out, reader.header());
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        MemoFill kept = new MemoFill(key, size, mtime, reader.header());
+
+        return new Rows() {
+            private boolean done;
+            private boolean writing = true;
+
+            @Override
+            public String[] header() {
+                return copy(reader.header());
+            }
+
+            @Override
+            public String source() {
+                return "parsed";
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (done) return false;
+                boolean more;
+                try {
+                    more = reader.hasNext();
+                } catch (RuntimeException e) {
+                    abandon();
+                    throw e;
+                }
+                if (!more) finish();
+                return more;
+            }
+
+            @Override
+            public String[] next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                String[] row = reader.next();
+                if (writing) {
+                    try {
+                        writeRow(out, row);
+                    } catch (IOException e) {
+                        System.err.println("[TestDataCache] Could not write " + tmp + ": " + e.getMessage());
+                        abandonCacheFile();
+                    }
+                }
+                kept.add(row);
+                return row;
+            }
+
+            @Override
+            public void close() {
+                if (!done) abandon();
+            }
+
+            private void finish() {
+                done = true;
+                reader.close();
+                parses.incrementAndGet();
+                parseMillis.addAndGet(System.currentTimeMillis() - start);
+                kept.complete();
+                if (!writing) return;
+                try {
+                    out.writeInt(END);
+                    out.close();
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    System.err.println("[TestDataCache] Could not store " + file + ": " + e.getMessage());
+                    abandonCacheFile();
+                }
+            }
+
+            // rows not read to the end: nothing is cached
+            private void abandon() {
+                done = true;
+                reader.close();
+                abandonCacheFile();
+            }
+
+            private void abandonCacheFile() {
+                writing = false;
+                try {
+                    out.close();
+                } catch (IOException ignored) {}
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {}
+            }
+        };
+    }
+
+    // rows are read from the file as they are consumed; a sheet read to the end goes into the memo
+    private static Rows fromDisk(Path file, String key, long size, long mtime) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        String[] header;
+        try {
+            Stamp.read(in);
+            header = readRow(in);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+        MemoFill kept = new MemoFill(key, size, mtime, header);
+
+        return new Rows() {
+            private String[] next;
+            private boolean done;
+
+            @Override public String[] header() { return copy(header); }
+            @Override public String source() { return "disk"; }
+
+            @Override
+            public boolean hasNext() {
+                if (next != null) return true;
+                if (done) return false;
+                try {
+                    next = readRow(in);
+                } catch (IOException e) {
+                    close();
+                    throw new RuntimeException("Failed to read test data cache: " + e.getMessage(), e);
+                }
+                if (next == null) {
+                    close();
+                    kept.complete();
+                }
+                return next != null;
+            }
+
+            @Override
+            public String[] next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                String[] row = next;
+                next = null;
+                kept.add(row);
+                return row;
+            }
+
+            @Override
+            public void close() {
+                done = true;
+                try {
+                    in.close();
+                } catch (IOException ignored) {}
+            }
+        };
+    }
+
+    /**
+     * Copies of the rows handed out by a disk read or parse, memoized once the sheet has been read to the end.
+     * The copies are dropped as soon as the sheet passes testdata.cache.memo.max.rows, or when it is closed early.
+     */
+    private static final class MemoFill {
+        private final String key;
+        private final long size;
+        private final long mtime;
+        private final String[] header;
+        private final int max = ConfigReader.getInt("testdata.cache.memo.max.rows", 50_000);
+        private List<String[]> rows = new ArrayList<>();
+
+        MemoFill(String key, long size, long mtime, String[] header) {
+            this.key = key;
+            this.size = size;
+            this.mtime = mtime;
+            this.header = header;
+        }
+
+        void add(String[] row) {
+            if (rows == null) return;
+            if (rows.size() == max) {
+                rows = null;
+                return;
+            }
+            rows.add(row.clone());
+        }
+
+        void complete() {
+            if (rows != null) memo.put(key, new Memo(size, mtime, header, rows));
+            rows = null;
+        }
+    }
+
+    /**
+     * Parsed rows kept for the rest of the run, with the workbook stamp they belong to.
+     */
+    private static final class Memo {
+        final long size;
+        final long mtime;
+        final String[] header;
+        final List<String[]> rows;
+
+        Memo(long size, long mtime, String[] header, List<String[]> rows) {
+            this.size = size;
+            this.mtime = mtime;
+            this.header = header;
+            this.rows = Collections.unmodifiableList(rows);
+        }
+
+        Rows rows(String source) {
+            Iterator<String[]> it = rows.iterator();
+            return new Rows() {
+                @Override public String[] header() { return copy(header); }
+                @Override public String source() { return source; }
+                @Override public boolean hasNext() { return it.hasNext(); }
+                @Override public String[] next() { return it.next().clone(); }
+                @Override public void close() { }
+            };
+        }
+    }
+
+    /* -------------------------
+       Binary format
+       ------------------------- */
+
+    /**
+     * Cache file header: workbook size, mtime and content hash.
+     */
+    private static final class Stamp {
+        final long size;
+        final long mtime;
+        final String hash;
+
+        Stamp(long size, long mtime, String hash) {
+            this.size = size;
+            this.mtime = mtime;
+            this.hash = hash;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeLong(size);
+            out.writeLong(mtime);
+            out.writeUTF(hash);
+        }
+
+        static Stamp read(DataInputStream in) throws IOException {
+            if (in.readInt() != MAGIC) throw new IOException("not a test data cache file");
+            return new Stamp(in.readLong(), in.readLong(), in.readUTF());
+        }
+
+        // null when there is no readable cache file
+        static Stamp read(Path file) {
+            if (!Files.isRegularFile(file)) return null;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 256))) {
+                return read(in);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    private static void restamp(Path file, long size, long mtime, String hash) throws IOException {
+        Path tmp = Files.createTempFile(file.getParent(), "restamp_", ".tmp");
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            Stamp.read(new DataInputStream(in));
+            new Stamp(size, mtime, hash).write(out);
+            in.transferTo(out);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // row = cell count (END for none / end of rows), then per cell: UTF-8 length + bytes
+    private static void writeRow(DataOutputStream out, String[] row) throws IOException {
+        if (row == null) {
+            out.writeInt(END);
+            return;
+        }
+        out.writeInt(row.length);
+        for (String cell : row) {
+            byte[] bytes = (cell == null ? "" : cell).getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String[] readRow(DataInputStream in) throws IOException {
+        int cells = in.readInt();
+        if (cells == END) return null;
+        String[] row = new String[cells];
+        for (int c = 0; c < cells; c++) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            row[c] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return row;
+    }
+
+    private static String[] copy(String[] row) {
+        return row == null ? null : row.clone();
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buf = new byte[64 * 1024];
+            int n;
+            while ((n = in.read(buf)) > 0) digest.update(buf, 0, n);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(sha256().digest(bytes));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
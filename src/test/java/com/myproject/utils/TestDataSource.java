@@ -0,0 +1,130 @@
+package com.myproject.utils;
+
+import com.myproject.config.ConfigReader;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * TestDataSource - where data-driven tests read their rows from, chosen by file extension.
+ *
+ * - .xlsx           : XlsxStreamReader through TestDataCache (one file, many sheets)
+ * - .csv            : RFC 4180 CSV, UTF-8, first record is the header (one table per file)
+ * - .jsonl / .ndjson: one flat JSON object per line, the keys of the first line are the header
+ *
+ * - open(path, sheet) : rows of a sheet, after resolve(path, sheet).
+ * - convert(from, sheet, to) : write a sheet as another format (e.g. xlsx sheet to CSV).
+ *
+ * testdata.format (xlsx | csv | jsonl; empty: the file the test names) switches backends without code changes:
+ * with testdata.format=csv a test reading signup_data.xlsx sheet "Sheet2" gets signup_data.Sheet2.csv (or, when
+ * there is none, signup_data.csv) from the same directory. Every backend returns trimmed cell text, rows at
+ * least as wide as the header, and "" for missing cells.
+ */
+public interface TestDataSource {
+
+    TestDataSource XLSX = new XlsxDataSource();
+    TestDataSource CSV = new CsvDataSource();
+    TestDataSource JSONL = new JsonLinesDataSource();
+
+    /**
+     * Rows of one sheet or table: header() plus the data rows as an iterator. Close it when not reading to the end.
+     */
+    interface Rows extends Iterator<String[]>, AutoCloseable {
+        /** First row (CSV) or keys of the first object (JSONL), or null when there are no rows. */
+        String[] header();
+
+        /** Where the rows come from: memory, disk, parsed or stream (xlsx, see TestDataCache), csv or jsonl. */
+        String source();
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Rows of {@code sheetName} in {@code path}. Single-table formats ignore the sheet name.
+     */
+    Rows read(String path, String sheetName);
+
+    /**
+     * Write {@code header} and {@code rows} to {@code path}, replacing it; xlsx writes a single sheet.
+     */
+    void write(String path, String sheetName, String[] header, Iterator<String[]> rows);
+
+    /**
+     * Backend for the extension of {@code path}.
+     */
+    static TestDataSource forPath(String path) {
+        TestDataSource source = forExtension(extension(path));
+        if (source == null) {
+            throw new RuntimeException("Unsupported test data file: " + path + " (expected .xlsx, .csv or .jsonl)");
+        }
+        return source;
+    }
+
+    /**
+     * The file to read for {@code path} / {@code sheetName} under testdata.format (see above); {@code path} itself
+     * when the format is not set or already matches.
+     */
+    static String resolve(String path, String sheetName) {
+        String format = ConfigReader.get("testdata.format");
+        if (format == null || format.trim().isEmpty()) return path;
+        format = format.trim().toLowerCase(Locale.ROOT);
+        TestDataSource wanted = forExtension(format);
+        if (wanted == null) {
+            throw new RuntimeException("Unsupported testdata.format: " + format + " (expected xlsx, csv or jsonl)");
+        }
+        String ext = extension(path);
+        if (wanted == forExtension(ext)) return path;
+
+        String stem = ext.isEmpty() ? path : path.substring(0, path.length() - ext.length() - 1);
+        if (wanted == XLSX) return stem + ".xlsx";
+        if (sheetName != null && !sheetName.isEmpty()) {
+            String perSheet = stem + "." + sheetName + "." + format;
+            if (Files.isRegularFile(Paths.get(perSheet))) return perSheet;
+        }
+        String single = stem + "." + format;
+        if (Files.isRegularFile(Paths.get(single))) return single;
+        throw new RuntimeException("No " + format + " test data for " + path + " sheet " + sheetName + ": expected "
+                + (sheetName == null || sheetName.isEmpty() ? "" : stem + "." + sheetName + "." + format + " or ") + single);
+    }
+
+    /**
+     * Rows of {@code sheetName} (null or empty: first sheet) of the file {@code path} resolves to.
+     */
+    static Rows open(String path, String sheetName) {
+        String file = resolve(path, sheetName);
+        return forPath(file).read(file, sheetName);
+    }
+
+    /**
+     * Copy one sheet/table of {@code fromPath} to {@code toPath}, in the format of toPath's extension.
+     */
+    static void convert(String fromPath, String sheetName, String toPath) {
+        try (Rows rows = forPath(fromPath).read(fromPath, sheetName)) {
+            forPath(toPath).write(toPath, sheetName, rows.header(), rows);
+        }
+    }
+
+    private static TestDataSource forExtension(String ext) {
+        switch (ext) {
+            case "xlsx":
+                return XLSX;
+            case "csv":
+                return CSV;
+            case "jsonl":
+            case "ndjson":
+                return JSONL;
+            default:
+                return null;
+        }
+    }
+
+    // lower-case extension of the file name, "" when there is none
+    private static String extension(String path) {
+        String name = Paths.get(path).getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,344 @@
+package com.myproject.utils;
+
+import com.myproject.config.ConfigReader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * TestHistoryStore - per-test duration history on local disk.
+ *
+ * - record(...) : append one finished test invocation to this run's file (buffered, cheap on the hot path).
+ * - load(n) : read the last n run files for queries (p50/p95, trend across runs, row counts), per method or per
+ *   data-provider row.
+ *
+ * One append-only TSV file per run under history.dir (default reports/history):
+ *   class  method  row  status  durationMs  setupMs  startEpochMs
+ * row is the data-provider row index, -1 for plain tests. The file ends with a "#end" line once the run is over.
+ */
+public final class TestHistoryStore {
+
+    private static final String HEADER = "class\tmethod\trow\tstatus\tdurationMs\tsetupMs\tstartEpochMs";
+    // written by close(); files without it belong to a run that is still going (e.g. a parallel shard)
+    private static final String END_MARKER = "#end";
+    private static final int FLUSH_EVERY = 50;
+
+    private static BufferedWriter writer;
+    private static Path currentFile;
+    private static int pending;
+    private static boolean hookInstalled;
+
+    private TestHistoryStore() { /* utility */ }
+
+    public static Path historyDir() {
+        String dir = ConfigReader.get("history.dir");
+        return Paths.get(dir == null || dir.trim().isEmpty() ? "reports/history" : dir.trim());
+    }
+
+    /**
+     * Append one test invocation to this run's history file.
+     */
+    public static synchronized void record(String className, String method, int row, String status,
+                                           long durationMs, long setupMs, long startEpochMs) {
+        try {
+            if (writer == null) open();
+            writer.write(className + '\t' + method + '\t' + row + '\t' + status + '\t'
+                    + durationMs + '\t' + setupMs + '\t' + startEpochMs);
+            writer.newLine();
+            if (++pending >= FLUSH_EVERY) {
+                writer.flush();
+                pending = 0;
+            }
+        } catch (IOException e) {
+            System.err.println("[TestHistoryStore] Could not record " + className + "#" + method + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Flush and close this run's file. Called at suite end (and from a shutdown hook as a fallback).
+     */
+    public static synchronized void close() {
+        if (writer == null) return;
+        try {
+            writer.write(END_MARKER);
+            writer.newLine();
+            writer.close();
+            System.out.println("[TestHistoryStore] Wrote " + currentFile);
+        } catch (IOException e) {
+            System.err.println("[TestHistoryStore] Could not close " + currentFile + ": " + e.getMessage());
+        } finally {
+            writer = null;
+        }
+    }
+
+    private static void open() throws IOException {
+        Path dir = historyDir();
+        Files.createDirectories(dir);
+        String ts = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS"));
+        // shards of the same run write side by side; keep their files apart
+        int shardTotal = ShardPlanner.configuredTotal();
+        String suffix = shardTotal > 1 ? "_shard" + ShardPlanner.configuredIndex() + "of" + shardTotal : "";
+        currentFile = dir.resolve("run_" + ts + suffix + ".tsv");
+        writer = Files.newBufferedWriter(currentFile, StandardCharsets.UTF_8);
+        writer.write(HEADER);
+        writer.newLine();
+        pending = 0;
+        // open() runs again after close() when a JVM runs several suites; one hook closes whichever file is open
+        if (!hookInstalled) {
+            Runtime.getRuntime().addShutdownHook(new Thread(TestHistoryStore::close, "history-flush"));
+            hookInstalled = true;
+        }
+    }
+
+    /* -------------------------
+       Queries
+       ------------------------- */
+
+    /**
+     * Read the most recent {@code lastRuns} finished run files (oldest first). Files of runs still in progress
+     * are ignored, so shards started together all see the same history. Unreadable lines are skipped.
+     */
+    public static History load(int lastRuns) {
+        List<Path> files = new ArrayList<>();
+        Path dir = historyDir();
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir, "run_*.tsv")) {
+                for (Path p : ds) files.add(p);
+            } catch (IOException e) {
+                System.err.println("[TestHistoryStore] Could not list " + dir + ": " + e.getMessage());
+            }
+        }
+        // names start with the timestamp, so lexical order is chronological
+        Collections.sort(files);
+
+        List<List<String>> runs = new ArrayList<>();
+        for (int i = files.size() - 1; i >= 0 && runs.size() < lastRuns; i--) {
+            try {
+                List<String> lines = Files.readAllLines(files.get(i), StandardCharsets.UTF_8);
+                if (!lines.isEmpty() && END_MARKER.equals(lines.get(lines.size() - 1))) runs.add(0, lines);
+            } catch (IOException e) {
+                System.err.println("[TestHistoryStore] Could not read " + files.get(i) + ": " + e.getMessage());
+            }
+        }
+
+        History h = new History();
+        for (int run = 0; run < runs.size(); run++) {
+            for (String line : runs.get(run)) {
+                if (line.startsWith("class\t") || line.startsWith("#")) continue;
+                String[] f = line.split("\t");
+                if (f.length < 7) continue;
+                try {
+                    h.add(new Entry(run, f[0], f[1], Integer.parseInt(f[2]), f[3],
+                            Long.parseLong(f[4]), Long.parseLong(f[5]), Long.parseLong(f[6])));
+                } catch (NumberFormatException ignored) { }
+            }
+        }
+        h.runs = runs.size();
+        return h;
+    }
+
+    /**
+     * One recorded invocation.
+     */
+    public static final class Entry {
+        public final int run;
+        public final String className;
+        public final String method;
+        public final int row;
+        public final String status;
+        public final long durationMs;
+        public final long setupMs;
+        public final long startEpochMs;
+
+        Entry(int run, String className, String method, int row, String status, long durationMs, long setupMs, long startEpochMs) {
+            this.run = run;
+            this.className = className;
+            this.method = method;
+            this.row = row;
+            this.status = status;
+            this.durationMs = durationMs;
+            this.setupMs = setupMs;
+            this.startEpochMs = startEpochMs;
+        }
+
+        public String key() {
+            return className + "#" + method;
+        }
+
+        /**
+         * "class#method[row]" for a data-provider row, key() for plain tests.
+         */
+        public String rowKey() {
+            return row < 0 ? key() : key() + "[" + row + "]";
+        }
+    }
+
+    /**
+     * Loaded history, grouped by "class#method". Queries taking a row only look at that data-provider row.
+     */
+    public static final class History {
+        private final Map<String, List<Entry>> byKey = new TreeMap<>();
+        private int runs;
+
+        void add(Entry e) {
+            byKey.computeIfAbsent(e.key(), k -> new ArrayList<>()).add(e);
+        }
+
+        public int runCount() {
+            return runs;
+        }
+
+        public boolean isEmpty() {
+            return byKey.isEmpty();
+        }
+
+        public Iterable<String> keys() {
+            return byKey.keySet();
+        }
+
+        public List<Entry> entries(String key) {
+            return byKey.getOrDefault(key, Collections.emptyList());
+        }
+
+        /**
+         * Invocations of one data-provider row (-1: plain test).
+         */
+        public List<Entry> entries(String key, int row) {
+            List<Entry> out = new ArrayList<>();
+            for (Entry e : entries(key)) if (e.row == row) out.add(e);
+            return out;
+        }
+
+        public long p50(String key) {
+            return percentile(key, 50);
+        }
+
+        public long p50(String key, int row) {
+            return percentile(key, row, 50);
+        }
+
+        public long p95(String key) {
+            return percentile(key, 95);
+        }
+
+        public long p95(String key, int row) {
+            return percentile(key, row, 95);
+        }
+
+        /**
+         * Nearest-rank percentile of the invocation durations (all rows, all loaded runs); -1 if unknown.
+         */
+        public long percentile(String key, int p) {
+            return percentile(entries(key), p);
+        }
+
+        /**
+         * As percentile(key, p), for one data-provider row only.
+         */
+        public long percentile(String key, int row, int p) {
+            return percentile(entries(key, row), p);
+        }
+
+        /**
+         * Expected time for all invocations of a method: the sum of the per-row medians for a data-driven method
+         * (rows without history count at the method's median), the median for a plain one; -1 if unknown.
+         */
+        public long expectedTotal(String key) {
+            long p50 = p50(key);
+            int rows = rowCount(key);
+            if (p50 < 0 || rows == 0) return p50;
+            long total = 0;
+            for (int row = 0; row < rows; row++) {
+                long rowP50 = p50(key, row);
+                total += rowP50 >= 0 ? rowP50 : p50;
+            }
+            return total;
+        }
+
+        /**
+         * Median setup time (before-method configuration) per invocation; -1 if unknown.
+         */
+        public long setupP50(String key) {
+            List<Entry> list = entries(key);
+            if (list.isEmpty()) return -1;
+            long[] d = new long[list.size()];
+            for (int i = 0; i < d.length; i++) d[i] = list.get(i).setupMs;
+            return percentile(d, 50);
+        }
+
+        /**
+         * Median duration per run, oldest run first (runs where the test did not execute are left out).
+         */
+        public List<Long> trend(String key) {
+            return trend(entries(key));
+        }
+
+        /**
+         * As trend(key), for one data-provider row only.
+         */
+        public List<Long> trend(String key, int row) {
+            return trend(entries(key, row));
+        }
+
+        private static List<Long> trend(List<Entry> entries) {
+            Map<Integer, List<Long>> perRun = new TreeMap<>();
+            for (Entry e : entries) {
+                perRun.computeIfAbsent(e.run, r -> new ArrayList<>()).add(e.durationMs);
+            }
+            List<Long> out = new ArrayList<>();
+            for (List<Long> durations : perRun.values()) {
+                long[] d = new long[durations.size()];
+                for (int i = 0; i < d.length; i++) d[i] = durations.get(i);
+                out.add(percentile(d, 50));
+            }
+            return out;
+        }
+
+        /**
+         * Number of data-provider rows seen for a data-driven method (highest row index + 1), 0 for plain tests.
+         */
+        public int rowCount(String key) {
+            int max = -1;
+            for (Entry e : entries(key)) max = Math.max(max, e.row);
+            return max + 1;
+        }
+
+        /**
+         * Fraction of invocations that did not pass, 0..1.
+         */
+        public double failureRate(String key) {
+            List<Entry> list = entries(key);
+            if (list.isEmpty()) return 0;
+            int failed = 0;
+            for (Entry e : list) if (!"PASS".equals(e.status)) failed++;
+            return (double) failed / list.size();
+        }
+
+        private static long percentile(List<Entry> list, int p) {
+            if (list.isEmpty()) return -1;
+            long[] d = new long[list.size()];
+            for (int i = 0; i < d.length; i++) d[i] = list.get(i).durationMs;
+            return percentile(d, p);
+        }
+
+        private static long percentile(long[] values, int p) {
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+        }
+    }
+}
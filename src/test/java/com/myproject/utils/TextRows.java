@@ -0,0 +1,162 @@
+package com.myproject.utils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Rows of a UTF-8 text table (CSV, JSON lines), parsed on the caller's thread as rows are consumed.
+ *
+ * Characters come from one reused buffer and each cell is collected in one reused StringBuilder, so a row costs
+ * its String[] and one String per non-empty cell. Subclasses parse one record per call of record().
+ */
+abstract class TextRows implements TestDataSource.Rows {
+
+    private static final int BUFFER_CHARS = 16 * 1024;
+
+    protected final String path;
+    protected final StringBuilder cell = new StringBuilder(64);
+    protected final List<String> cells = new ArrayList<>();
+    protected String[] header;
+    protected int line = 1;
+
+    private final Reader in;
+    private final char[] buf = new char[BUFFER_CHARS];
+    private int pos;
+    private int len;
+    private boolean started;
+    private String[] next;
+    private boolean done;
+
+    TextRows(String path) {
+        this.path = path;
+        try {
+            this.in = new InputStreamReader(Files.newInputStream(Paths.get(path)), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read test data: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parse the header (sets {@link #header}); called once, before the first record().
+     */
+    protected abstract void readHeader() throws IOException;
+
+    /**
+     * Next data row, or null at the end of the file.
+     */
+    protected abstract String[] record() throws IOException;
+
+    @Override
+    public String[] header() {
+        start();
+        return header == null ? null : header.clone();
+    }
+
+    @Override
+    public boolean hasNext() {
+        start();
+        if (next != null) return true;
+        if (done) return false;
+        try {
+            next = record();
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException("Failed to read test data: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (next == null) close();
+        return next != null;
+    }
+
+    @Override
+    public String[] next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        String[] row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() {
+        done = true;
+        started = true;
+        try {
+            in.close();
+        } catch (IOException ignored) {}
+    }
+
+    private void start() {
+        if (started) return;
+        started = true;
+        try {
+            // a byte order mark (Excel's "CSV UTF-8") is not part of the first cell
+            if (peek() == '\uFEFF') read();
+            readHeader();
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException("Failed to read test data: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (header == null) close();
+    }
+
+    /* -------------------------
+       Parsing helpers
+       ------------------------- */
+
+    protected final int read() throws IOException {
+        if (pos == len && !fill()) return -1;
+        return buf[pos++];
+    }
+
+    protected final int peek() throws IOException {
+        if (pos == len && !fill()) return -1;
+        return buf[pos];
+    }
+
+    private boolean fill() throws IOException {
+        len = in.read(buf, 0, buf.length);
+        pos = 0;
+        if (len > 0) return true;
+        len = 0;
+        return false;
+    }
+
+    /**
+     * The collected cell, trimmed (like XlsxStreamReader); the builder is reset for the next one.
+     */
+    protected final String takeCell() {
+        int start = 0;
+        int end = cell.length();
+        while (start < end && cell.charAt(start) <= ' ') start++;
+        while (end > start && cell.charAt(end - 1) <= ' ') end--;
+        String value = start == end ? "" : cell.substring(start, end);
+        cell.setLength(0);
+        return value;
+    }
+
+    /**
+     * {@link #cells} as a row at least as wide as the header; missing cells are "".
+     */
+    protected final String[] row() {
+        int width = Math.max(header == null ? 0 : header.length, cells.size());
+        String[] row = new String[width];
+        for (int c = 0; c < width; c++) row[c] = c < cells.size() ? cells.get(c) : "";
+        return row;
+    }
+
+    protected final RuntimeException error(String message) {
+        return new RuntimeException("Bad test data in " + path + " line " + line + ": " + message);
+    }
+}
@@ -0,0 +1,51 @@
+package com.myproject.utils;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * xlsx backend of TestDataSource: reads through TestDataCache (XlsxStreamReader when not cached), writes one sheet
+ * with SXSSF.
+ */
+final class XlsxDataSource implements TestDataSource {
+
+    @Override
+    public Rows read(String path, String sheetName) {
+        return TestDataCache.open(path, sheetName);
+    }
+
+    @Override
+    public void write(String path, String sheetName, String[] header, Iterator<String[]> rows) {
+        SXSSFWorkbook wb = new SXSSFWorkbook(100);
+        try {
+            Sheet sheet = wb.createSheet(sheetName == null || sheetName.isEmpty() ? "Sheet1" : sheetName);
+            if (header != null) {
+                writeRow(sheet, 0, header);
+                int r = 1;
+                while (rows.hasNext()) writeRow(sheet, r++, rows.next());
+            }
+            try (OutputStream os = new FileOutputStream(path)) {
+                wb.write(os);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write Excel: " + e.getMessage(), e);
+        } finally {
+            wb.dispose();
+            try { wb.close(); } catch (IOException ignored) {}
+        }
+    }
+
+    private static void writeRow(Sheet sheet, int index, String[] values) {
+        Row row = sheet.createRow(index);
+        for (int c = 0; c < values.length; c++) {
+            // "" cells are left out, they read back as missing
+            if (values[c] != null && !values[c].isEmpty()) row.createCell(c).setCellValue(values[c]);
+        }
+    }
+}
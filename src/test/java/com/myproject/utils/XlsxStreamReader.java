@@ -0,0 +1,234 @@
+package com.myproject.utils;
+
+import com.myproject.config.ConfigReader;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * XlsxStreamReader - reads one sheet of an xlsx file row by row, without building a workbook in memory.
+ *
+ * The sheet XML is parsed with POI's event model (XSSFReader + XSSFSheetXMLHandler, SAX) on a virtual thread that
+ * hands finished rows to the caller through a bounded queue (xlsx.stream.buffer.rows, default 256). Memory is the
+ * shared-strings table plus that many rows, whatever the number of rows in the sheet, and the caller can work on
+ * the first rows while the rest is still being parsed.
+ *
+ * Cell values are the text Excel shows (DataFormatter, US locale; formulas give their cached result), trimmed;
+ * missing cells are "". Rows are at least as wide as the header row.
+ *
+ * <pre>
+ * try (XlsxStreamReader rows = XlsxStreamReader.open(path, "Sheet1")) {
+ *     String[] header = rows.header();
+ *     while (rows.hasNext()) { String[] row = rows.next(); ... }
+ * }
+ * </pre>
+ */
+public final class XlsxStreamReader implements Iterator<String[]>, AutoCloseable {
+
+    // queue markers; rows are String[]
+    private static final Object END = new Object();
+
+    private final String path;
+    private final BlockingQueue<Object> queue;
+    private final Thread parser;
+    private final String[] header;
+    private Object next;
+    private int rows;
+    private volatile boolean closed;
+
+    private XlsxStreamReader(String path, String sheetName) {
+        this.path = path;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, ConfigReader.getInt("xlsx.stream.buffer.rows", 256)));
+        this.parser = Thread.ofVirtual().name("xlsx-stream").start(() -> parse(sheetName));
+        Object first = take();
+        // a missing file or sheet fails here, not as an empty sheet
+        if (first instanceof RuntimeException) {
+            close();
+            throw (RuntimeException) first;
+        }
+        this.header = first instanceof String[] ? (String[]) first : null;
+        this.next = first instanceof String[] ? null : first;
+    }
+
+    /**
+     * Start reading {@code sheetName} (null or empty: first sheet). The call returns once the header row is parsed;
+     * a file or sheet that cannot be read throws here.
+     */
+    public static XlsxStreamReader open(String path, String sheetName) {
+        return new XlsxStreamReader(path, sheetName);
+    }
+
+    /**
+     * Sheet names in workbook order, read from the workbook part only.
+     */
+    public static List<String> sheetNames(String path) {
+        List<String> names = new ArrayList<>();
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(path, PackageAccess.READ);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            while (sheets.hasNext()) {
+                InputStream sheet = sheets.next();
+                names.add(sheets.getSheetName());
+                sheet.close();
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to read Excel: " + e.getMessage(), e);
+        } finally {
+            // read-only package: revert() releases it, close() would try to save
+            if (pkg != null) pkg.revert();
+        }
+        return names;
+    }
+
+    /**
+     * First row of the sheet, or null when the sheet has no rows.
+     */
+    public String[] header() {
+        return header;
+    }
+
+    /**
+     * Data rows returned so far.
+     */
+    public int rowsRead() {
+        return rows;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) next = closed ? END : take();
+        if (next instanceof RuntimeException) {
+            RuntimeException failure = (RuntimeException) next;
+            next = END;
+            throw failure;
+        }
+        return next != END;
+    }
+
+    @Override
+    public String[] next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        String[] row = (String[]) next;
+        next = null;
+        rows++;
+        return row;
+    }
+
+    /**
+     * Stop parsing (if rows are left) and release the file.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        parser.interrupt();
+    }
+
+    private Object take() {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new RuntimeException("Interrupted while reading " + path, e);
+        }
+    }
+
+    // runs on the parser thread; every outcome ends with END or a RuntimeException in the queue
+    private void parse(String sheetName) {
+        Object last = END;
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(path, PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            boolean found = false;
+            while (sheets.hasNext() && !found) {
+                try (InputStream sheet = sheets.next()) {
+                    if (sheetName != null && !sheetName.isEmpty() && !sheetName.equals(sheets.getSheetName())) continue;
+                    found = true;
+                    XMLReader xml = XMLHelper.newXMLReader();
+                    xml.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, new RowCollector(),
+                            new DataFormatter(Locale.US), false));
+                    xml.parse(new InputSource(sheet));
+                }
+            }
+            if (!found) last = new RuntimeException("Sheet not found: " + sheetName);
+        } catch (Stopped e) {
+            return;
+        } catch (Exception | Error e) {
+            last = new RuntimeException("Failed to read Excel: " + e.getMessage(), e);
+        } finally {
+            if (pkg != null) pkg.revert();
+        }
+        try {
+            queue.put(last);
+        } catch (InterruptedException ignored) {
+            // closed by the reader
+        }
+    }
+
+    /**
+     * Turns the cell callbacks of one row into a String[] and queues it.
+     */
+    private final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final List<String> cells = new ArrayList<>();
+        private int width;
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void cell(String ref, String value, XSSFComment comment) {
+            int col = ref == null ? cells.size() : new CellReference(ref).getCol();
+            while (cells.size() < col) cells.add("");
+            cells.add(value == null ? "" : value.trim());
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (closed) throw new Stopped();
+            String[] row = new String[Math.max(width, cells.size())];
+            for (int c = 0; c < row.length; c++) row[c] = c < cells.size() ? cells.get(c) : "";
+            // the first row sets the minimum width of the others
+            if (width == 0) width = Math.max(1, row.length);
+            try {
+                queue.put(row);
+            } catch (InterruptedException e) {
+                throw new Stopped();
+            }
+        }
+    }
+
+    // unwinds the SAX parse when the reader is closed early
+    private static final class Stopped extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Stopped() {
+            super(null, null, false, false);
+        }
+    }
+}
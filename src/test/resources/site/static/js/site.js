@@ -0,0 +1,140 @@
+/* Behaviour of the local stand-in site: cart (localStorage), cart modal, collapsible panels, carousels,
+   subscription, product search and the contact form confirmation. */
+(function () {
+    var PRODUCTS = /*catalog*/{"1": {"name": "Blue Top", "price": 500, "category": "Women > Tops", "brand": "Polo"}, "2": {"name": "Men Tshirt", "price": 400, "category": "Men > Tshirts", "brand": "H&M"}, "3": {"name": "Sleeveless Dress", "price": 1000, "category": "Women > Dress", "brand": "Madame"}, "4": {"name": "Stylish Dress", "price": 1500, "category": "Women > Dress", "brand": "Madame"}, "5": {"name": "Winter Top", "price": 600, "category": "Women > Tops", "brand": "Mast & Harbour"}, "6": {"name": "Summer White Top", "price": 400, "category": "Women > Tops", "brand": "H&M"}, "7": {"name": "Madame Top For Women", "price": 1000, "category": "Women > Tops", "brand": "Madame"}, "8": {"name": "Fancy Green Top", "price": 700, "category": "Women > Tops", "brand": "Mast & Harbour"}, "11": {"name": "Little Girls Mr. Panda Shirt", "price": 1278, "category": "Kids > Tops & Shirts", "brand": "Allen Solly Junior"}, "12": {"name": "Sleeves Printed Top - White", "price": 499, "category": "Women > Tops", "brand": "Biba"}, "13": {"name": "Cotton Mull Embroidered Dress", "price": 1000, "category": "Kids > Dress", "brand": "Kookie Kids"}, "16": {"name": "Sleeveless Unicorn Patch Gown - Pink", "price": 1050, "category": "Kids > Dress", "brand": "Babyhug"}}/*end catalog*/;
+
+    function cart() {
+        try { return JSON.parse(localStorage.getItem('cart') || '{}'); } catch (e) { return {}; }
+    }
+
+    function saveCart(c) {
+        localStorage.setItem('cart', JSON.stringify(c));
+    }
+
+    function show(el) { if (el) { el.classList.remove('hide'); el.classList.add('show'); } }
+    function hide(el) { if (el) { el.classList.remove('show'); el.classList.add('hide'); } }
+
+    function renderCart() {
+        var body = document.querySelector('#cart_info_table tbody');
+        if (!body) return;
+        var c = cart();
+        var rows = '';
+        Object.keys(c).forEach(function (id) {
+            var p = PRODUCTS[id];
+            if (!p) return;
+            var qty = c[id];
+            rows += '<tr id="product-' + id + '">'
+                + '<td class="cart_product"><a href="/product_details/' + id + '"><img src="/static/images/product.svg" alt="Product Image" width="110" height="110"></a></td>'
+                + '<td class="cart_description"><h4><a href="/product_details/' + id + '">' + p.name + '</a></h4><p>' + p.category + '</p></td>'
+                + '<td class="cart_price"><p>Rs. ' + p.price + '</p></td>'
+                + '<td class="cart_quantity"><button class="disabled">' + qty + '</button></td>'
+                + '<td class="cart_total"><p class="cart_total_price">Rs. ' + (p.price * qty) + '</p></td>'
+                + '<td class="cart_delete"><a class="cart_quantity_delete" data-product-id="' + id + '" href="#"><i class="fa fa-times"></i>&times;</a></td>'
+                + '</tr>';
+        });
+        body.innerHTML = rows;
+        var empty = document.getElementById('empty_cart');
+        if (rows) hide(empty); else show(empty);
+    }
+
+    function renderProductDetails() {
+        var m = location.pathname.match(/^\/product_details\/(\d+)/);
+        var p = m && PRODUCTS[m[1]];
+        if (!p) return;
+        document.getElementById('product-name').textContent = p.name;
+        document.getElementById('product-category').textContent = 'Category: ' + p.category;
+        document.getElementById('product-price').textContent = 'Rs. ' + p.price;
+        document.getElementById('product-brand').innerHTML = '<b>Brand:</b> ' + p.brand;
+        document.querySelector('.product-information .add-to-cart').setAttribute('data-product-id', m[1]);
+    }
+
+    function filterProducts() {
+        var q = new URLSearchParams(location.search).get('search');
+        if (!q) return;
+        var title = document.querySelector('.features_items > h2');
+        if (title) title.textContent = 'Searched Products';
+        document.querySelectorAll('.features_items .product-image-wrapper').forEach(function (w) {
+            var name = w.querySelector('.productinfo p').textContent.toLowerCase();
+            if (name.indexOf(q.toLowerCase()) < 0) w.parentNode.style.display = 'none';
+        });
+    }
+
+    function slide(control) {
+        var carousel = document.querySelector(control.getAttribute('href')) || control.closest('.carousel');
+        if (!carousel) return;
+        var items = carousel.querySelectorAll('.carousel-inner > .item');
+        var current = 0;
+        items.forEach(function (it, i) { if (it.classList.contains('active')) current = i; });
+        var step = control.getAttribute('data-slide') === 'prev' ? -1 : 1;
+        var next = (current + step + items.length) % items.length;
+        items[current].classList.remove('active');
+        items[next].classList.add('active');
+    }
+
+    document.addEventListener('click', function (e) {
+        var t = e.target;
+        var add = t.closest('.add-to-cart');
+        if (add) {
+            e.preventDefault();
+            var id = add.getAttribute('data-product-id');
+            var qtyInput = document.getElementById('quantity');
+            var qty = qtyInput && add.closest('.product-information') ? Math.max(1, parseInt(qtyInput.value, 10) || 1) : 1;
+            var c = cart();
+            c[id] = (c[id] || 0) + qty;
+            saveCart(c);
+            show(document.getElementById('cartModal'));
+            return;
+        }
+        if (t.closest('#cartModal .close-modal, #cartModal [data-dismiss="modal"]')) {
+            hide(document.getElementById('cartModal'));
+            return;
+        }
+        var del = t.closest('.cart_quantity_delete');
+        if (del) {
+            e.preventDefault();
+            var c2 = cart();
+            delete c2[del.getAttribute('data-product-id')];
+            saveCart(c2);
+            renderCart();
+            return;
+        }
+        var toggle = t.closest('[data-toggle="collapse"]');
+        if (toggle) {
+            e.preventDefault();
+            var target = document.querySelector(toggle.getAttribute('href'));
+            if (target) target.classList.toggle('in');
+            return;
+        }
+        var control = t.closest('.carousel-control');
+        if (control) {
+            e.preventDefault();
+            slide(control);
+            return;
+        }
+        if (t.closest('#scrollUp')) {
+            e.preventDefault();
+            window.scrollTo(0, 0);
+            return;
+        }
+        if (t.closest('#submit_search')) {
+            var q = document.getElementById('search_product').value;
+            location.href = '/products?search=' + encodeURIComponent(q);
+        }
+    });
+
+    document.addEventListener('submit', function (e) {
+        var form = e.target;
+        if (form.classList.contains('searchform')) {
+            e.preventDefault();
+            show(document.getElementById('success-subscribe'));
+            return;
+        }
+        if (form.id === 'contact-us-form' && !window.confirm('Press OK to proceed!')) {
+            e.preventDefault();
+        }
+    });
+
+    renderCart();
+    renderProductDetails();
+    filterProducts();
+})();